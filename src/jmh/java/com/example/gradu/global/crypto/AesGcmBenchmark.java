@@ -0,0 +1,86 @@
+package com.example.gradu.global.crypto;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Student 로드/저장마다 도는 이메일 컬럼 암복호화 비용.
+ *
+ * legacy* = 예전 AesGcmUtil (호출마다 Cipher.getInstance + 배열 복사), engine* = AesGcmEngine.
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AesGcmBenchmark {
+
+    private static final String EMAIL = "student1234@handong.ac.kr";
+
+    private final SecureRandom random = new SecureRandom();
+    private SecretKeySpec key;
+    private AesGcmEngine engine;
+    private String legacyCipherText;
+    private String engineCipherText;
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] raw = new byte[32];
+        random.nextBytes(raw);
+        key = new SecretKeySpec(raw, "AES");
+        engine = new AesGcmEngine(Map.of(1, raw), 1, 1);
+        legacyCipherText = legacyEncrypt();
+        engineCipherText = engine.encrypt(EMAIL);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws Exception {
+        byte[] iv = new byte[12];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+        byte[] enc = cipher.doFinal(EMAIL.getBytes(StandardCharsets.UTF_8));
+        byte[] res = new byte[iv.length + enc.length];
+        System.arraycopy(iv, 0, res, 0, iv.length);
+        System.arraycopy(enc, 0, res, iv.length, enc.length);
+        return Base64.getEncoder().encodeToString(res);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        byte[] all = Base64.getDecoder().decode(legacyCipherText);
+        byte[] iv = new byte[12];
+        byte[] enc = new byte[all.length - 12];
+        System.arraycopy(all, 0, iv, 0, 12);
+        System.arraycopy(all, 12, enc, 0, enc.length);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(128, iv));
+        return new String(cipher.doFinal(enc), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String engineEncrypt() {
+        return engine.encrypt(EMAIL);
+    }
+
+    @Benchmark
+    public String engineDecrypt() {
+        return engine.decrypt(engineCipherText);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String engineDecryptContended() {
+        return engine.decrypt(engineCipherText);
+    }
+}
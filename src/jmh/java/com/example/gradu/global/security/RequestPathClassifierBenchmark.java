@@ -0,0 +1,65 @@
+package com.example.gradu.global.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.example.gradu.global.security.SecurityConfig.*;
+
+/**
+ * JWT 필터의 공개 경로 판별 비용 비교 (기존 AntPathMatcher 순회 vs RequestPathClassifier).
+ *
+ * URL 구성은 실제 트래픽 비율을 흉내냄: 대부분 인증 API, 일부 로그인/재발급, 드물게 스웨거.
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestPathClassifierBenchmark {
+
+    private static final String[] URL_MIX = {
+            "/api/v1/students/20231234/courses",
+            "/api/v1/students/20231234/courses",
+            "/api/v1/students/20231234/summary",
+            "/api/v1/students/20231234/summary",
+            "/api/v1/students/20231234/curriculum",
+            "/api/v1/students/20231234/courses/512",
+            "/api/v1/catalog/courses/autocomplete",
+            "/api/v1/rankings/courses",
+            "/api/v1/rankings/courses/slice",
+            "/api/v1/ai/course-capture/jobs/0b6f4a0e",
+            "/api/v1/auth/reissue",
+            "/api/v1/auth/login",
+            "/api/v1/auth/logout",
+            "/v3/api-docs/swagger-config",
+            "/swagger-ui/index.html",
+            "/api/v1/students/20231234/courses/toggles",
+    };
+
+    private static final AntPathMatcher ANT = new AntPathMatcher();
+
+    private int i;
+
+    private String next() {
+        i = (i + 1) & (URL_MIX.length - 1);
+        return URL_MIX[i];
+    }
+
+    @Benchmark
+    public void antPathMatcherStream(Blackhole bh) {
+        String uri = next();
+        bh.consume(Stream.concat(PUBLIC_WHITELIST.stream(), SWAGGER_WHITELIST.stream())
+                .anyMatch(pattern -> ANT.match(pattern, uri)));
+    }
+
+    @Benchmark
+    public void precompiledClassifier(Blackhole bh) {
+        bh.consume(PUBLIC_PATHS.matches(next()));
+    }
+}
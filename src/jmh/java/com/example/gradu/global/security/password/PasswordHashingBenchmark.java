@@ -0,0 +1,39 @@
+package com.example.gradu.global.security.password;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 1건 = 비밀번호 검증 1회. 스레드 1개의 처리량이 곧 "코어당 초당 로그인 수".
+ *
+ * cost 별로 비교해서 app.password.target-hash-time 을 정할 때 참고한다.
+ * 실행: ./gradlew jmh  (여러 코어를 함께 보려면 @Threads 조정)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    @Param({"10", "11", "12"})
+    int strength;
+
+    private PasswordEncoder encoder;
+    private String stored;
+
+    @Setup
+    public void setUp() {
+        encoder = PasswordHashingService.delegatingEncoder(strength);
+        stored = encoder.encode("correct horse battery staple");
+    }
+
+    @Benchmark
+    public boolean loginsPerSecondPerCore() {
+        return encoder.matches("correct horse battery staple", stored);
+    }
+}
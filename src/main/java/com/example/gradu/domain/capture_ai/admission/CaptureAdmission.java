@@ -0,0 +1,123 @@
+package com.example.gradu.domain.capture_ai.admission;
+
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ratelimit.RateLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 캡처 입장 제어 (AiCaptureService 앞단).
+ *
+ * 1) 학생별 토큰 버킷 (CaptureRateLimiter) → 초과 시 429 + Retry-After
+ * 2) 서버 전체 동시 실행 maxConcurrent, 자리가 없으면 최대 maxQueue 명까지 maxWaitMs 동안 대기
+ *    → 대기열이 꽉 찼거나 기다려도 자리가 안 나면 바로 503 + Retry-After
+ *
+ * 지표: capture.admission.queue / capture.admission.in_flight (게이지),
+ *       capture.admission.wait (타이머), capture.admission.rejected{reason}
+ */
+@Component
+public class CaptureAdmission {
+
+    private final CaptureRateLimiter rateLimiter;
+    private final Semaphore slots;
+    private final int maxQueue;
+    private final long maxWaitMs;
+    private final long busyRetryAfterSeconds;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter rejectedRate;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedWaitTimeout;
+
+    public CaptureAdmission(
+            CaptureRateLimiter rateLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${app.capture.admission.max-concurrent:8}") int maxConcurrent,
+            @Value("${app.capture.admission.max-queue:16}") int maxQueue,
+            @Value("${app.capture.admission.max-wait-ms:3000}") long maxWaitMs,
+            @Value("${app.capture.admission.busy-retry-after-seconds:5}") long busyRetryAfterSeconds
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.slots = new Semaphore(maxConcurrent, true);
+        this.maxQueue = maxQueue;
+        this.maxWaitMs = maxWaitMs;
+        this.busyRetryAfterSeconds = busyRetryAfterSeconds;
+
+        Gauge.builder("capture.admission.queue", waiting, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("capture.admission.in_flight", slots, s -> maxConcurrent - s.availablePermits())
+                .register(meterRegistry);
+        this.waitTimer = meterRegistry.timer("capture.admission.wait");
+        this.rejectedRate = meterRegistry.counter("capture.admission.rejected", "reason", "rate_limited");
+        this.rejectedQueueFull = meterRegistry.counter("capture.admission.rejected", "reason", "queue_full");
+        this.rejectedWaitTimeout = meterRegistry.counter("capture.admission.rejected", "reason", "wait_timeout");
+    }
+
+    /** 학생별 요청 빈도만 확인 (비동기 작업처럼 실행 자리는 따로 관리하는 경우) */
+    public void checkRate(String studentId) {
+        long retryAfterMs = rateLimiter.tryConsume(studentId);
+        if (retryAfterMs > 0) {
+            rejectedRate.increment();
+            throw new RateLimitException(ErrorCode.RATE_LIMITED, (retryAfterMs + 999) / 1000);
+        }
+    }
+
+    /** 빈도 확인 + 실행 자리 확보. 끝나면 반드시 close (try-with-resources) */
+    public Permit enter(String studentId) {
+        checkRate(studentId);
+
+        if (slots.tryAcquire()) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return new Permit(slots);
+        }
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            rejectedQueueFull.increment();
+            throw new RateLimitException(ErrorCode.AI_CAPTURE_BUSY, busyRetryAfterSeconds);
+        }
+
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = slots.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            rejectedWaitTimeout.increment();
+            throw new RateLimitException(ErrorCode.AI_CAPTURE_BUSY, busyRetryAfterSeconds);
+        }
+        return new Permit(slots);
+    }
+
+    int available() {
+        return slots.availablePermits();
+    }
+
+    /** 실행 자리. close 는 여러 번 불려도 한 번만 반납 */
+    public static final class Permit implements AutoCloseable {
+        private final Semaphore slots;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore slots) {
+            this.slots = slots;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) slots.release();
+        }
+    }
+}
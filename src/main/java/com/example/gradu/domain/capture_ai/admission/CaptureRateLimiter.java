@@ -0,0 +1,80 @@
+package com.example.gradu.domain.capture_ai.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 학생별 토큰 버킷 (Redis 해시 + Lua 로 원자적으로 충전/차감).
+ *
+ * - capacity 만큼 몰아서 쓸 수 있고, 분당 refillPerMinute 개씩 다시 찬다
+ * - 시각은 Redis TIME 을 써서 서버마다 시계가 달라도 같은 버킷을 같게 계산한다
+ * - Redis 장애 시에는 통과시킨다 (전체 동시 실행 제한은 CaptureAdmission 이 따로 건다)
+ */
+@Slf4j
+@Component
+public class CaptureRateLimiter {
+
+    static final String KEY_PREFIX = "ratelimit:capture:";
+
+    // KEYS = [bucket], ARGV = [capacity, refillPerMs, cost, ttlSeconds] → {허용(1/0), 대기 ms}
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local cost = tonumber(ARGV[3])
+
+            local b = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(b[1]) or capacity
+            local ts = tonumber(b[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+
+            local allowed = 0
+            local wait = 0
+            if tokens >= cost then
+              tokens = tokens - cost
+              allowed = 1
+            else
+              wait = math.ceil((cost - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return {allowed, wait}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int capacity;
+    private final double refillPerMs;
+    private final long ttlSeconds;
+
+    public CaptureRateLimiter(
+            StringRedisTemplate redisTemplate,
+            @Value("${app.capture.rate-limit.capacity:5}") int capacity,
+            @Value("${app.capture.rate-limit.refill-per-minute:5}") int refillPerMinute
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = capacity;
+        this.refillPerMs = refillPerMinute / 60_000.0;
+        // 가득 찰 때까지 걸리는 시간이 지나면 버킷은 기본값과 같으므로 지워도 된다
+        this.ttlSeconds = Math.max(60, (long) Math.ceil(capacity / refillPerMs / 1000));
+    }
+
+    /** @return 0 이면 허용, 아니면 다시 시도할 수 있을 때까지 ms */
+    public long tryConsume(String studentId) {
+        try {
+            List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(KEY_PREFIX + studentId),
+                    String.valueOf(capacity), String.valueOf(refillPerMs), "1", String.valueOf(ttlSeconds));
+            if (result == null || result.size() < 2) return 0;
+            return ((Number) result.get(0)).longValue() == 1 ? 0 : Math.max(1, ((Number) result.get(1)).longValue());
+        } catch (RuntimeException e) {
+            log.warn("캡처 요청 제한 확인 실패 (통과 처리): {}", e.getMessage());
+            return 0;
+        }
+    }
+}
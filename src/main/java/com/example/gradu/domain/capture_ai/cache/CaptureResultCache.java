@@ -0,0 +1,107 @@
+package com.example.gradu.domain.capture_ai.cache;
+
+import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.global.crypto.Sha256;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 캡처 분석 결과 캐시 (이미지 바이트의 SHA-256 기준, Redis + TTL).
+ *
+ * 키는 "이미지 묶음"의 해시다. 묶음 = 업로드 순서 그대로의 이미지 해시 목록이라
+ * 같은 이미지를 다른 순서로 올리면 다른 묶음이다 (결과 행 순서가 업로드 순서를 따르도록).
+ * 이미지 1장짜리 묶음이 곧 이미지별 캐시가 된다.
+ * 모델은 여러 장을 한 번에 받아 결과를 이미지별로 나눠 주지 않으므로, 결과는 "함께 보낸 묶음" 단위로만 저장한다.
+ *
+ * 지표: capture.cache.requests{result=hit|partial|miss}, capture.cache.images{result=hit|miss}
+ * → 이미지 적중률 = images{hit} / (images{hit} + images{miss})
+ */
+@Slf4j
+@Component
+public class CaptureResultCache {
+
+    private static final String KEY_PREFIX = "capture:result:";
+    private static final TypeReference<List<CourseBulkRequest>> COURSES = new TypeReference<>() {};
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final Counter requestHit;
+    private final Counter requestPartial;
+    private final Counter requestMiss;
+    private final Counter imageHit;
+    private final Counter imageMiss;
+
+    public CaptureResultCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.capture.cache.ttl-hours:24}") long ttlHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+
+        this.requestHit = meterRegistry.counter("capture.cache.requests", "result", "hit");
+        this.requestPartial = meterRegistry.counter("capture.cache.requests", "result", "partial");
+        this.requestMiss = meterRegistry.counter("capture.cache.requests", "result", "miss");
+        this.imageHit = meterRegistry.counter("capture.cache.images", "result", "hit");
+        this.imageMiss = meterRegistry.counter("capture.cache.images", "result", "miss");
+    }
+
+    public static String imageHash(byte[] bytes) {
+        return Sha256.hashBytes(bytes);
+    }
+
+    // 구분자를 예전(정렬 + ',')과 다르게 해서, 정렬 순서로 저장된 예전 결과가 다른 순서로 읽히지 않게 한다
+    public static String setKey(Collection<String> imageHashes) {
+        List<String> ordered = List.copyOf(imageHashes);
+        return ordered.size() == 1 ? ordered.get(0) : Sha256.hash(String.join("|", ordered));
+    }
+
+    /** @return setKey → 결과 (없는 키는 빠짐, Redis 장애면 전부 miss 로 취급) */
+    public Map<String, List<CourseBulkRequest>> getAll(List<String> setKeys) {
+        if (setKeys.isEmpty()) return Map.of();
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(setKeys.stream().map(k -> KEY_PREFIX + k).toList());
+            if (values == null) return Map.of();
+
+            Map<String, List<CourseBulkRequest>> out = new HashMap<>();
+            for (int i = 0; i < setKeys.size(); i++) {
+                String json = values.get(i);
+                if (json != null) out.put(setKeys.get(i), objectMapper.readValue(json, COURSES));
+            }
+            return out;
+        } catch (Exception e) {
+            log.warn("캡처 결과 캐시 조회 실패: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    public void put(String setKey, List<CourseBulkRequest> courses) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + setKey, objectMapper.writeValueAsString(courses), ttl);
+        } catch (Exception e) {
+            log.warn("캡처 결과 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public void record(int hitImages, int missImages) {
+        imageHit.increment(hitImages);
+        imageMiss.increment(missImages);
+        if (missImages == 0) requestHit.increment();
+        else if (hitImages == 0) requestMiss.increment();
+        else requestPartial.increment();
+    }
+}
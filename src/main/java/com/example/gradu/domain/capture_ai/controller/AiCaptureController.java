@@ -1,13 +1,25 @@
 package com.example.gradu.domain.capture_ai.controller;
 
+import com.example.gradu.domain.capture_ai.admission.CaptureAdmission;
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
+import com.example.gradu.domain.capture_ai.dto.CaptureJobDto;
+import com.example.gradu.domain.capture_ai.dto.CaptureResultDto;
 import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
 import com.example.gradu.domain.capture_ai.service.AiCaptureService;
+import com.example.gradu.domain.capture_ai.service.CaptureFanOutService;
+import com.example.gradu.domain.capture_ai.service.CaptureJobService;
+import com.example.gradu.domain.capture_ai.service.CaptureStreamService;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.auth.AuthException;
+import com.example.gradu.global.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -16,12 +28,71 @@ import java.util.List;
 public class AiCaptureController {
 
     private final AiCaptureService aiCaptureService;
+    private final CaptureJobService captureJobService;
+    private final CaptureFanOutService captureFanOutService;
+    private final CaptureStreamService captureStreamService;
+    private final CaptureAdmission captureAdmission;
 
     @PostMapping(value = "/course-capture", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<List<CourseBulkRequest>> captureCoursesByImage(
             @RequestPart("images") List<MultipartFile> images
     ) {
-        List<CourseBulkRequest> courses = aiCaptureService.analyzeCapture(images);
-        return ResponseEntity.ok(courses);
+        try (var permit = captureAdmission.enter(currentStudentId())) {
+            List<CourseBulkRequest> courses = aiCaptureService.analyzeCapture(images);
+            return ResponseEntity.ok(courses);
+        }
+    }
+
+    // ✅ 이미지별 병렬 분석: 응답 시간이 "장수의 합"이 아니라 "가장 느린 한 장" 수준, 실패는 이미지별로 내려줌
+    @PostMapping(value = "/course-capture/fan-out", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CaptureResultDto> captureCoursesFanOut(
+            @RequestPart("images") List<MultipartFile> images
+    ) {
+        List<CaptureImage> captured = images.stream().map(CaptureImage::from).toList();
+        try (var permit = captureAdmission.enter(currentStudentId())) {
+            return ResponseEntity.ok(captureFanOutService.analyze(captured));
+        }
+    }
+
+    // ✅ 스트리밍: 모델이 행을 완성할 때마다 course 이벤트로 바로 보냄 (미리보기 표를 점진적으로 채움)
+    @PostMapping(value = "/course-capture/stream",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCaptureCourses(
+            @RequestPart("images") List<MultipartFile> images
+    ) {
+        List<CaptureImage> captured = images.stream().map(CaptureImage::from).toList();
+        // 자리는 스트림이 끝날 때 CaptureStreamService 가 반납
+        return captureStreamService.stream(captured, captureAdmission.enter(currentStudentId()));
+    }
+
+    // ✅ 비동기: 작업만 등록하고 바로 202 (요청 스레드를 모델 응답 시간 동안 잡아두지 않음)
+    @PostMapping(value = "/course-capture/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CaptureJobDto> submitCaptureJob(
+            @RequestPart("images") List<MultipartFile> images
+    ) {
+        String studentId = currentStudentId();
+        captureAdmission.checkRate(studentId); // 실행 자리는 작업 풀이 따로 관리
+        List<CaptureImage> captured = images.stream().map(CaptureImage::from).toList();
+        CaptureJobDto job = captureJobService.submit(studentId, captured);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/ai/course-capture/jobs/" + job.jobId()))
+                .body(job);
+    }
+
+    @GetMapping("/course-capture/jobs/{jobId}")
+    public ResponseEntity<CaptureJobDto> getCaptureJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(captureJobService.get(currentStudentId(), jobId));
+    }
+
+    @GetMapping(value = "/course-capture/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeCaptureJob(@PathVariable String jobId) {
+        return captureJobService.subscribe(currentStudentId(), jobId);
+    }
+
+    private static String currentStudentId() {
+        String id = SecurityUtil.getCurrentStudentId();
+        if (id == null) throw new AuthException(ErrorCode.AUTH_UNAUTHENTICATED);
+        return id;
     }
 }
@@ -0,0 +1,4 @@
+package com.example.gradu.domain.capture_ai.dto;
+
+/** 분석에 실패한 이미지 (imageIndex 는 업로드 순서, 0부터) */
+public record CaptureFailureDto(int imageIndex, String filename, String errorCode, String message) {}
@@ -0,0 +1,28 @@
+package com.example.gradu.domain.capture_ai.dto;
+
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ai.AIException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 업로드 이미지를 요청 스코프 밖에서도 쓸 수 있게 메모리로 옮겨 둔 것.
+ * (MultipartFile 임시 파일은 요청이 끝나면 지워지므로 비동기 작업에는 그대로 넘길 수 없다)
+ */
+public record CaptureImage(byte[] bytes, String contentType, String filename) {
+
+    public static CaptureImage from(MultipartFile file) {
+        try {
+            return new CaptureImage(file.getBytes(), file.getContentType(), file.getOriginalFilename());
+        } catch (IOException e) {
+            throw new AIException(ErrorCode.AI_IMAGE_CONVERSION_FAILED);
+        }
+    }
+
+    public InputStream openStream() {
+        return new ByteArrayInputStream(bytes);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.gradu.domain.capture_ai.dto;
+
+import com.example.gradu.domain.capture_ai.job.CaptureJob;
+import com.example.gradu.domain.capture_ai.job.CaptureJobStatus;
+
+import java.util.List;
+
+public record CaptureJobDto(
+        String jobId,
+        CaptureJobStatus status,
+        List<CourseBulkRequest> courses,
+        String errorCode,
+        String message
+) {
+    public static CaptureJobDto from(CaptureJob job) {
+        return new CaptureJobDto(job.jobId(), job.status(), job.courses(), job.errorCode(), job.message());
+    }
+}
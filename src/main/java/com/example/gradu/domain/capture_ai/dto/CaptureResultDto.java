@@ -0,0 +1,5 @@
+package com.example.gradu.domain.capture_ai.dto;
+
+import java.util.List;
+
+public record CaptureResultDto(List<CourseBulkRequest> courses, List<CaptureFailureDto> failures) {}
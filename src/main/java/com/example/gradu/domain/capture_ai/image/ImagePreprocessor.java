@@ -0,0 +1,296 @@
+package com.example.gradu.domain.capture_ai.image;
+
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 모델 호출 전 캡처 이미지 축소 (순수 JDK ImageIO).
+ *
+ * 헤더의 가로/세로를 먼저 읽어 maxPixels 를 넘으면 디코딩하지 않고(압축 폭탄 방지),
+ * 큰 이미지는 서브샘플링으로 목표 크기 근처까지만 디코딩한다.
+ * 디코딩 → 여백 자르기(표 영역) → 긴 변 maxDimension 으로 축소 → (선택) 흑백 → JPEG/PNG 중 작은 쪽으로 재인코딩.
+ * 결과가 원본보다 크거나 디코딩이 안 되면 원본을 그대로 쓴다.
+ *
+ * 흑백은 기본 꺼 둔다: 프롬프트가 "파란색 섹션 제목"으로 category 를 정하게 되어 있어서
+ * 색 정보를 지우면 분류가 흔들린다.
+ */
+@Slf4j
+@Component
+public class ImagePreprocessor {
+
+    public record Result(CaptureImage image, int originalBytes, int processedBytes) {
+        public int savedBytes() {
+            return originalBytes - processedBytes;
+        }
+    }
+
+    private static final String JPEG = "image/jpeg";
+    private static final String PNG = "image/png";
+
+    // 배경과 RGB 차이 합이 이 값보다 크면 내용 픽셀
+    private static final int CONTENT_DIFF = 48;
+    private static final int CROP_MARGIN = 12;
+
+    private final boolean enabled;
+    private final int maxDimension;
+    private final float jpegQuality;
+    private final boolean grayscale;
+    private final long maxPixels;
+
+    public ImagePreprocessor(
+            @Value("${app.capture.preprocess.enabled:true}") boolean enabled,
+            @Value("${app.capture.preprocess.max-dimension:1600}") int maxDimension,
+            @Value("${app.capture.preprocess.jpeg-quality:0.85}") float jpegQuality,
+            @Value("${app.capture.preprocess.grayscale:false}") boolean grayscale,
+            @Value("${app.capture.preprocess.max-pixels:40000000}") long maxPixels
+    ) {
+        this.enabled = enabled;
+        this.maxDimension = maxDimension;
+        this.jpegQuality = jpegQuality;
+        this.grayscale = grayscale;
+        this.maxPixels = maxPixels;
+    }
+
+    public Result process(CaptureImage image) {
+        int original = image.bytes().length;
+        if (!enabled) return new Result(image, original, original);
+
+        try {
+            BufferedImage decoded = decode(image);
+            if (decoded == null) return new Result(image, original, original); // 지원하지 않는 형식 / 너무 큼
+
+            BufferedImage out = toOutputType(downscale(cropToContent(toRgb(decoded))));
+
+            // 사진 같은 화면은 JPEG, 단색 UI 위주 화면은 PNG 가 더 작다
+            byte[] jpeg = encodeJpeg(out);
+            byte[] png = encodePng(out);
+            boolean useJpeg = jpeg.length <= png.length;
+            byte[] encoded = useJpeg ? jpeg : png;
+            if (encoded.length >= original) return new Result(image, original, original);
+
+            log.debug("이미지 전처리 {}: {}x{} {}B → {}x{} {}B",
+                    image.filename(), decoded.getWidth(), decoded.getHeight(), original,
+                    out.getWidth(), out.getHeight(), encoded.length);
+            return new Result(new CaptureImage(encoded, useJpeg ? JPEG : PNG, image.filename()), original, encoded.length);
+        } catch (IOException | RuntimeException e) {
+            // 전처리는 최적화일 뿐이므로 실패해도 원본으로 진행
+            log.warn("이미지 전처리 실패, 원본 사용 ({}): {}", image.filename(), e.getMessage());
+            return new Result(image, original, original);
+        }
+    }
+
+    /**
+     * ✅ 헤더만 읽어 크기를 확인한 뒤 디코딩한다.
+     * ImageIO.read 는 선언된 크기만큼(가로×세로×4 바이트) 바로 할당하므로, 작은 파일이 거대한 크기를 선언하면 OOM 이 난다.
+     * 긴 변이 maxDimension 의 n 배 이상이면 n 픽셀마다 하나씩만 디코딩한다 (어차피 downscale 에서 줄일 부분).
+     */
+    private BufferedImage decode(CaptureImage image) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(image.bytes()))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int w = reader.getWidth(0);
+                int h = reader.getHeight(0);
+                if (w <= 0 || h <= 0 || (long) w * h > maxPixels) {
+                    log.warn("이미지가 너무 커서 전처리 생략 ({}): {}x{}", image.filename(), w, h);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(w, h) / maxDimension);
+                if (step > 1) param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * ✅ 테두리에서 가장 흔한 색을 배경으로 보고, 배경이 아닌 픽셀이 있는 행/열의 범위로 자른다.
+     * img 는 toRgb() 결과(TYPE_INT_RGB, 오프셋 0)여야 픽셀 배열을 바로 읽을 수 있다.
+     */
+    static BufferedImage cropToContent(BufferedImage img) {
+        int w = img.getWidth();
+        int h = img.getHeight();
+        int[] px = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+        int bg = borderMode(px, w, h);
+
+        int[] colHits = new int[w];
+        int top = -1;
+        int bottom = -1;
+        int rowMin = Math.max(2, w / 200);
+
+        for (int y = 0; y < h; y++) {
+            int base = y * w;
+            int hits = 0;
+            for (int x = 0; x < w; x++) {
+                if (isContent(px[base + x], bg)) {
+                    hits++;
+                    colHits[x]++;
+                }
+            }
+            if (hits >= rowMin) {
+                if (top < 0) top = y;
+                bottom = y;
+            }
+        }
+        if (top < 0) return img;
+
+        int colMin = Math.max(2, (bottom - top + 1) / 200);
+        int left = 0;
+        while (left < w && colHits[left] < colMin) left++;
+        int right = w - 1;
+        while (right > left && colHits[right] < colMin) right--;
+
+        int x0 = Math.max(0, left - CROP_MARGIN);
+        int y0 = Math.max(0, top - CROP_MARGIN);
+        int x1 = Math.min(w - 1, right + CROP_MARGIN);
+        int y1 = Math.min(h - 1, bottom + CROP_MARGIN);
+        long area = (long) (x1 - x0 + 1) * (y1 - y0 + 1);
+
+        // 거의 안 줄거나 너무 작게 잘리면(오검출) 그대로 둔다
+        if (area >= (long) w * h * 95 / 100 || area < (long) w * h / 10) return img;
+        return img.getSubimage(x0, y0, x1 - x0 + 1, y1 - y0 + 1);
+    }
+
+    // 디코더마다 픽셀 형식(BGR, 팔레트, 알파 등)이 달라 한 번 RGB 로 맞춘다
+    static BufferedImage toRgb(BufferedImage img) {
+        if (img.getType() == BufferedImage.TYPE_INT_RGB) return img;
+        BufferedImage dst = new BufferedImage(img.getWidth(), img.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, img.getWidth(), img.getHeight());
+            g.drawImage(img, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+
+    private BufferedImage downscale(BufferedImage img) {
+        int w = img.getWidth();
+        int h = img.getHeight();
+        int longest = Math.max(w, h);
+        if (longest <= maxDimension) return img;
+
+        double scale = (double) maxDimension / longest;
+        int targetW = Math.max(1, (int) Math.round(w * scale));
+        int targetH = Math.max(1, (int) Math.round(h * scale));
+
+        // 한 번에 크게 줄이면 글자 획이 깨지므로 절반씩 줄이다가 마지막에 맞춘다
+        BufferedImage current = img;
+        while (current.getWidth() / 2 >= targetW && current.getHeight() / 2 >= targetH) {
+            current = resize(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return resize(current, targetW, targetH);
+    }
+
+    private static BufferedImage resize(BufferedImage src, int w, int h) {
+        BufferedImage dst = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, w, h);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+
+    private BufferedImage toOutputType(BufferedImage img) {
+        if (!grayscale) return img;
+
+        BufferedImage dst = new BufferedImage(img.getWidth(), img.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.drawImage(img, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+
+    private byte[] encodeJpeg(BufferedImage img) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        var bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(img, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodePng(BufferedImage img) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", bytes);
+        return bytes.toByteArray();
+    }
+
+    private static int borderMode(int[] px, int w, int h) {
+        int[] counts = new int[4096]; // 채널당 상위 4비트
+        int best = 0;
+        int stepX = Math.max(1, w / 256);
+        int stepY = Math.max(1, h / 256);
+
+        for (int x = 0; x < w; x += stepX) {
+            best = vote(counts, px[x], best);
+            best = vote(counts, px[(h - 1) * w + x], best);
+        }
+        for (int y = 0; y < h; y += stepY) {
+            best = vote(counts, px[y * w], best);
+            best = vote(counts, px[y * w + w - 1], best);
+        }
+        // 버킷 중앙값으로 복원
+        int r = ((best >> 8) & 0xF) << 4 | 0x8;
+        int g = ((best >> 4) & 0xF) << 4 | 0x8;
+        int b = (best & 0xF) << 4 | 0x8;
+        return r << 16 | g << 8 | b;
+    }
+
+    private static int vote(int[] counts, int rgb, int best) {
+        int bucket = ((rgb >> 20) & 0xF) << 8 | ((rgb >> 12) & 0xF) << 4 | ((rgb >> 4) & 0xF);
+        counts[bucket]++;
+        return counts[bucket] > counts[best] ? bucket : best;
+    }
+
+    private static boolean isContent(int rgb, int bg) {
+        int dr = Math.abs(((rgb >> 16) & 0xFF) - ((bg >> 16) & 0xFF));
+        int dg = Math.abs(((rgb >> 8) & 0xFF) - ((bg >> 8) & 0xFF));
+        int db = Math.abs((rgb & 0xFF) - (bg & 0xFF));
+        return dr + dg + db > CONTENT_DIFF;
+    }
+}
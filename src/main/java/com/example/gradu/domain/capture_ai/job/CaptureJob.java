@@ -0,0 +1,37 @@
+package com.example.gradu.domain.capture_ai.job;
+
+import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.global.exception.ErrorCode;
+
+import java.util.List;
+
+/**
+ * Redis 에 저장되는 캡처 분석 작업 상태.
+ * ownerId 는 작업을 만든 학생으로, 다른 학생은 조회할 수 없다.
+ */
+public record CaptureJob(
+        String jobId,
+        String ownerId,
+        CaptureJobStatus status,
+        List<CourseBulkRequest> courses,
+        String errorCode,
+        String message,
+        long createdAt
+) {
+
+    public static CaptureJob queued(String jobId, String ownerId, long now) {
+        return new CaptureJob(jobId, ownerId, CaptureJobStatus.QUEUED, null, null, null, now);
+    }
+
+    public CaptureJob running() {
+        return new CaptureJob(jobId, ownerId, CaptureJobStatus.RUNNING, null, null, null, createdAt);
+    }
+
+    public CaptureJob succeeded(List<CourseBulkRequest> result) {
+        return new CaptureJob(jobId, ownerId, CaptureJobStatus.SUCCEEDED, result, null, null, createdAt);
+    }
+
+    public CaptureJob failed(ErrorCode error) {
+        return new CaptureJob(jobId, ownerId, CaptureJobStatus.FAILED, null, error.getCode(), error.getMessage(), createdAt);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.gradu.domain.capture_ai.job;
+
+public enum CaptureJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isDone() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
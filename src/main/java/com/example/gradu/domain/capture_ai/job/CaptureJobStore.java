@@ -0,0 +1,53 @@
+package com.example.gradu.domain.capture_ai.job;
+
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ai.AIException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 캡처 작업 상태/결과 저장소 (Redis, TTL 이 지나면 자동 삭제).
+ */
+@Component
+public class CaptureJobStore {
+
+    private static final String KEY_PREFIX = "capture:job:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public CaptureJobStore(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.capture.job-ttl-minutes:30}") long ttlMinutes
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public void save(CaptureJob job) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + job.jobId(), objectMapper.writeValueAsString(job), ttl);
+        } catch (JsonProcessingException e) {
+            throw new AIException(ErrorCode.AI_RESPONSE_PARSING_FAILED);
+        }
+    }
+
+    public Optional<CaptureJob> find(String jobId) {
+        String json = redisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+        if (json == null) return Optional.empty();
+        try {
+            return Optional.of(objectMapper.readValue(json, CaptureJob.class));
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.gradu.domain.capture_ai.parser;
+
+import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ai.AIException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모델이 조금씩 보내는 텍스트에서 과목 JSON 배열을 점진적으로 뽑아낸다 (스트리밍/일괄 응답 공용).
+ *
+ * feed() 할 때마다 "완성된" 원소만 돌려주므로 전체 응답을 기다리지 않고 한 행씩 내보낼 수 있다.
+ * - 첫 JSON 배열 앞의 텍스트(```json 코드펜스, 설명 문장)와 배열이 닫힌 뒤의 텍스트는 무시
+ * - 원소 경계는 문자 단위로 찾고(괄호 깊이/문자열/이스케이프), 원소마다 공유 reader 로 따로 파싱
+ *   → 한 원소가 깨져도 그 원소만 건너뛴다 (skipped() 로 개수 확인)
+ * - 값은 CourseRowNormalizer 로 정리 (AO → A0, "1학기" → "1", "전공주제" → MAJOR)
+ * 스트림 하나당 인스턴스 하나 (스레드 안전하지 않음).
+ */
+public class CourseArrayStreamParser {
+
+    private static final ObjectReader READER = new ObjectMapper().reader();
+
+    private enum State { SEEK, BETWEEN, ELEMENT, DONE }
+
+    private State state = State.SEEK;
+    private final StringBuilder element = new StringBuilder();
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    private int parsed;
+    private int skipped;
+
+    /** @return 이번 조각으로 완성된 과목들 */
+    public List<CourseBulkRequest> feed(String chunk) {
+        if (state == State.DONE || chunk == null || chunk.isEmpty()) return List.of();
+
+        List<CourseBulkRequest> completed = new ArrayList<>();
+        for (int i = 0; i < chunk.length() && state != State.DONE; i++) {
+            char ch = chunk.charAt(i);
+            switch (state) {
+                case SEEK -> {
+                    if (ch == '[') state = State.BETWEEN;
+                }
+                case BETWEEN -> between(ch);
+                case ELEMENT -> {
+                    element.append(ch);
+                    if (scan(ch)) {
+                        CourseBulkRequest c = parseElement(element.toString());
+                        if (c != null) completed.add(c);
+                        element.setLength(0);
+                        state = State.BETWEEN;
+                    }
+                }
+                default -> { }
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * 스트림이 끝났을 때 호출.
+     * 배열을 못 찾았거나, 원소가 있었는데 하나도 못 살렸을 때만 실패 (잘린 응답이라도 살린 행은 유지).
+     */
+    public void finish() {
+        boolean truncated = state != State.DONE;
+        if (state == State.SEEK || (parsed == 0 && (skipped > 0 || truncated))) {
+            throw new AIException(ErrorCode.AI_RESPONSE_PARSING_FAILED);
+        }
+    }
+
+    public int skipped() {
+        return skipped + (state == State.ELEMENT ? 1 : 0);
+    }
+
+    private void between(char ch) {
+        if (ch == ']') {
+            state = State.DONE;
+        } else if (ch == '{' || ch == '[') {
+            element.append(ch);
+            depth = 1;
+            inString = false;
+            escaped = false;
+            state = State.ELEMENT;
+        } else if (ch == '"' || Character.isLetterOrDigit(ch)) {
+            // 과목 원소는 객체뿐. 스칼라가 바로 나오면 설명 문장 속 '[' 였던 것 → 다음 '[' 를 다시 찾는다
+            if (parsed == 0 && skipped == 0) state = State.SEEK;
+        }
+    }
+
+    /** @return 원소가 방금 닫혔는지 */
+    private boolean scan(char ch) {
+        if (inString) {
+            if (escaped) escaped = false;
+            else if (ch == '\\') escaped = true;
+            else if (ch == '"') inString = false;
+            return false;
+        }
+        if (ch == '"') inString = true;
+        else if (ch == '{' || ch == '[') depth++;
+        else if (ch == '}' || ch == ']') return --depth == 0;
+        return false;
+    }
+
+    private CourseBulkRequest parseElement(String json) {
+        try {
+            CourseBulkRequest c = toCourse(READER.readTree(json));
+            if (c != null) {
+                parsed++;
+                return c;
+            }
+        } catch (IOException | NumberFormatException ignore) {
+            // 깨진 원소는 건너뛴다
+        }
+        skipped++;
+        return null;
+    }
+
+    private static CourseBulkRequest toCourse(JsonNode n) {
+        if (n == null || !n.isObject()) return null;
+
+        Category category = null;
+        String rawCategory = text(n, "category");
+        if (rawCategory != null) {
+            category = CourseRowNormalizer.category(rawCategory);
+            if (category == null) return null;
+        }
+
+        BigDecimal credit = null;
+        Integer designed = null;
+        JsonNode creditNode = n.get("credit");
+        if (creditNode != null && creditNode.isNumber()) {
+            credit = creditNode.decimalValue();
+        } else if (text(n, "credit") != null) {
+            String[] parts = CourseRowNormalizer.credit(text(n, "credit"));
+            if (parts == null) return null;
+            credit = new BigDecimal(parts[0]);
+            if (parts[1] != null) designed = new BigDecimal(parts[1]).intValue();
+        }
+
+        JsonNode designedNode = n.get("designedCredit");
+        if (designedNode != null && designedNode.isNumber()) {
+            designed = designedNode.intValue();
+        } else if (text(n, "designedCredit") != null) {
+            designed = new BigDecimal(text(n, "designedCredit").trim()).intValue();
+        }
+
+        JsonNode yearNode = n.get("academicYear");
+        Short year = yearNode != null && yearNode.isNumber()
+                ? Short.valueOf((short) yearNode.intValue())
+                : CourseRowNormalizer.academicYear(text(n, "academicYear"));
+
+        var c = new CourseBulkRequest();
+        JsonNode name = n.get("name");
+        c.setName(name == null || name.isNull() ? null : name.asText());
+        c.setCredit(credit);
+        c.setDesignedCredit(designed);
+        c.setCategory(category);
+        c.setGrade(CourseRowNormalizer.grade(text(n, "grade")));
+        c.setEnglish(n.path("isEnglish").asBoolean(false));
+        c.setAcademicYear(year);
+        c.setTerm(CourseRowNormalizer.term(text(n, "term")));
+        return c;
+    }
+
+    private static String text(JsonNode n, String field) {
+        JsonNode v = n.get(field);
+        if (v == null || v.isNull() || v.isContainerNode()) return null;
+        String s = v.asText().trim();
+        return s.isEmpty() ? null : s;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.gradu.domain.capture_ai.parser;
+
+import com.example.gradu.domain.curriculum.entity.Category;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 모델 출력값을 로컬에서 정리한다 (미리 만들어 둔 표/패턴만 사용, 행마다 정규식 컴파일 없음).
+ * 프롬프트로 부탁한 정규화가 지켜지지 않아도 다시 모델을 부르지 않고 여기서 바로잡는다.
+ */
+public final class CourseRowNormalizer {
+    private CourseRowNormalizer() {}
+
+    private static final Set<String> GRADES =
+            Set.of("A+", "A0", "B+", "B0", "C+", "C0", "D+", "D0", "F", "P", "PD", "PASS");
+
+    // "3", "3.0", "3(2)" → 학점, 괄호 안은 설계학점
+    private static final Pattern CREDIT = Pattern.compile("^(\\d+(?:\\.\\d+)?)(?:\\((\\d+(?:\\.\\d+)?)\\))?$");
+    private static final Pattern YEAR = Pattern.compile("(\\d{4})");
+
+    private static final Map<String, String> TERMS = Map.ofEntries(
+            Map.entry("1", "1"), Map.entry("1학기", "1"), Map.entry("FIRST", "1"),
+            Map.entry("2", "2"), Map.entry("2학기", "2"), Map.entry("SECOND", "2"),
+            Map.entry("3", "sum"), Map.entry("SUM", "sum"), Map.entry("SUMMER", "sum"),
+            Map.entry("여름", "sum"), Map.entry("여름학기", "sum"), Map.entry("하계", "sum"),
+            Map.entry("4", "win"), Map.entry("WIN", "win"), Map.entry("WINTER", "win"),
+            Map.entry("겨울", "win"), Map.entry("겨울학기", "win"), Map.entry("동계", "win")
+    );
+
+    // 키는 공백 제거 + 대문자
+    private static final Map<String, Category> CATEGORIES = new HashMap<>();
+    static {
+        for (Category c : Category.values()) CATEGORIES.put(c.name(), c);
+        alias(Category.FAITH_WORLDVIEW, "신앙및세계관", "신앙과세계관");
+        alias(Category.PERSONALITY_LEADERSHIP, "인성및리더십", "인성과리더십");
+        alias(Category.PRACTICAL_ENGLISH, "실용영어", "실무영어");
+        alias(Category.GENERAL_EDU, "교양", "전문교양", "교양필수");
+        alias(Category.ICT_INTRO, "ICT융합기초", "ICT기초");
+        alias(Category.FREE_ELECTIVE_BASIC, "자유선택(교양)");
+        alias(Category.FREE_ELECTIVE_MJR, "자유선택(교양또는비교양)");
+        alias(Category.MAJOR, "전공", "전공주제", "전공필수", "전공선택");
+        alias(Category.MAJOR_DESIGNED, "설계", "전공설계");
+    }
+
+    private static void alias(Category category, String... labels) {
+        for (String label : labels) CATEGORIES.put(key(label), category);
+    }
+
+    /** enum 이름/한글 섹션명 → Category, 모르는 값이면 null */
+    public static Category category(String raw) {
+        return raw == null ? null : CATEGORIES.get(key(raw));
+    }
+
+    /** "AO", "a 0", "b" → "A0", "B0" (목록에 없으면 대문자로만 정리) */
+    public static String grade(String raw) {
+        if (raw == null) return null;
+        String g = key(raw);
+        if (g.length() == 2 && g.charAt(1) == 'O' && "ABCD".indexOf(g.charAt(0)) >= 0) g = g.charAt(0) + "0";
+        if (g.length() == 1 && "ABCD".indexOf(g.charAt(0)) >= 0) g = g + "0";
+        return GRADES.contains(g) ? g : (g.isEmpty() ? null : g);
+    }
+
+    /** "1학기", "summer", "여름" → Term 코드("1", "2", "sum", "win"), 모르는 값은 그대로 */
+    public static String term(String raw) {
+        if (raw == null) return null;
+        String t = key(raw);
+        return TERMS.getOrDefault(t, t.isEmpty() ? null : raw.trim());
+    }
+
+    /** @return [학점, 괄호 안 설계학점(없으면 null)], 숫자가 아니면 null */
+    public static String[] credit(String raw) {
+        if (raw == null) return null;
+        Matcher m = CREDIT.matcher(key(raw));
+        return m.matches() ? new String[]{m.group(1), m.group(2)} : null;
+    }
+
+    public static Short academicYear(String raw) {
+        if (raw == null) return null;
+        Matcher m = YEAR.matcher(raw);
+        return m.find() ? Short.valueOf(m.group(1)) : null;
+    }
+
+    /** 공백/숫자/기호를 빼고 남은 글자가 전부 영문이면 영어 과목 (실용영어 영역은 제외) */
+    public static boolean isEnglishName(String name, Category category) {
+        if (name == null || category == Category.PRACTICAL_ENGLISH) return false;
+        boolean letter = false;
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) letter = true;
+            else if (!Character.isWhitespace(ch) && !(ch >= '0' && ch <= '9') && ".,()-+/".indexOf(ch) < 0) return false;
+        }
+        return letter;
+    }
+
+    private static String key(String raw) {
+        StringBuilder sb = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char ch = raw.charAt(i);
+            if (!Character.isWhitespace(ch)) sb.append(ch);
+        }
+        return sb.toString().toUpperCase(Locale.ROOT);
+    }
+}
@@ -1,70 +1,169 @@
 package com.example.gradu.domain.capture_ai.service;
 
+import com.example.gradu.domain.capture_ai.cache.CaptureResultCache;
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
 import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.domain.capture_ai.image.ImagePreprocessor;
+import com.example.gradu.domain.capture_ai.parser.CourseArrayStreamParser;
+import com.example.gradu.domain.capture_ai.parser.CourseRowNormalizer;
 import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex;
 import com.example.gradu.global.client.OpenAiClient;
-import com.example.gradu.global.exception.ErrorCode;
-import com.example.gradu.global.exception.ai.AIException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.util.Arrays;
-import java.util.Base64;
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiCaptureService {
 
     private final OpenAiClient openAiClient;
+    private final MajorRoadmapIndex majorRoadmapIndex;
+    private final ImagePreprocessor imagePreprocessor;
+    private final CaptureResultCache resultCache;
 
     public List<CourseBulkRequest> analyzeCapture(List<MultipartFile> images) {
+        return analyzeImages(images.stream()
+                .map(CaptureImage::from)
+                .toList());
+    }
 
-        List<String> base64Images = images.stream()
-                .map(this::convertToBase64)
-                .toList();
+    /**
+     * 비동기 작업(CaptureJobService)은 요청이 끝난 뒤 실행되므로 미리 읽어 둔 바이트로 호출.
+     * 같은 스크린샷 재업로드가 잦아서 결과를 이미지 해시 기준으로 캐시한다.
+     * - 묶음 전체 적중 또는 이미지별로 모두 적중 → 모델 호출 없음
+     * - 일부 적중 → 없는 이미지만, 업로드 순서상 연달아 있는 것끼리 모아서 호출
+     * 결과는 캐시 상태와 관계없이 항상 업로드 순서로 조립한다 (fullKey 에 저장되는 순서가 흔들리지 않게)
+     */
+    public List<CourseBulkRequest> analyzeImages(List<CaptureImage> images) {
+        // 같은 이미지를 두 번 올린 경우는 한 번만
+        Map<String, CaptureImage> byHash = new LinkedHashMap<>();
+        for (CaptureImage img : images) byHash.putIfAbsent(CaptureResultCache.imageHash(img.bytes()), img);
 
-        String aiResponse = openAiClient.analyzeCourseImages(base64Images);
+        List<String> hashes = List.copyOf(byHash.keySet());
+        String fullKey = CaptureResultCache.setKey(hashes);
 
-        return parseAiResponse(aiResponse);
+        List<String> lookup = new ArrayList<>();
+        lookup.add(fullKey);
+        if (hashes.size() > 1) lookup.addAll(hashes);
+        var cached = resultCache.getAll(lookup);
+
+        if (cached.containsKey(fullKey)) {
+            resultCache.record(hashes.size(), 0);
+            return cached.get(fullKey);
+        }
+
+        int hits = (int) hashes.stream().filter(cached::containsKey).count();
+        resultCache.record(hits, hashes.size() - hits);
+
+        List<CourseBulkRequest> result = new ArrayList<>();
+        List<String> run = new ArrayList<>();
+        for (String hash : hashes) {
+            var hit = cached.get(hash);
+            if (hit == null) {
+                run.add(hash);
+                continue;
+            }
+            result.addAll(analyzeRun(run, byHash));
+            result.addAll(hit);
+        }
+        result.addAll(analyzeRun(run, byHash));
+        if (hashes.size() > 1) resultCache.put(fullKey, result);
+
+        return result;
+    }
+
+    // ✅ 캐시에 없는 연속 구간을 한 번에 분석하고 비운다 (모델은 보낸 순서대로 읽으므로 업로드 순서 유지)
+    private List<CourseBulkRequest> analyzeRun(List<String> run, Map<String, CaptureImage> byHash) {
+        if (run.isEmpty()) return List.of();
+        var fresh = analyzeWithModel(run.stream().map(byHash::get).toList());
+        resultCache.put(CaptureResultCache.setKey(run), fresh);
+        run.clear();
+        return fresh;
     }
 
-    private String convertToBase64(MultipartFile image) {
-        try {
-            return Base64.getEncoder().encodeToString(image.getBytes());
-        } catch (IOException e) {
-            throw new AIException(ErrorCode.AI_IMAGE_CONVERSION_FAILED);
+    /**
+     * 스트리밍: 모델 응답 조각을 점진적으로 파싱해 행이 완성될 때마다 onCourse 로 넘긴다.
+     * 첫 행까지의 시간이 "전체 응답 시간"에서 "첫 조각 도착" 수준으로 줄어든다.
+     * 묶음 전체가 캐시에 있으면 모델 없이 바로 넘긴다.
+     */
+    public List<CourseBulkRequest> streamImages(List<CaptureImage> images, Consumer<CourseBulkRequest> onCourse) {
+        Map<String, CaptureImage> byHash = new LinkedHashMap<>();
+        for (CaptureImage img : images) byHash.putIfAbsent(CaptureResultCache.imageHash(img.bytes()), img);
+        String fullKey = CaptureResultCache.setKey(byHash.keySet());
+
+        var cached = resultCache.getAll(List.of(fullKey)).get(fullKey);
+        if (cached != null) {
+            resultCache.record(byHash.size(), 0);
+            cached.forEach(onCourse);
+            return cached;
         }
+        resultCache.record(0, byHash.size());
+
+        CourseArrayStreamParser parser = new CourseArrayStreamParser();
+        List<CourseBulkRequest> result = new ArrayList<>();
+        openAiClient.streamCourseImages(preprocess(List.copyOf(byHash.values())), delta -> {
+            for (CourseBulkRequest c : parser.feed(delta)) {
+                postProcess(c);
+                result.add(c);
+                onCourse.accept(c);
+            }
+        });
+        finish(parser);
+
+        resultCache.put(fullKey, result);
+        return result;
+    }
+
+    private List<CourseBulkRequest> analyzeWithModel(List<CaptureImage> images) {
+        List<CaptureImage> prepared = preprocess(images);
+
+        String aiResponse = openAiClient.analyzeCourseImages(prepared);
+
+        return parseAiResponse(aiResponse);
+    }
+
+    // ✅ 업로드 크기가 곧 전송 시간/모델 지연/토큰 비용이므로 모델이 읽을 만큼만 남긴다
+    private List<CaptureImage> preprocess(List<CaptureImage> images) {
+        var results = images.stream().map(imagePreprocessor::process).toList();
+
+        long before = results.stream().mapToLong(ImagePreprocessor.Result::originalBytes).sum();
+        long after = results.stream().mapToLong(ImagePreprocessor.Result::processedBytes).sum();
+        log.info("캡처 이미지 전처리: {}장 {}B → {}B ({}B 절감)", results.size(), before, after, before - after);
+
+        return results.stream().map(ImagePreprocessor.Result::image).toList();
     }
 
+    // ✅ 일괄 응답도 스트리밍과 같은 추출기 사용: 코드펜스/설명 문장 무시, 깨진 행만 건너뜀
     private List<CourseBulkRequest> parseAiResponse(String aiResponse) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        try {
-            CourseBulkRequest[] arr = objectMapper.readValue(aiResponse, CourseBulkRequest[].class);
-            List<CourseBulkRequest> list = Arrays.asList(arr);
-
-            for (CourseBulkRequest c : list) {
-                boolean english = isEnglishCourseName(c.getName(), c.getCategory());
-                c.setEnglish(english);
-            }
+        CourseArrayStreamParser parser = new CourseArrayStreamParser();
+        List<CourseBulkRequest> list = parser.feed(aiResponse);
+        finish(parser);
 
-            return list;
-        } catch (JsonProcessingException | IllegalArgumentException ex) {
-            throw new AIException(ErrorCode.AI_RESPONSE_PARSING_FAILED);
-        }
+        list.forEach(this::postProcess);
+        return list;
     }
 
-    private boolean isEnglishCourseName(String name, Category category) {
-        if (name == null) return false;
-        if (category == Category.PRACTICAL_ENGLISH) return false;
+    private static void finish(CourseArrayStreamParser parser) {
+        parser.finish();
+        if (parser.skipped() > 0) log.warn("AI 응답에서 읽을 수 없는 과목 {}건을 건너뜀", parser.skipped());
+    }
 
-        String trimmed = name.replaceAll("[\\s\\d.,()\\-+/]", "");
-        if (trimmed.isEmpty()) return false;
+    private void postProcess(CourseBulkRequest c) {
+        snapToRoadmapName(c);
+        c.setEnglish(CourseRowNormalizer.isEnglishName(c.getName(), c.getCategory()));
+    }
 
-        return trimmed.matches("^[a-zA-Z]+$");
+    // ✅ 전공 과목명은 OCR 오인식/오타를 로드맵 표기로 교정 (정확 매칭이면 그대로 둠)
+    private void snapToRoadmapName(CourseBulkRequest c) {
+        if (c.getCategory() != Category.MAJOR) return;
+        majorRoadmapIndex.findBestMatch(c.getName())
+                .filter(m -> !m.exact())
+                .ifPresent(m -> c.setName(m.matchedName()));
     }
 }
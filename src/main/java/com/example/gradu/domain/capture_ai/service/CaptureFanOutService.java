@@ -0,0 +1,115 @@
+package com.example.gradu.domain.capture_ai.service;
+
+import com.example.gradu.domain.capture_ai.dto.CaptureFailureDto;
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
+import com.example.gradu.domain.capture_ai.dto.CaptureResultDto;
+import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.domain.catalog.util.CourseNames;
+import com.example.gradu.global.exception.BaseException;
+import com.example.gradu.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 장 캡처를 이미지(또는 groupSize 장 묶음)별로 나눠 동시에 분석하고 합친다.
+ *
+ * - 한 번에 모델을 부르는 묶음 수는 Semaphore(maxParallel)로 제한 (서버 전체 공유)
+ * - 한 묶음이 실패해도 나머지 결과는 돌려주고, 실패는 이미지 단위로 알려준다
+ * - 합치는 순서는 항상 업로드 순서 → 같은 입력이면 같은 출력
+ * - (정규화 과목명, 연도, 학기)가 같은 행은 먼저 나온 것 하나만 남긴다 (캡처가 겹치는 경우)
+ */
+@Slf4j
+@Service
+public class CaptureFanOutService {
+
+    private final AiCaptureService aiCaptureService;
+    private final Executor executor;
+    private final Semaphore permits;
+    private final int groupSize;
+
+    @Autowired
+    public CaptureFanOutService(
+            AiCaptureService aiCaptureService,
+            @Value("${app.capture.fan-out.max-parallel:4}") int maxParallel,
+            @Value("${app.capture.fan-out.group-size:1}") int groupSize
+    ) {
+        this(aiCaptureService, Executors.newVirtualThreadPerTaskExecutor(), maxParallel, groupSize);
+    }
+
+    CaptureFanOutService(AiCaptureService aiCaptureService, Executor executor, int maxParallel, int groupSize) {
+        this.aiCaptureService = aiCaptureService;
+        this.executor = executor;
+        this.permits = new Semaphore(maxParallel);
+        this.groupSize = Math.max(1, groupSize);
+    }
+
+    private record Group(List<Integer> indices, List<CourseBulkRequest> courses, BaseException error) {}
+
+    public CaptureResultDto analyze(List<CaptureImage> images) {
+        List<CompletableFuture<Group>> futures = new ArrayList<>();
+        for (int from = 0; from < images.size(); from += groupSize) {
+            List<Integer> indices = IntStream.range(from, Math.min(from + groupSize, images.size())).boxed().toList();
+            futures.add(CompletableFuture.supplyAsync(() -> analyzeGroup(indices, images), executor));
+        }
+
+        // ✅ 끝난 순서가 아니라 업로드 순서대로 합친다
+        Map<String, CourseBulkRequest> merged = new LinkedHashMap<>();
+        List<CaptureFailureDto> failures = new ArrayList<>();
+        int unnamed = 0;
+
+        for (var future : futures) {
+            Group group = future.join();
+            if (group.error() != null) {
+                for (int i : group.indices()) {
+                    ErrorCode code = group.error().getErrorCode();
+                    failures.add(new CaptureFailureDto(i, images.get(i).filename(), code.getCode(), code.getMessage()));
+                }
+                continue;
+            }
+            for (CourseBulkRequest c : group.courses()) {
+                String key = dedupeKey(c);
+                merged.putIfAbsent(key == null ? "#" + unnamed++ : key, c);
+            }
+        }
+        return new CaptureResultDto(List.copyOf(merged.values()), failures);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService es) es.shutdownNow();
+    }
+
+    private Group analyzeGroup(List<Integer> indices, List<CaptureImage> images) {
+        boolean acquired = false;
+        try {
+            permits.acquire();
+            acquired = true;
+            var courses = aiCaptureService.analyzeImages(indices.stream().map(images::get).toList());
+            return new Group(indices, courses, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Group(indices, List.of(), new BaseException(ErrorCode.AI_CAPTURE_FAILED));
+        } catch (BaseException e) {
+            return new Group(indices, List.of(), e);
+        } catch (RuntimeException e) {
+            log.warn("캡처 분석 실패 (images={}): {}", indices, e.getMessage());
+            return new Group(indices, List.of(), new BaseException(ErrorCode.AI_CAPTURE_FAILED));
+        } finally {
+            if (acquired) permits.release();
+        }
+    }
+
+    // 이름이 없으면 합칠 기준이 없으므로 그대로 둔다
+    private static String dedupeKey(CourseBulkRequest c) {
+        String name = CourseNames.normalize(c.getName());
+        if (name.isEmpty()) return null;
+        return name + "|" + c.getAcademicYear() + "|" + c.getTerm();
+    }
+}
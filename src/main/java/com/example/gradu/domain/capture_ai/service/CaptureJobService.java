@@ -0,0 +1,168 @@
+package com.example.gradu.domain.capture_ai.service;
+
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
+import com.example.gradu.domain.capture_ai.dto.CaptureJobDto;
+import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.domain.capture_ai.job.CaptureJob;
+import com.example.gradu.domain.capture_ai.job.CaptureJobStore;
+import com.example.gradu.global.exception.BaseException;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ai.AIException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캡처 분석을 요청 스레드 밖(가상 스레드)에서 실행한다.
+ *
+ * - 동시에 모델을 부르는 작업 수는 Semaphore(maxConcurrent)로 제한
+ * - 대기 + 실행 중인 작업이 maxPending 을 넘으면 즉시 거절 (이미지 바이트가 메모리에 쌓이지 않도록)
+ * - 상태/결과는 CaptureJobStore(Redis, TTL)에 두고, SSE 구독자에게는 상태가 바뀔 때마다 밀어준다
+ */
+@Slf4j
+@Service
+public class CaptureJobService {
+
+    private final AiCaptureService aiCaptureService;
+    private final CaptureJobStore jobStore;
+    private final Executor executor;
+    private final Semaphore permits;
+    private final int maxPending;
+    private final long sseTimeoutMs;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CaptureJobService(
+            AiCaptureService aiCaptureService,
+            CaptureJobStore jobStore,
+            @Value("${app.capture.max-concurrent:4}") int maxConcurrent,
+            @Value("${app.capture.max-pending:32}") int maxPending,
+            @Value("${app.capture.sse-timeout-ms:120000}") long sseTimeoutMs
+    ) {
+        this(aiCaptureService, jobStore, Executors.newVirtualThreadPerTaskExecutor(),
+                maxConcurrent, maxPending, sseTimeoutMs);
+    }
+
+    CaptureJobService(AiCaptureService aiCaptureService, CaptureJobStore jobStore, Executor executor,
+                      int maxConcurrent, int maxPending, long sseTimeoutMs) {
+        this.aiCaptureService = aiCaptureService;
+        this.jobStore = jobStore;
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxPending = maxPending;
+        this.sseTimeoutMs = sseTimeoutMs;
+    }
+
+    public CaptureJobDto submit(String ownerId, List<CaptureImage> images) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            throw new AIException(ErrorCode.AI_CAPTURE_BUSY);
+        }
+
+        var job = CaptureJob.queued(UUID.randomUUID().toString(), ownerId, System.currentTimeMillis());
+        try {
+            jobStore.save(job);
+            executor.execute(() -> run(job, images));
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+        return CaptureJobDto.from(job);
+    }
+
+    public CaptureJobDto get(String ownerId, String jobId) {
+        return CaptureJobDto.from(findOwned(ownerId, jobId));
+    }
+
+    /** 현재 상태를 바로 한 번 보내고, 끝날 때까지 상태 변화를 밀어준다 */
+    public SseEmitter subscribe(String ownerId, String jobId) {
+        findOwned(ownerId, jobId);
+
+        var emitter = new SseEmitter(sseTimeoutMs);
+        subscribers.computeIfAbsent(jobId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> unsubscribe(jobId, emitter));
+        emitter.onTimeout(() -> unsubscribe(jobId, emitter));
+        emitter.onError(e -> unsubscribe(jobId, emitter));
+
+        // ✅ 등록 후에 읽어야 그 사이에 끝난 작업도 놓치지 않는다
+        jobStore.find(jobId).ifPresent(job -> send(emitter, job));
+        return emitter;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService es) es.shutdownNow();
+    }
+
+    private void run(CaptureJob job, List<CaptureImage> images) {
+        boolean acquired = false;
+        try {
+            permits.acquire();
+            acquired = true;
+
+            update(job.running());
+            List<CourseBulkRequest> courses = aiCaptureService.analyzeImages(images);
+            update(job.succeeded(courses));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            update(job.failed(ErrorCode.AI_CAPTURE_FAILED));
+        } catch (BaseException e) {
+            update(job.failed(e.getErrorCode()));
+        } catch (RuntimeException e) {
+            log.warn("캡처 분석 실패 (jobId={}): {}", job.jobId(), e.getMessage());
+            update(job.failed(ErrorCode.AI_CAPTURE_FAILED));
+        } finally {
+            if (acquired) permits.release();
+            pending.decrementAndGet();
+        }
+    }
+
+    private void update(CaptureJob job) {
+        try {
+            jobStore.save(job);
+        } catch (RuntimeException e) {
+            log.warn("캡처 작업 상태 저장 실패 (jobId={}): {}", job.jobId(), e.getMessage());
+        }
+        List<SseEmitter> emitters = subscribers.getOrDefault(job.jobId(), List.of());
+        for (SseEmitter emitter : emitters) send(emitter, job);
+        if (job.status().isDone()) subscribers.remove(job.jobId());
+    }
+
+    private void send(SseEmitter emitter, CaptureJob job) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(job.status().name().toLowerCase())
+                    .data(CaptureJobDto.from(job)));
+            if (job.status().isDone()) emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 emitter
+            unsubscribe(job.jobId(), emitter);
+        }
+    }
+
+    private void unsubscribe(String jobId, SseEmitter emitter) {
+        subscribers.computeIfPresent(jobId, (k, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    // ✅ 남의 작업은 존재 여부도 드러내지 않도록 404 로 통일
+    private CaptureJob findOwned(String ownerId, String jobId) {
+        return jobStore.find(jobId)
+                .filter(job -> job.ownerId().equals(ownerId))
+                .orElseThrow(() -> new AIException(ErrorCode.AI_CAPTURE_JOB_NOT_FOUND));
+    }
+}
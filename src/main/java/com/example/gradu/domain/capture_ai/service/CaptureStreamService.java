@@ -0,0 +1,109 @@
+package com.example.gradu.domain.capture_ai.service;
+
+import com.example.gradu.domain.capture_ai.admission.CaptureAdmission;
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
+import com.example.gradu.global.exception.BaseException;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ErrorResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 캡처 분석 결과를 행 단위로 SSE 로 밀어준다 (미리보기 표가 점점 채워지도록).
+ *
+ * 이벤트: course(행 하나) → ... → done({"count": n})  /  실패 시 error(ErrorResponse)
+ * 클라이언트가 끊으면 send 가 실패하고, 그 예외로 모델 스트림도 함께 끊는다.
+ */
+@Slf4j
+@Service
+public class CaptureStreamService {
+
+    private final AiCaptureService aiCaptureService;
+    private final Executor executor;
+    private final long sseTimeoutMs;
+
+    @Autowired
+    public CaptureStreamService(
+            AiCaptureService aiCaptureService,
+            @Value("${app.capture.sse-timeout-ms:120000}") long sseTimeoutMs
+    ) {
+        this(aiCaptureService, Executors.newVirtualThreadPerTaskExecutor(), sseTimeoutMs);
+    }
+
+    CaptureStreamService(AiCaptureService aiCaptureService, Executor executor, long sseTimeoutMs) {
+        this.aiCaptureService = aiCaptureService;
+        this.executor = executor;
+        this.sseTimeoutMs = sseTimeoutMs;
+    }
+
+    /** permit: 입장 제어 자리 (null 이면 제한 없음), 스트림이 끝나면 반납 */
+    public SseEmitter stream(List<CaptureImage> images, CaptureAdmission.Permit permit) {
+        var emitter = new SseEmitter(sseTimeoutMs);
+        try {
+            executor.execute(() -> {
+                try {
+                    run(emitter, images);
+                } finally {
+                    if (permit != null) permit.close();
+                }
+            });
+        } catch (RuntimeException e) {
+            if (permit != null) permit.close();
+            throw e;
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService es) es.shutdownNow();
+    }
+
+    private void run(SseEmitter emitter, List<CaptureImage> images) {
+        try {
+            var courses = aiCaptureService.streamImages(images, course -> send(emitter, "course", course));
+            send(emitter, "done", Map.of("count", courses.size()));
+            emitter.complete();
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 먼저 끊음
+            emitter.completeWithError(e.getCause());
+        } catch (BaseException e) {
+            sendError(emitter, e.getErrorCode());
+        } catch (RuntimeException e) {
+            log.warn("캡처 스트리밍 실패: {}", e.getMessage());
+            sendError(emitter, ErrorCode.AI_CAPTURE_FAILED);
+        }
+    }
+
+    private static void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sendError(SseEmitter emitter, ErrorCode code) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data(ErrorResponse.builder()
+                    .code(code.getCode())
+                    .message(code.getMessage())
+                    .build()));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
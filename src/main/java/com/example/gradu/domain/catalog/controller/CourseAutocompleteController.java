@@ -0,0 +1,28 @@
+package com.example.gradu.domain.catalog.controller;
+
+import com.example.gradu.domain.catalog.dto.CourseSuggestionDto;
+import com.example.gradu.domain.catalog.service.CourseAutocompleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/catalog/courses")
+@RequiredArgsConstructor
+public class CourseAutocompleteController {
+
+    private final CourseAutocompleteService courseAutocompleteService;
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<CourseSuggestionDto>> autocomplete(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(courseAutocompleteService.suggest(query, limit));
+    }
+}
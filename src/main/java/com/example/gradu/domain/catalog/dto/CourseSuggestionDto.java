@@ -0,0 +1,7 @@
+package com.example.gradu.domain.catalog.dto;
+
+public record CourseSuggestionDto(
+        String name,
+        String nameEn,
+        long popularity
+) {}
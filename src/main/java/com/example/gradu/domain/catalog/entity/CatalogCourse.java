@@ -0,0 +1,49 @@
+package com.example.gradu.domain.catalog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "catalog_course", indexes = {
+        @Index(name = "uk_catalog_course_code", columnList = "course_code", unique = true)
+})
+public class CatalogCourse {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 예: ECE20010 */
+    @Column(name = "course_code", nullable = false, length = 20)
+    private String courseCode;
+
+    @Column(nullable = false, length = 100)
+    private String nameKo;
+
+    @Column(length = 150)
+    private String nameEn;
+
+    /** 같은 과목의 다른 표기 (예: "C 프로그래밍(전산전자)") */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "catalog_course_alias", joinColumns = @JoinColumn(name = "catalog_course_id"))
+    @Column(name = "alias", nullable = false, length = 100)
+    @Builder.Default
+    private Set<String> aliases = new LinkedHashSet<>();
+
+    public Set<String> getAliases() {
+        return Set.copyOf(aliases);
+    }
+
+    /** 새 별칭이 추가되었으면 true */
+    public boolean addAlias(String alias) {
+        if (alias == null || alias.isBlank()) return false;
+        if (alias.equals(nameKo) || alias.equals(nameEn)) return false;
+        return aliases.add(alias);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.gradu.domain.catalog.index;
+
+import com.example.gradu.domain.catalog.entity.CatalogCourse;
+import com.example.gradu.domain.catalog.util.CourseNames;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 과목 표기(한글명/영문명/별칭) → catalog id 메모리 인덱스.
+ * 기동 시 한 번 만들고, 카탈로그가 바뀌면 스냅샷을 통째로 교체한다.
+ */
+@Component
+public class CourseCatalogIndex {
+
+    public record CatalogEntry(Long id, String courseCode, String nameKo, String nameEn) {}
+
+    private record Snapshot(Map<String, Long> idByAlias, Map<Long, CatalogEntry> entryById) {}
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+
+    public void rebuild(Collection<CatalogCourse> courses) {
+        Map<String, Long> idByAlias = new HashMap<>();
+        Map<Long, CatalogEntry> entryById = new HashMap<>();
+
+        for (CatalogCourse c : courses) {
+            entryById.put(c.getId(), new CatalogEntry(c.getId(), c.getCourseCode(), c.getNameKo(), c.getNameEn()));
+            put(idByAlias, c.getNameKo(), c.getId());
+            put(idByAlias, c.getNameEn(), c.getId());
+            put(idByAlias, c.getCourseCode(), c.getId());
+            for (String alias : c.getAliases()) {
+                put(idByAlias, alias, c.getId());
+            }
+        }
+        this.snapshot = new Snapshot(Map.copyOf(idByAlias), Map.copyOf(entryById));
+    }
+
+    public Optional<Long> findIdByName(String courseName) {
+        if (courseName == null) return Optional.empty();
+        return Optional.ofNullable(snapshot.idByAlias().get(CourseNames.normalize(courseName)));
+    }
+
+    public Optional<CatalogEntry> findById(Long id) {
+        if (id == null) return Optional.empty();
+        return Optional.ofNullable(snapshot.entryById().get(id));
+    }
+
+    public int size() {
+        return snapshot.entryById().size();
+    }
+
+    // 먼저 들어온 과목이 우선 (별칭 충돌 시 덮어쓰지 않음)
+    private static void put(Map<String, Long> idByAlias, String name, Long id) {
+        String key = CourseNames.normalize(name);
+        if (key.isEmpty()) return;
+        idByAlias.putIfAbsent(key, id);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.gradu.domain.catalog.index;
+
+import com.example.gradu.domain.catalog.util.CourseNames;
+import com.example.gradu.domain.catalog.util.HangulJamo;
+
+import java.util.*;
+
+/**
+ * 과목명 자동완성용 불변 접두어 인덱스.
+ * 키(공백 제거 + 소문자 + 자모 분해)를 정렬 배열로 두고 이진 탐색으로 범위를 찾는다.
+ * 일치 범위가 SCAN_THRESHOLD 를 넘는 접두어는 빌드 시 상위 결과를 미리 계산해 두므로,
+ * 조회 한 번이 훑는 키 수는 항상 SCAN_THRESHOLD 이하다.
+ */
+public final class CoursePrefixIndex {
+
+    public record Entry(String name, String nameEn, long popularity) {}
+
+    static final int MAX_LIMIT = 20;
+    static final int SCAN_THRESHOLD = 64;
+
+    private static final Comparator<Entry> BY_POPULARITY = Comparator
+            .comparingLong(Entry::popularity).reversed()
+            .thenComparing(Entry::name);
+
+    private final String[] keys;
+    private final int[] entryIdx;
+    private final Entry[] entries;
+    private final Map<String, List<Entry>> hotPrefixTop;
+
+    private CoursePrefixIndex(String[] keys, int[] entryIdx, Entry[] entries, Map<String, List<Entry>> hotPrefixTop) {
+        this.keys = keys;
+        this.entryIdx = entryIdx;
+        this.entries = entries;
+        this.hotPrefixTop = hotPrefixTop;
+    }
+
+    public static CoursePrefixIndex empty() {
+        return build(List.of());
+    }
+
+    public static CoursePrefixIndex build(Collection<Entry> source) {
+        Entry[] entries = source.toArray(Entry[]::new);
+
+        record Key(String key, int idx) {}
+        List<Key> all = new ArrayList<>(entries.length * 2);
+        for (int i = 0; i < entries.length; i++) {
+            Set<String> own = new HashSet<>(2);
+            for (String name : new String[]{entries[i].name(), entries[i].nameEn()}) {
+                String k = key(name);
+                if (!k.isEmpty() && own.add(k)) all.add(new Key(k, i));
+            }
+        }
+        all.sort(Comparator.comparing(Key::key));
+
+        String[] keys = new String[all.size()];
+        int[] entryIdx = new int[all.size()];
+        for (int i = 0; i < all.size(); i++) {
+            keys[i] = all.get(i).key();
+            entryIdx[i] = all.get(i).idx();
+        }
+
+        Map<String, List<Entry>> hotPrefixTop = new HashMap<>();
+        collectHotPrefixes(keys, entryIdx, entries, 0, keys.length, 0, hotPrefixTop);
+        return new CoursePrefixIndex(keys, entryIdx, entries, Map.copyOf(hotPrefixTop));
+    }
+
+    // ✅ 정렬된 [lo, hi) 구간을 depth 번째 문자로 쪼개 내려가며, 넓은 구간의 접두어만 상위 결과를 저장
+    private static void collectHotPrefixes(String[] keys, int[] entryIdx, Entry[] entries,
+                                           int lo, int hi, int depth, Map<String, List<Entry>> out) {
+        if (hi - lo <= SCAN_THRESHOLD) return;
+        if (depth > 0) {
+            out.put(keys[lo].substring(0, depth), topOf(entryIdx, entries, lo, hi, MAX_LIMIT));
+        }
+        int i = lo;
+        while (i < hi && keys[i].length() == depth) i++; // 접두어와 정확히 같은 키는 앞에 모인다
+        while (i < hi) {
+            char c = keys[i].charAt(depth);
+            int j = i + 1;
+            while (j < hi && keys[j].charAt(depth) == c) j++;
+            collectHotPrefixes(keys, entryIdx, entries, i, j, depth + 1, out);
+            i = j;
+        }
+    }
+
+    public List<Entry> search(String query, int limit) {
+        String prefix = key(query);
+        int n = Math.min(Math.max(limit, 0), MAX_LIMIT);
+        if (prefix.isEmpty() || n == 0) return List.of();
+
+        List<Entry> hot = hotPrefixTop.get(prefix);
+        if (hot != null) {
+            return hot.size() <= n ? hot : hot.subList(0, n);
+        }
+
+        int lo = lowerBound(prefix);
+        int hi = lo;
+        while (hi < keys.length && keys[hi].startsWith(prefix)) hi++;
+        return topOf(entryIdx, entries, lo, hi, n);
+    }
+
+    private static List<Entry> topOf(int[] entryIdx, Entry[] entries, int lo, int hi, int n) {
+        // 상위 n개만 유지하는 최소 힙
+        PriorityQueue<Entry> heap = new PriorityQueue<>(n + 1, BY_POPULARITY.reversed());
+        Set<Integer> seen = new HashSet<>();
+        for (int i = lo; i < hi; i++) {
+            if (!seen.add(entryIdx[i])) continue;
+            heap.offer(entries[entryIdx[i]]);
+            if (heap.size() > n) heap.poll();
+        }
+
+        List<Entry> result = new ArrayList<>(heap);
+        result.sort(BY_POPULARITY);
+        return List.copyOf(result);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    static String key(String name) {
+        return HangulJamo.decompose(CourseNames.normalize(name));
+    }
+}
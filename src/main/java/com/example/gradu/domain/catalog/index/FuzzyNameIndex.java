@@ -0,0 +1,203 @@
+package com.example.gradu.domain.catalog.index;
+
+import java.util.*;
+
+/**
+ * 과목명 근사 매칭용 불변 인덱스 (OCR 오인식/오타 대응).
+ * 문자 bigram 역색인으로 후보를 좁히고, 길이 필터 + q-gram 개수 필터를 통과한 후보만
+ * 편집 거리 상한(k)이 있는 Levenshtein 으로 검증한다. 전체 키를 훑지 않는다.
+ */
+public final class FuzzyNameIndex<T> {
+
+    public record Match<T>(T value, String name, int distance, double confidence) {
+        public boolean exact() {
+            return distance == 0;
+        }
+    }
+
+    private static final int MAX_EDITS = 3;
+    private static final char PAD_START = '\u0002';
+    private static final char PAD_END = '\u0003';
+
+    private final String[] keys;
+    private final String[] names;
+    private final List<T> values;
+    private final Map<String, Integer> exact;
+    private final Map<String, int[]> postings;
+    private final double minConfidence;
+
+    private FuzzyNameIndex(String[] keys, String[] names, List<T> values,
+                           Map<String, Integer> exact, Map<String, int[]> postings, double minConfidence) {
+        this.keys = keys;
+        this.names = names;
+        this.values = values;
+        this.exact = exact;
+        this.postings = postings;
+        this.minConfidence = minConfidence;
+    }
+
+    /**
+     * @param nameToValue   표기명 → 값 (같은 키로 정규화되는 표기는 먼저 나온 것이 이긴다)
+     * @param minConfidence 1 - 거리/긴 쪽 길이 가 이 값 미만이면 매칭으로 보지 않는다
+     */
+    public static <T> FuzzyNameIndex<T> build(Map<String, T> nameToValue, double minConfidence) {
+        List<String> keys = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<T> values = new ArrayList<>();
+        Map<String, Integer> exact = new HashMap<>();
+        Map<String, List<Integer>> grams = new HashMap<>();
+
+        nameToValue.forEach((name, value) -> {
+            String k = key(name);
+            if (k.isEmpty() || exact.containsKey(k)) return;
+
+            int id = keys.size();
+            keys.add(k);
+            names.add(name.trim());
+            values.add(value);
+            exact.put(k, id);
+            for (String g : new LinkedHashSet<>(bigrams(k))) {
+                grams.computeIfAbsent(g, x -> new ArrayList<>()).add(id);
+            }
+        });
+
+        Map<String, int[]> postings = new HashMap<>();
+        grams.forEach((g, ids) -> postings.put(g, ids.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new FuzzyNameIndex<>(keys.toArray(String[]::new), names.toArray(String[]::new),
+                List.copyOf(values), Map.copyOf(exact), Map.copyOf(postings), minConfidence);
+    }
+
+    public Optional<Match<T>> find(String query) {
+        String q = key(query);
+        if (q.isEmpty()) return Optional.empty();
+
+        Integer exactId = exact.get(q);
+        if (exactId != null) {
+            return Optional.of(new Match<>(values.get(exactId), names[exactId], 0, 1.0));
+        }
+
+        int k = maxEdits(q.length());
+        if (k == 0) return Optional.empty();
+
+        // ✅ 1) bigram 역색인으로 공유 gram 수 집계 (건드린 후보만 기록)
+        List<String> queryGrams = bigrams(q);
+        Set<String> uniqueGrams = new HashSet<>(queryGrams);
+        int duplicateGrams = queryGrams.size() - uniqueGrams.size();
+
+        int[] shared = new int[keys.length];
+        int[] touched = new int[keys.length];
+        int touchedCount = 0;
+        for (String g : uniqueGrams) {
+            int[] ids = postings.get(g);
+            if (ids == null) continue;
+            for (int id : ids) {
+                if (shared[id]++ == 0) touched[touchedCount++] = id;
+            }
+        }
+
+        // ✅ 2) 길이/개수 필터 → 3) 상한 있는 편집 거리로 검증
+        int bestId = -1;
+        int bestDistance = k + 1;
+        boolean ambiguous = false;
+        for (int t = 0; t < touchedCount; t++) {
+            int id = touched[t];
+            String candidate = keys[id];
+            if (Math.abs(candidate.length() - q.length()) > k) continue;
+
+            // q-gram lemma: 편집 1회는 bigram 을 최대 2개 깨뜨린다
+            int required = Math.max(q.length(), candidate.length()) + 1 - 2 * k - duplicateGrams;
+            if (shared[id] < required) continue;
+
+            int d = boundedDistance(q, candidate, k);
+            if (d > k || confidence(q, candidate, d) < minConfidence) continue;
+            if (!digits(q).equals(digits(candidate))) continue; // "특론2" → "특론1" 같은 번호 과목 오매칭 방지
+
+            if (d < bestDistance) {
+                bestId = id;
+                bestDistance = d;
+                ambiguous = false;
+            } else if (d == bestDistance && !values.get(id).equals(values.get(bestId))) {
+                ambiguous = true;
+            }
+        }
+
+        if (bestId < 0 || ambiguous) return Optional.empty();
+        return Optional.of(new Match<>(values.get(bestId), names[bestId], bestDistance,
+                confidence(q, keys[bestId], bestDistance)));
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private int maxEdits(int length) {
+        return Math.min(MAX_EDITS, (int) Math.floor(length * (1.0 - minConfidence) + 1e-9));
+    }
+
+    private static double confidence(String a, String b, int distance) {
+        return 1.0 - (double) distance / Math.max(a.length(), b.length());
+    }
+
+    /** 소문자 + 글자/숫자만 남김 (공백, 하이픈, 괄호 등 OCR 이 흔들리는 기호 제거) */
+    static String key(String name) {
+        if (name == null) return "";
+        StringBuilder sb = new StringBuilder(name.length());
+        name.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    private static List<String> bigrams(String key) {
+        String padded = PAD_START + key + PAD_END;
+        List<String> grams = new ArrayList<>(padded.length() - 1);
+        for (int i = 0; i + 2 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static String digits(String key) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= '0' && c <= '9') sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /** 대각선 ±k 밴드만 계산하는 Levenshtein. k 를 넘으면 k + 1 반환 */
+    static int boundedDistance(String a, String b, int k) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > k) return k + 1;
+
+        int inf = k + 1;
+        int[] prev = new int[m + 1];
+        int[] cur = new int[m + 1];
+        for (int j = 0; j <= m; j++) prev[j] = Math.min(j, inf);
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - k);
+            int to = Math.min(m, i + k);
+            cur[0] = Math.min(i, inf);
+            if (from > 1) cur[from - 1] = inf;
+
+            int rowMin = cur[0];
+            for (int j = from; j <= to; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int v = Math.min(prev[j - 1] + cost, Math.min(prev[j], cur[j - 1]) + 1);
+                cur[j] = Math.min(v, inf);
+                rowMin = Math.min(rowMin, cur[j]);
+            }
+            if (to < m) cur[to + 1] = inf;
+            if (rowMin > k) return inf;
+
+            int[] tmp = prev;
+            prev = cur;
+            cur = tmp;
+        }
+        return Math.min(prev[m], inf);
+    }
+}
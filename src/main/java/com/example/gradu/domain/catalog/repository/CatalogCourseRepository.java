@@ -0,0 +1,10 @@
+package com.example.gradu.domain.catalog.repository;
+
+import com.example.gradu.domain.catalog.entity.CatalogCourse;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface CatalogCourseRepository extends JpaRepository<CatalogCourse, Long> {
+    Optional<CatalogCourse> findByCourseCode(String courseCode);
+}
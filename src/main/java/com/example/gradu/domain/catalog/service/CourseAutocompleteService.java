@@ -0,0 +1,90 @@
+package com.example.gradu.domain.catalog.service;
+
+import com.example.gradu.domain.catalog.dto.CourseSuggestionDto;
+import com.example.gradu.domain.catalog.index.CoursePrefixIndex;
+import com.example.gradu.domain.catalog.index.CoursePrefixIndex.Entry;
+import com.example.gradu.domain.catalog.util.CourseNames;
+import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex;
+import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex.RoadmapRow;
+import com.example.gradu.domain.ranking.repository.CourseRankingRepository;
+import com.example.gradu.domain.ranking.repository.CourseRankingRepository.CourseCountRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 과목명 자동완성.
+ * 조회는 메모리의 CoursePrefixIndex 만 보고, DB 집계는 주기적 재빌드에서만 수행한다.
+ */
+@Slf4j
+@Service
+public class CourseAutocompleteService {
+
+    private final CourseRankingRepository courseRankingRepository;
+    private final MajorRoadmapIndex majorRoadmapIndex;
+
+    private final long minTakenCount;
+
+    private volatile CoursePrefixIndex index = CoursePrefixIndex.empty();
+
+    public CourseAutocompleteService(CourseRankingRepository courseRankingRepository,
+                                     MajorRoadmapIndex majorRoadmapIndex,
+                                     @Value("${app.autocomplete.min-taken-count:2}") long minTakenCount) {
+        this.courseRankingRepository = courseRankingRepository;
+        this.majorRoadmapIndex = majorRoadmapIndex;
+        this.minTakenCount = minTakenCount;
+    }
+
+    public List<CourseSuggestionDto> suggest(String query, int limit) {
+        return index.search(query, limit).stream()
+                .map(e -> new CourseSuggestionDto(e.name(), e.nameEn(), e.popularity()))
+                .toList();
+    }
+
+    // ✅ 기동 직후 1회 + 이후 고정 간격으로 재빌드 (요청 경로와 분리)
+    @Scheduled(fixedDelayString = "${app.autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            long start = System.nanoTime();
+            CoursePrefixIndex next = CoursePrefixIndex.build(
+                    mergeEntries(majorRoadmapIndex.getRows(),
+                            courseRankingRepository.findCourseNameCounts(minTakenCount)));
+            index = next;
+            log.info("과목 자동완성 인덱스 재빌드: {}개 과목, {}ms",
+                    next.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // 재빌드 실패 시 기존 인덱스를 그대로 사용
+            log.warn("과목 자동완성 인덱스 재빌드 실패", e);
+        }
+    }
+
+    /** 로드맵 과목(공식 국문/영문명)을 기준으로 수강 이력 과목명을 정규화 키로 합산 */
+    static List<Entry> mergeEntries(List<RoadmapRow> roadmapRows, List<CourseCountRow> counts) {
+        record Acc(String name, String nameEn, long[] popularity) {}
+
+        Map<String, Acc> byKey = new LinkedHashMap<>();
+        for (RoadmapRow r : roadmapRows) {
+            String ko = CourseNames.normalize(r.nameKo());
+            if (ko.isEmpty() || byKey.containsKey(ko)) continue;
+            Acc acc = new Acc(r.nameKo().trim(), r.nameEn(), new long[1]);
+            byKey.put(ko, acc);
+            String en = CourseNames.normalize(r.nameEn());
+            if (!en.isEmpty()) byKey.putIfAbsent(en, acc);
+        }
+
+        for (CourseCountRow row : counts) {
+            String k = CourseNames.normalize(row.getName());
+            if (k.isEmpty()) continue;
+            byKey.computeIfAbsent(k, x -> new Acc(row.getName().trim(), null, new long[1]))
+                    .popularity()[0] += row.getTakenCount();
+        }
+
+        return byKey.values().stream()
+                .distinct()
+                .map(a -> new Entry(a.name(), a.nameEn(), a.popularity()[0]))
+                .toList();
+    }
+}
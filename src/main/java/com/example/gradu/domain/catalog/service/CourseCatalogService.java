@@ -0,0 +1,79 @@
+package com.example.gradu.domain.catalog.service;
+
+import com.example.gradu.domain.catalog.entity.CatalogCourse;
+import com.example.gradu.domain.catalog.index.CourseCatalogIndex;
+import com.example.gradu.domain.catalog.repository.CatalogCourseRepository;
+import com.example.gradu.domain.course.repository.CourseRepository;
+import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex;
+import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex.RoadmapRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseCatalogService {
+
+    private final CatalogCourseRepository catalogCourseRepository;
+    private final CourseRepository courseRepository;
+    private final MajorRoadmapIndex majorRoadmapIndex;
+    private final CourseCatalogIndex courseCatalogIndex;
+
+    /**
+     * 기동 시: 로드맵 → catalog_course 동기화, alias 인덱스 구축,
+     * 아직 catalog id가 없는 course 행 연결
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        List<CatalogCourse> catalog = syncFromRoadmap(majorRoadmapIndex.getRows());
+        courseCatalogIndex.rebuild(catalog);
+        int linked = linkUnresolvedCourses();
+        log.info("과목 카탈로그 로딩 완료: {}개 과목, {}개 수강 행 연결", courseCatalogIndex.size(), linked);
+    }
+
+    /** 과목코드 기준으로 묶어서 첫 표기를 대표명, 나머지를 별칭으로 저장 (재실행해도 안전) */
+    List<CatalogCourse> syncFromRoadmap(List<RoadmapRow> rows) {
+        Map<String, List<RoadmapRow>> byCode = new LinkedHashMap<>();
+        for (RoadmapRow r : rows) {
+            if (r.courseCode() == null || r.courseCode().isBlank()) continue;
+            byCode.computeIfAbsent(r.courseCode(), k -> new ArrayList<>()).add(r);
+        }
+
+        List<CatalogCourse> result = new ArrayList<>();
+        for (var e : byCode.entrySet()) {
+            RoadmapRow first = e.getValue().get(0);
+            CatalogCourse course = catalogCourseRepository.findByCourseCode(e.getKey())
+                    .orElseGet(() -> catalogCourseRepository.save(CatalogCourse.builder()
+                            .courseCode(e.getKey())
+                            .nameKo(first.nameKo())
+                            .nameEn(first.nameEn())
+                            .build()));
+
+            for (RoadmapRow r : e.getValue()) {
+                course.addAlias(r.nameKo());
+                course.addAlias(r.nameEn());
+            }
+            result.add(course);
+        }
+        return result;
+    }
+
+    /** 카탈로그에 매칭되는 과목명을 가진 course 행에 catalog id 채우기 */
+    int linkUnresolvedCourses() {
+        int linked = 0;
+        for (String name : courseRepository.findDistinctNamesWithoutCatalog()) {
+            Optional<Long> id = courseCatalogIndex.findIdByName(name);
+            if (id.isPresent()) {
+                linked += courseRepository.linkCatalog(name, id.get());
+            }
+        }
+        return linked;
+    }
+}
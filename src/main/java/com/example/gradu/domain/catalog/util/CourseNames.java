@@ -0,0 +1,16 @@
+package com.example.gradu.domain.catalog.util;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class CourseNames {
+    private CourseNames() {}
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** 과목명 비교용 키: 공백 제거 + 영문 소문자화 ("웹 서비스 개발" == "웹서비스개발") */
+    public static String normalize(String name) {
+        if (name == null) return "";
+        return WHITESPACE.matcher(name).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
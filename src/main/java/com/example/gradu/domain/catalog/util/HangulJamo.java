@@ -0,0 +1,60 @@
+package com.example.gradu.domain.catalog.util;
+
+/**
+ * 한글 음절을 호환 자모 열로 분해한다. 입력 중인 글자("웹섭" → "웹서비")도 접두어로 맞도록
+ * 겹받침/이중모음까지 키보드 입력 단위로 쪼갠다. (예: "닭" → "ㄷㅏㄹㄱ", "과" → "ㄱㅗㅏ")
+ */
+public final class HangulJamo {
+    private HangulJamo() {}
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /** 단독으로 입력된 겹자모(ㄳ, ㅘ 등)도 같은 단위로 분해 */
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    public static String decompose(CharSequence s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST) {
+                int idx = ch - SYLLABLE_BASE;
+                sb.append(CHO[idx / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[(idx % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                        .append(JONG[idx % JONG_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND_JAMO.indexOf(ch);
+            if (compound >= 0) {
+                sb.append(COMPOUND_SPLIT[compound]);
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -15,7 +15,9 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "course")
+@Table(name = "course", indexes = {
+        @Index(name = "idx_course_catalog_course_id", columnList = "catalog_course_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Course {
 
@@ -26,9 +28,14 @@ public class Course {
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
+    /** 사용자가 입력한 원본 표기 (화면 표시용) */
     @Column(nullable = false, length = 100)
     private String name;
 
+    /** catalog_course.id (카탈로그에 없는 과목이면 null) */
+    @Column(name = "catalog_course_id")
+    private Long catalogCourseId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 40)
     private Category category;
@@ -66,6 +73,10 @@ public class Course {
         if (newName != null && !newName.isBlank()) this.name = newName;
     }
 
+    public void linkCatalog(Long catalogCourseId) {
+        this.catalogCourseId = catalogCourseId;
+    }
+
     public BigDecimal changeCredit(BigDecimal newCredit) {
         if (newCredit == null) return BigDecimal.ZERO;
         BigDecimal old = this.credit;
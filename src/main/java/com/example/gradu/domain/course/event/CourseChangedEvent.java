@@ -0,0 +1,6 @@
+package com.example.gradu.domain.course.event;
+
+/**
+ * 학생의 수강 과목이 추가/수정/삭제됨 (커밋 후 집계 갱신용)
+ */
+public record CourseChangedEvent(Long studentId) {}
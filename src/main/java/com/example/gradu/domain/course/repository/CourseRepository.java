@@ -4,6 +4,8 @@ import com.example.gradu.domain.course.entity.Course;
 import com.example.gradu.domain.course.entity.Term;
 import com.example.gradu.domain.curriculum.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,4 +35,11 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
             Term term,
             Long id
     );
+
+    @Query("select distinct c.name from Course c where c.catalogCourseId is null")
+    List<String> findDistinctNamesWithoutCatalog();
+
+    @Modifying
+    @Query("update Course c set c.catalogCourseId = :catalogCourseId where c.catalogCourseId is null and c.name = :name")
+    int linkCatalog(String name, Long catalogCourseId);
 }
@@ -1,8 +1,10 @@
 package com.example.gradu.domain.course.service;
 
+import com.example.gradu.domain.catalog.index.CourseCatalogIndex;
 import com.example.gradu.domain.course.dto.CourseUpdateRequestDto;
 import com.example.gradu.domain.course.entity.Course;
 import com.example.gradu.domain.course.entity.Term;
+import com.example.gradu.domain.course.event.CourseChangedEvent;
 import com.example.gradu.domain.course.repository.CourseRepository;
 import com.example.gradu.domain.curriculum.entity.Category;
 import com.example.gradu.domain.curriculum.entity.Curriculum;
@@ -13,6 +15,7 @@ import com.example.gradu.global.exception.ErrorCode;
 import com.example.gradu.global.exception.course.CourseException;
 import com.example.gradu.global.exception.curriculum.CurriculumException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +31,8 @@ public class CourseCommandService {
     private final CourseRepository courseRepository;
     private final CurriculumRepository curriculumRepository;
     private final SummaryCommandService summaryCommandService;
+    private final CourseCatalogIndex courseCatalogIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Course updateCourse(Long studentId, Long courseId, CourseUpdateRequestDto request) {
@@ -49,6 +54,7 @@ public class CourseCommandService {
         applyEntityFieldUpdates(course, request, ctx);
 
         summaryCommandService.recomputeAndSave(studentId);
+        eventPublisher.publishEvent(new CourseChangedEvent(studentId));
         return course;
     }
 
@@ -129,7 +135,10 @@ public class CourseCommandService {
     }
 
     private void applyEntityFieldUpdates(Course course, CourseUpdateRequestDto request, UpdateContext ctx) {
-        if (request.getName() != null) course.rename(request.getName());
+        if (request.getName() != null) {
+            course.rename(request.getName());
+            course.linkCatalog(courseCatalogIndex.findIdByName(course.getName()).orElse(null));
+        }
         if (request.getGrade() != null) course.changeGrade(request.getGrade());
         if (ctx.categoryChanged) course.changeCategory(ctx.newCat);
         if (ctx.deltaUnits != 0) course.changeCredit(ctx.newCredit);
@@ -163,6 +172,7 @@ public class CourseCommandService {
 
         courseRepository.delete(course);
         summaryCommandService.recomputeAndSave(studentId);
+        eventPublisher.publishEvent(new CourseChangedEvent(studentId));
     }
 
     private static class UpdateContext {
@@ -1,10 +1,12 @@
 package com.example.gradu.domain.course.service;
 
 import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.domain.catalog.index.CourseCatalogIndex;
 import com.example.gradu.domain.course.dto.CourseRequestDto;
 import com.example.gradu.domain.course.dto.CourseUpdateRequestDto;
 import com.example.gradu.domain.course.entity.Course;
 import com.example.gradu.domain.course.entity.Term;
+import com.example.gradu.domain.course.event.CourseChangedEvent;
 import com.example.gradu.domain.course.repository.CourseRepository;
 import com.example.gradu.domain.curriculum.entity.Category;
 import com.example.gradu.domain.curriculum.entity.Curriculum;
@@ -17,6 +19,7 @@ import com.example.gradu.global.exception.course.CourseException;
 import com.example.gradu.global.exception.curriculum.CurriculumException;
 import com.example.gradu.global.exception.student.StudentException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,7 +37,8 @@ public class CourseService {
     private final CurriculumRepository curriculumRepository;
     private final CourseCommandService courseCommandService;
     private final SummaryCommandService summaryCommandService;
-
+    private final CourseCatalogIndex courseCatalogIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public static int toUnits(BigDecimal credit) {
         if (credit == null) return 0;
@@ -74,6 +78,7 @@ public class CourseService {
         Course course = Course.builder()
                 .student(student)
                 .name(request.name())
+                .catalogCourseId(courseCatalogIndex.findIdByName(request.name()).orElse(null))
                 .category(request.category())
                 .credit(request.credit())
                 .designedCredit(request.designedCredit())
@@ -95,6 +100,7 @@ public class CourseService {
         }
 
         summaryCommandService.recomputeAndSave(studentId);
+        eventPublisher.publishEvent(new CourseChangedEvent(studentId));
     }
 
     @Transactional(readOnly = true)
@@ -146,6 +152,7 @@ public class CourseService {
                 .map(req -> Course.builder()
                         .student(student)
                         .name(req.getName())
+                        .catalogCourseId(courseCatalogIndex.findIdByName(req.getName()).orElse(null))
                         .category(req.getCategory())
                         .credit(req.getCredit())
                         .designedCredit(req.getDesignedCredit())
@@ -178,11 +185,12 @@ public class CourseService {
             designedCur.addEarnedCredits(totalDesignedCredit);
         }
         summaryCommandService.recomputeAndSave(studentId);
-
+        eventPublisher.publishEvent(new CourseChangedEvent(studentId));
     }
 
 
     public void removeForStudent(Long studentId) {
         courseRepository.deleteByStudentId(studentId);
+        eventPublisher.publishEvent(new CourseChangedEvent(studentId));
     }
 }
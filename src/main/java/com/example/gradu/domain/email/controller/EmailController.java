@@ -2,6 +2,9 @@ package com.example.gradu.domain.email.controller;
 
 import com.example.gradu.domain.email.dto.EmailRequestDto;
 import com.example.gradu.domain.email.service.EmailVerificationService;
+import com.example.gradu.global.security.throttle.AuthThrottle;
+import com.example.gradu.global.security.throttle.ClientIp;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,9 +18,12 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/auth/email/otp")
 public class EmailController {
     private final EmailVerificationService service;
+    private final AuthThrottle authThrottle;
 
     @PostMapping("/send")
-    public ResponseEntity<Void> send(@Valid @RequestBody EmailRequestDto req) {
+    public ResponseEntity<Void> send(@Valid @RequestBody EmailRequestDto req, HttpServletRequest request) {
+        // ✅ 메일 발송(SMTP) 전에 이메일/IP 별 횟수 확인
+        authThrottle.check(AuthThrottle.Action.OTP_SEND, req.email(), ClientIp.resolve(request));
         service.sendCode(req.email());
         return ResponseEntity.noContent().build();
     }
@@ -1,13 +1,16 @@
 package com.example.gradu.domain.ranking.catalog;
 
+import com.example.gradu.domain.catalog.index.FuzzyNameIndex;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 @Component
 public class MajorRoadmapIndex {
@@ -27,36 +30,62 @@ public class MajorRoadmapIndex {
         }
     }
 
-    private final Map<String, TermKey> byNormalizedName = new HashMap<>();
+    /**
+     * 과목명 매칭 결과. exact=false 면 근사 매칭이므로 matchedName(로드맵 표기)으로 교정해서 쓴다.
+     */
+    public record RoadmapMatch(RoadmapRow row, String matchedName, double confidence, boolean exact) {
+        public TermKey term() {
+            return new TermKey(row.year(), row.semester());
+        }
+    }
+
+    // 근사 매칭 최소 신뢰도 (4~7글자 과목명이면 1글자, 8글자 이상이면 2글자 오류까지)
+    static final double MIN_FUZZY_CONFIDENCE = 0.75;
+
+    // OCR 이 붙이는 분반/학과 꼬리: "(전산)", "[01]"
+    private static final Pattern BRACKET_QUALIFIER = Pattern.compile("[(\\[][^)\\]]*[)\\]]");
+
+    private final List<RoadmapRow> rows;
+    private final FuzzyNameIndex<RoadmapRow> byName;
 
     public MajorRoadmapIndex(ObjectMapper objectMapper) throws IOException {
         var res = new ClassPathResource("catalog/major_roadmap.json");
         try (var is = res.getInputStream()) {
-            RoadmapRow[] rows = objectMapper.readValue(is, RoadmapRow[].class);
-
-            for (RoadmapRow r : rows) {
-                var term = new TermKey(r.year(), r.semester());
+            this.rows = List.of(objectMapper.readValue(is, RoadmapRow[].class));
+        }
 
-                put(r.nameKo(), term);
-                put(r.nameEn(), term);
-            }
+        Map<String, RoadmapRow> names = new LinkedHashMap<>();
+        for (RoadmapRow r : rows) {
+            if (r.nameKo() != null) names.putIfAbsent(r.nameKo(), r);
+            if (r.nameEn() != null) names.putIfAbsent(r.nameEn(), r);
         }
+        this.byName = FuzzyNameIndex.build(names, MIN_FUZZY_CONFIDENCE);
     }
 
     public Optional<TermKey> findTermByCourseName(String courseName) {
-        if (courseName == null) return Optional.empty();
-        return Optional.ofNullable(byNormalizedName.get(norm(courseName)));
+        return findBestMatch(courseName).map(RoadmapMatch::term);
     }
 
-    private void put(String name, TermKey term) {
-        String k = norm(name);
-        if (k.isBlank()) return;
-        byNormalizedName.put(k, term);
+    /**
+     * ✅ 1) 공백/대소문자/기호 무시 정확 매칭 → 2) bigram + 편집거리 근사 매칭
+     * → 3) 괄호 꼬리를 떼고 다시 매칭
+     */
+    public Optional<RoadmapMatch> findBestMatch(String courseName) {
+        if (courseName == null || courseName.isBlank()) return Optional.empty();
+
+        var match = byName.find(courseName);
+        if (match.isPresent()) {
+            return match.map(m -> new RoadmapMatch(m.value(), m.name(), m.confidence(), m.exact()));
+        }
+
+        String stripped = BRACKET_QUALIFIER.matcher(courseName).replaceAll("");
+        if (stripped.isBlank() || stripped.equals(courseName)) return Optional.empty();
+        return byName.find(stripped)
+                .map(m -> new RoadmapMatch(m.value(), m.name(), m.confidence(), false));
     }
 
-    // ✅ 공백만 제거 + trim
-    private static String norm(String s) {
-        if (s == null) return "";
-        return s.trim().replaceAll("\\s+", "");
+    /** 로드맵 원본 행 (카탈로그 시드 등에서 재사용) */
+    public List<RoadmapRow> getRows() {
+        return rows;
     }
 }
@@ -1,10 +1,15 @@
 package com.example.gradu.domain.ranking.controller;
 
+import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.domain.ranking.service.CourseCubeService;
 import com.example.gradu.domain.ranking.service.CourseRankingService;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 import static com.example.gradu.domain.ranking.dto.CourseRankingDto.*;
 
 @RestController
@@ -12,13 +17,28 @@ import static com.example.gradu.domain.ranking.dto.CourseRankingDto.*;
 public class CourseRankingController {
 
     private final CourseRankingService rankingService;
+    private final CourseCubeService cubeService;
 
-    public CourseRankingController(CourseRankingService rankingService) {
+    public CourseRankingController(CourseRankingService rankingService, CourseCubeService cubeService) {
         this.rankingService = rankingService;
+        this.cubeService = cubeService;
     }
 
     @GetMapping("/courses")
     public RankingResponseDto courseRanking() {
         return rankingService.getCourseRanking();
     }
+
+    // 예) ?category=BSM&academicYear=2024&term=2  /  ?admissionYear=21&studyYear=3&term=1
+    @GetMapping("/courses/slice")
+    public List<RankingItemDto> courseRankingSlice(
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) Short academicYear,
+            @RequestParam(required = false) String term,
+            @RequestParam(required = false) Integer admissionYear,
+            @RequestParam(required = false) Integer studyYear,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return cubeService.slice(category, academicYear, term, admissionYear, studyYear, limit);
+    }
 }
@@ -0,0 +1,199 @@
+package com.example.gradu.domain.ranking.cube;
+
+import com.example.gradu.domain.catalog.util.CourseNames;
+import com.example.gradu.domain.course.entity.Term;
+import com.example.gradu.domain.curriculum.entity.Category;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 수강 집계 큐브 (구분 × 과목명 × 연도 × 학기 × 학번).
+ * 셀이 바뀔 때 그 셀이 속하는 모든 roll-up 슬라이스(24개)를 함께 갱신해 두므로,
+ * 조회는 슬라이스 해시 조회 + 캐시된 Top 목록 반환으로 끝난다 (course 테이블 크기와 무관).
+ *
+ * 학번(cohort): Student 에 입학년도가 없으므로 "가장 이른 수강 연도"를 대리값으로 쓴다.
+ * 학년(studyYear) = 수강 연도 - cohort + 1
+ */
+@Component
+public class CourseCountCube {
+
+    public record Fact(Category category, String name, short academicYear, Term term, long count) {}
+
+    /** null 인 축은 전체로 roll-up. academicYear 와 studyYear 는 함께 쓰지 않는다 */
+    public record SliceKey(Category category, Short academicYear, Term term, Short cohort, Integer studyYear) {}
+
+    public record RankedCourse(String name, long takenCount) {}
+
+    /** 학생 단위 "이 과목을 들었는가" (학기/재수강과 무관) */
+    public record CourseKey(Category category, String key) {}
+
+    /** replaceStudent 전후로 새로 생기거나 사라진 (구분, 과목) */
+    public record StudentDiff(Set<CourseKey> added, Set<CourseKey> removed) {}
+
+    public static final int MAX_TOP = 50;
+
+    // 과목을 뺀 좌표. 좌표가 같으면 갱신할 슬라이스 묶음도 같으므로 배열로 캐시해 둔다
+    private record Coord(Category category, short academicYear, Term term, short cohort) {}
+
+    private record Cell(Coord coord, String key) {}
+
+    private static final class Slice {
+        final Map<String, Long> counts = new HashMap<>();
+        volatile List<RankedCourse> top; // null 이면 다시 계산
+    }
+
+    private final Object writeLock = new Object();
+    private final Map<Long, Map<Cell, Long>> byStudent = new HashMap<>();
+    private final Map<SliceKey, Slice> slices = new ConcurrentHashMap<>();
+    private final Map<Coord, Slice[]> slicesByCoord = new HashMap<>();
+    private final Map<String, String> displayNames = new ConcurrentHashMap<>();
+
+    /**
+     * 학생 한 명의 수강 사실을 통째로 교체하고, 이전 기여분과의 차이만 큐브에 반영한다.
+     * 학번(최초 수강 연도)이 바뀌어도 셀 단위 차분으로 자연스럽게 옮겨진다.
+     */
+    public StudentDiff replaceStudent(long studentId, List<Fact> facts) {
+        Map<Cell, Long> next = toCells(facts);
+
+        synchronized (writeLock) {
+            Map<Cell, Long> prev = byStudent.getOrDefault(studentId, Map.of());
+            Set<CourseKey> before = courseKeys(prev.keySet());
+            Set<CourseKey> after = courseKeys(next.keySet());
+
+            for (var e : prev.entrySet()) {
+                long delta = next.getOrDefault(e.getKey(), 0L) - e.getValue();
+                if (delta != 0) apply(e.getKey(), delta);
+            }
+            for (var e : next.entrySet()) {
+                if (!prev.containsKey(e.getKey())) apply(e.getKey(), e.getValue());
+            }
+
+            if (next.isEmpty()) byStudent.remove(studentId);
+            else byStudent.put(studentId, next);
+
+            Set<CourseKey> added = new HashSet<>(after);
+            added.removeAll(before);
+            Set<CourseKey> removed = new HashSet<>(before);
+            removed.removeAll(after);
+            return new StudentDiff(added, removed);
+        }
+    }
+
+    /** 학생별로 들은 (구분, 과목) 스냅샷 (학생 수 집계 재빌드용) */
+    public Map<Long, Set<CourseKey>> studentCourses() {
+        synchronized (writeLock) {
+            Map<Long, Set<CourseKey>> out = new HashMap<>();
+            byStudent.forEach((id, cells) -> out.put(id, courseKeys(cells.keySet())));
+            return out;
+        }
+    }
+
+    public List<RankedCourse> top(SliceKey key, int limit) {
+        Slice slice = slices.get(key);
+        if (slice == null || limit <= 0) return List.of();
+
+        List<RankedCourse> top = slice.top;
+        if (top == null) {
+            synchronized (writeLock) {
+                top = slice.top;
+                if (top == null) {
+                    top = computeTop(slice);
+                    slice.top = top;
+                }
+            }
+        }
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    /** 다른 집계(학생 수 등)에서 같은 과목 키를 쓰도록 공개 */
+    public static String keyOf(String name) {
+        return CourseNames.normalize(name);
+    }
+
+    public void clear() {
+        synchronized (writeLock) {
+            byStudent.clear();
+            slices.clear();
+            slicesByCoord.clear();
+        }
+    }
+
+    public int studentCount() {
+        synchronized (writeLock) {
+            return byStudent.size();
+        }
+    }
+
+    public int sliceCount() {
+        return slices.size();
+    }
+
+    private Map<Cell, Long> toCells(List<Fact> facts) {
+        short cohort = Short.MAX_VALUE;
+        for (Fact f : facts) cohort = (short) Math.min(cohort, f.academicYear());
+
+        Map<Cell, Long> cells = new HashMap<>();
+        for (Fact f : facts) {
+            if (f.category() == null || f.term() == null || f.count() <= 0) continue;
+            String key = keyOf(f.name());
+            if (key.isEmpty()) continue;
+
+            displayNames.merge(key, f.name().trim(), CourseCountCube::chooseDisplay);
+            var coord = new Coord(f.category(), f.academicYear(), f.term(), cohort);
+            cells.merge(new Cell(coord, key), f.count(), Long::sum);
+        }
+        return cells;
+    }
+
+    private static Set<CourseKey> courseKeys(Set<Cell> cells) {
+        Set<CourseKey> keys = new HashSet<>();
+        for (Cell c : cells) keys.add(new CourseKey(c.coord().category(), c.key()));
+        return keys;
+    }
+
+    private void apply(Cell cell, long delta) {
+        for (Slice slice : slicesByCoord.computeIfAbsent(cell.coord(), this::resolveSlices)) {
+            long next = slice.counts.merge(cell.key(), delta, Long::sum);
+            if (next <= 0) slice.counts.remove(cell.key());
+            slice.top = null;
+        }
+    }
+
+    // ✅ 좌표가 속하는 roll-up: 구분(2) × 학기(2) × 학번(2) × {연도, 학년, 전체}(3) = 24
+    private Slice[] resolveSlices(Coord coord) {
+        Category[] categories = {coord.category(), null};
+        Term[] terms = {coord.term(), null};
+        Short[] cohorts = {coord.cohort(), null};
+        int studyYear = coord.academicYear() - coord.cohort() + 1;
+
+        List<SliceKey> keys = new ArrayList<>(24);
+        for (Category c : categories) {
+            for (Term t : terms) {
+                for (Short co : cohorts) {
+                    keys.add(new SliceKey(c, null, t, co, null));
+                    keys.add(new SliceKey(c, coord.academicYear(), t, co, null));
+                    keys.add(new SliceKey(c, null, t, co, studyYear));
+                }
+            }
+        }
+        return keys.stream()
+                .map(k -> slices.computeIfAbsent(k, x -> new Slice()))
+                .toArray(Slice[]::new);
+    }
+
+    private List<RankedCourse> computeTop(Slice slice) {
+        return slice.counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_TOP)
+                .map(e -> new RankedCourse(displayNames.getOrDefault(e.getKey(), e.getKey()), e.getValue()))
+                .toList();
+    }
+
+    // 더 읽기 좋은 표기(대개 공백 포함이 더 길다) 우선
+    private static String chooseDisplay(String a, String b) {
+        return b.length() > a.length() ? b : a;
+    }
+}
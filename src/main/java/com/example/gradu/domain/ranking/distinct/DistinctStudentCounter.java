@@ -0,0 +1,218 @@
+package com.example.gradu.domain.ranking.distinct;
+
+import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.domain.ranking.cube.CourseCountCube.CourseKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 과목별 "수강한 학생 수" (재수강/학기 중복 제거) 를 Redis 에 유지한다.
+ *
+ * - (구분, 과목 키) 마다 HyperLogLog(PFADD/PFCOUNT, 오차 ~0.81%) 와 정확 집합(SET)을 함께 둔다.
+ * - 학생 수가 exactThreshold 이하인 작은 버킷은 SET 으로 정확히 세고,
+ *   넘어가면 SET 을 오버플로 마커로 바꾸고 HLL 로만 센다.
+ * - HLL 은 원소 삭제가 안 되므로 과목 삭제는 SET 에만 반영되고, HLL 은 주기적 재빌드로 바로잡는다.
+ * - Redis 장애 시 빈 결과를 돌려주고, 호출 측이 행 수(count) 기준으로 대체한다.
+ */
+@Slf4j
+@Component
+public class DistinctStudentCounter {
+
+    static final String HLL_PREFIX = "rank:distinct:hll:";
+    static final String SET_PREFIX = "rank:distinct:set:";
+    static final String BUILT_KEY = "rank:distinct:built";
+    static final String OVERFLOW = "__overflow__";
+
+    // KEYS = [hll1, set1, hll2, set2, ...], ARGV = [member, threshold, ttlSeconds, overflowMarker]
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS, 2 do
+              redis.call('PFADD', KEYS[i], ARGV[1])
+              redis.call('EXPIRE', KEYS[i], ARGV[3])
+              if redis.call('SISMEMBER', KEYS[i + 1], ARGV[4]) == 0 then
+                redis.call('SADD', KEYS[i + 1], ARGV[1])
+                if redis.call('SCARD', KEYS[i + 1]) > tonumber(ARGV[2]) then
+                  redis.call('DEL', KEYS[i + 1])
+                  redis.call('SADD', KEYS[i + 1], ARGV[4])
+                end
+              end
+              redis.call('EXPIRE', KEYS[i + 1], ARGV[3])
+            end
+            return #KEYS / 2
+            """, Long.class);
+
+    // KEYS = [set1, set2, ...], ARGV = [member, overflowMarker]
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 1, #KEYS do
+              if redis.call('SISMEMBER', KEYS[i], ARGV[2]) == 0 then
+                removed = removed + redis.call('SREM', KEYS[i], ARGV[1])
+              end
+            end
+            return removed
+            """, Long.class);
+
+    // KEYS = [hll, set], ARGV = [threshold, ttlSeconds, overflowMarker, member...]
+    private static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1], KEYS[2])
+            local n = #ARGV - 3
+            for i = 4, #ARGV, 5000 do
+              redis.call('PFADD', KEYS[1], unpack(ARGV, i, math.min(i + 4999, #ARGV)))
+            end
+            if n <= tonumber(ARGV[1]) then
+              for i = 4, #ARGV, 5000 do
+                redis.call('SADD', KEYS[2], unpack(ARGV, i, math.min(i + 4999, #ARGV)))
+              end
+            else
+              redis.call('SADD', KEYS[2], ARGV[3])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return n
+            """, Long.class);
+
+    // 과목마다 KEYS = [set × c, hll × c], ARGV = [c, overflowMarker]
+    // 모든 SET 이 정확하면 합집합 크기, 하나라도 넘쳤으면 HLL 합집합 추정치
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> COUNT_SCRIPT = new DefaultRedisScript<>("""
+            local c = tonumber(ARGV[1])
+            local out = {}
+            for base = 0, #KEYS - 1, 2 * c do
+              local exact = true
+              for i = 1, c do
+                if redis.call('SISMEMBER', KEYS[base + i], ARGV[2]) == 1 then exact = false end
+              end
+              local n
+              if not exact then
+                n = redis.call('PFCOUNT', unpack(KEYS, base + c + 1, base + 2 * c))
+              elseif c == 1 then
+                n = redis.call('SCARD', KEYS[base + 1])
+              else
+                n = #redis.call('SUNION', unpack(KEYS, base + 1, base + c))
+              end
+              out[#out + 1] = n
+            end
+            return out
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int exactThreshold;
+    private final Duration ttl;
+
+    public DistinctStudentCounter(
+            StringRedisTemplate redisTemplate,
+            @Value("${app.ranking.distinct.exact-threshold:256}") int exactThreshold,
+            @Value("${app.ranking.distinct.ttl-hours:72}") long ttlHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.exactThreshold = exactThreshold;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /** 학생 한 명의 수강 변화분 반영 (큐브 차분 결과를 그대로 받는다) */
+    public void apply(long studentId, Set<CourseKey> added, Set<CourseKey> removed) {
+        String member = Long.toString(studentId);
+        try {
+            if (!added.isEmpty()) {
+                List<String> keys = new ArrayList<>(added.size() * 2);
+                for (CourseKey k : added) {
+                    keys.add(hllKey(k.category(), k.key()));
+                    keys.add(setKey(k.category(), k.key()));
+                }
+                redisTemplate.execute(ADD_SCRIPT, keys,
+                        member, Integer.toString(exactThreshold), Long.toString(ttl.toSeconds()), OVERFLOW);
+            }
+            if (!removed.isEmpty()) {
+                List<String> keys = removed.stream().map(k -> setKey(k.category(), k.key())).toList();
+                redisTemplate.execute(REMOVE_SCRIPT, keys, member, OVERFLOW);
+            }
+        } catch (RuntimeException e) {
+            // 다음 재빌드 때 맞춰지므로 요청 흐름은 막지 않는다
+            log.warn("학생 수 집계 반영 실패 (studentId={}): {}", studentId, e.getMessage());
+        }
+    }
+
+    /**
+     * 과목별 학생 수. categories 가 여러 개면 구분 간 합집합(같은 학생은 한 번)으로 센다.
+     *
+     * @return normalized key -> 학생 수 (집계가 없거나 Redis 장애면 빈 맵)
+     */
+    public Map<String, Long> countDistinct(Set<Category> categories, Collection<String> keys) {
+        if (categories.isEmpty() || keys.isEmpty()) return Map.of();
+
+        List<String> ordered = List.copyOf(new LinkedHashSet<>(keys));
+        List<String> redisKeys = new ArrayList<>(ordered.size() * categories.size() * 2);
+        for (String key : ordered) {
+            for (Category c : categories) redisKeys.add(setKey(c, key));
+            for (Category c : categories) redisKeys.add(hllKey(c, key));
+        }
+
+        try {
+            List<?> counts = redisTemplate.execute(COUNT_SCRIPT, redisKeys,
+                    Integer.toString(categories.size()), OVERFLOW);
+            if (counts == null || counts.size() != ordered.size()) return Map.of();
+
+            Map<String, Long> out = new HashMap<>();
+            for (int i = 0; i < ordered.size(); i++) {
+                long n = ((Number) counts.get(i)).longValue();
+                if (n > 0) out.put(ordered.get(i), n);
+            }
+            return out;
+        } catch (RuntimeException e) {
+            log.warn("학생 수 집계 조회 실패, 행 수 기준으로 대체: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /** 집계가 아직 없을 때만 재빌드 (여러 번 재기동해도 매번 다시 쓰지 않도록) */
+    public void rebuildIfMissing(Map<Long, Set<CourseKey>> studentCourses) {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_KEY))) return;
+        } catch (RuntimeException e) {
+            log.warn("학생 수 집계 상태 확인 실패: {}", e.getMessage());
+            return;
+        }
+        rebuild(studentCourses);
+    }
+
+    /** (구분, 과목) 단위로 통째로 교체. 키마다 원자적이라 재빌드 중에도 조회가 0으로 떨어지지 않는다 */
+    public void rebuild(Map<Long, Set<CourseKey>> studentCourses) {
+        Map<CourseKey, List<String>> members = new HashMap<>();
+        studentCourses.forEach((studentId, courses) -> {
+            String member = Long.toString(studentId);
+            for (CourseKey k : courses) members.computeIfAbsent(k, x -> new ArrayList<>()).add(member);
+        });
+
+        try {
+            for (var e : members.entrySet()) {
+                CourseKey k = e.getKey();
+                List<String> args = new ArrayList<>(e.getValue().size() + 3);
+                args.add(Integer.toString(exactThreshold));
+                args.add(Long.toString(ttl.toSeconds()));
+                args.add(OVERFLOW);
+                args.addAll(e.getValue());
+                redisTemplate.execute(REPLACE_SCRIPT,
+                        List.of(hllKey(k.category(), k.key()), setKey(k.category(), k.key())),
+                        args.toArray());
+            }
+            // 재빌드 주기보다 넉넉히 유지 → 재기동 시 중복 재빌드 방지
+            redisTemplate.opsForValue().set(BUILT_KEY, Long.toString(System.currentTimeMillis()), ttl);
+            log.info("학생 수 집계 재빌드 완료: 과목 {}개", members.size());
+        } catch (RuntimeException e) {
+            log.warn("학생 수 집계 재빌드 실패: {}", e.getMessage());
+        }
+    }
+
+    static String hllKey(Category category, String key) {
+        return HLL_PREFIX + category.name() + ":" + key;
+    }
+
+    static String setKey(Category category, String key) {
+        return SET_PREFIX + category.name() + ":" + key;
+    }
+}
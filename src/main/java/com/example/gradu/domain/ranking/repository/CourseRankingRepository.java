@@ -2,6 +2,7 @@ package com.example.gradu.domain.ranking.repository;
 
 import com.example.gradu.domain.curriculum.entity.Category;
 import com.example.gradu.domain.course.entity.Course;
+import com.example.gradu.domain.course.entity.Term;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -16,6 +17,16 @@ public interface CourseRankingRepository extends JpaRepository<Course, Long> {
         long getTakenCount();
     }
 
+    // ✅ 집계 큐브 원천 데이터: 학생 × 구분 × 과목명 × 연도 × 학기
+    interface CourseFactRow {
+        Long getStudentId();
+        Category getCategory();
+        String getName();
+        Short getAcademicYear();
+        Term getTerm();
+        long getTakenCount();
+    }
+
     @Query("""
         select
            c.name as name,
@@ -29,4 +40,44 @@ public interface CourseRankingRepository extends JpaRepository<Course, Long> {
             Set<Category> categories,
             Pageable pageable
     );
+
+    // ✅ 자동완성 인덱스용: 과목명별 수강 수 (minCount 이상만)
+    @Query("""
+        select
+           c.name as name,
+           count(c.id) as takenCount
+        from Course c
+        group by c.name
+        having count(c.id) >= :minCount
+   """)
+    List<CourseCountRow> findCourseNameCounts(long minCount);
+
+    // ✅ 기동 시 큐브 전체 빌드용 (1회)
+    @Query("""
+        select
+           c.student.id as studentId,
+           c.category as category,
+           c.name as name,
+           c.academicYear as academicYear,
+           c.term as term,
+           count(c.id) as takenCount
+        from Course c
+        group by c.student.id, c.category, c.name, c.academicYear, c.term
+   """)
+    List<CourseFactRow> findCourseFacts();
+
+    // ✅ 과목 변경 시 해당 학생분만 다시 읽어 큐브에 차분 반영
+    @Query("""
+        select
+           c.student.id as studentId,
+           c.category as category,
+           c.name as name,
+           c.academicYear as academicYear,
+           c.term as term,
+           count(c.id) as takenCount
+        from Course c
+        where c.student.id = :studentId
+        group by c.student.id, c.category, c.name, c.academicYear, c.term
+   """)
+    List<CourseFactRow> findCourseFactsByStudentId(Long studentId);
 }
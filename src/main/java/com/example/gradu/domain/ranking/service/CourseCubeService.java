@@ -0,0 +1,136 @@
+package com.example.gradu.domain.ranking.service;
+
+import com.example.gradu.domain.course.entity.Term;
+import com.example.gradu.domain.course.event.CourseChangedEvent;
+import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex;
+import com.example.gradu.domain.ranking.cube.CourseCountCube;
+import com.example.gradu.domain.ranking.cube.CourseCountCube.Fact;
+import com.example.gradu.domain.ranking.cube.CourseCountCube.SliceKey;
+import com.example.gradu.domain.ranking.distinct.DistinctStudentCounter;
+import com.example.gradu.domain.ranking.dto.CourseRankingDto.RankingItemDto;
+import com.example.gradu.domain.ranking.repository.CourseRankingRepository;
+import com.example.gradu.domain.ranking.repository.CourseRankingRepository.CourseFactRow;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ranking.RankingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * 슬라이스 랭킹 (연도/학기/학번/학년 필터).
+ * 기동 시 1회 전체 집계로 큐브를 만들고, 이후에는 과목 변경 이벤트마다 해당 학생분만 차분 반영한다.
+ * 같은 차분으로 과목별 학생 수(DistinctStudentCounter)도 함께 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseCubeService {
+
+    private final CourseRankingRepository repository;
+    private final MajorRoadmapIndex majorRoadmapIndex;
+    private final CourseCountCube cube;
+    private final DistinctStudentCounter distinctCounter;
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int STUDENT_LOCK_STRIPES = 64;
+
+    // 같은 학생의 이벤트는 순서 없이 동시에 올 수 있으므로 학생 단위로 "다시 읽기 → 교체"를 직렬화
+    private final Object[] studentLocks = IntStream.range(0, STUDENT_LOCK_STRIPES)
+            .mapToObj(i -> new Object())
+            .toArray();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        Map<Long, List<Fact>> byStudent = new HashMap<>();
+        for (CourseFactRow r : repository.findCourseFacts()) {
+            toFact(r).ifPresent(f -> byStudent.computeIfAbsent(r.getStudentId(), k -> new ArrayList<>()).add(f));
+        }
+
+        cube.clear();
+        byStudent.forEach(cube::replaceStudent);
+        log.info("수강 집계 큐브 로딩 완료: 학생 {}명, 슬라이스 {}개", cube.studentCount(), cube.sliceCount());
+
+        distinctCounter.rebuildIfMissing(cube.studentCourses());
+    }
+
+    // ✅ HLL 은 삭제가 안 되므로 주기적으로 큐브 기준으로 다시 써서 삭제분을 털어낸다
+    @Scheduled(cron = "${app.ranking.distinct.rebuild-cron:0 30 4 * * *}")
+    public void rebuildDistinct() {
+        distinctCounter.rebuild(cube.studentCourses());
+    }
+
+    // ✅ 커밋된 변경만 반영 (롤백된 요청은 큐브에 흔적을 남기지 않음)
+    // ✅ 읽기부터 반영까지 학생별 잠금 안에서: 먼저 읽은(더 오래된) 스냅샷이 나중에 덮어쓰지 않도록
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        long studentId = event.studentId();
+        synchronized (studentLocks[Math.floorMod(Long.hashCode(studentId), STUDENT_LOCK_STRIPES)]) {
+            List<Fact> facts = repository.findCourseFactsByStudentId(studentId).stream()
+                    .map(this::toFact)
+                    .flatMap(Optional::stream)
+                    .toList();
+            var diff = cube.replaceStudent(studentId, facts);
+            distinctCounter.apply(studentId, diff.added(), diff.removed());
+        }
+    }
+
+    /**
+     * @param admissionYear 학번 (2021 또는 21)
+     * @param studyYear     학년 (admissionYear 와 함께 쓰면 "21학번이 3학년 때")
+     */
+    public List<RankingItemDto> slice(Category category, Short academicYear, String term,
+                                      Integer admissionYear, Integer studyYear, Integer limit) {
+        if (academicYear != null && studyYear != null) {
+            throw new RankingException(ErrorCode.RANKING_INVALID_SLICE);
+        }
+
+        var key = new SliceKey(category, academicYear, parseTerm(term), toCohort(admissionYear), studyYear);
+        int n = Math.min(Optional.ofNullable(limit).orElse(DEFAULT_LIMIT), CourseCountCube.MAX_TOP);
+        var top = cube.top(key, n);
+
+        return IntStream.range(0, top.size())
+                .mapToObj(i -> new RankingItemDto(i + 1, top.get(i).name(), top.get(i).takenCount(), 0))
+                .toList();
+    }
+
+    private Optional<Fact> toFact(CourseFactRow r) {
+        if (r.getName() == null || r.getName().isBlank() || r.getAcademicYear() == null) return Optional.empty();
+        return Optional.of(new Fact(r.getCategory(), canonicalName(r), r.getAcademicYear(), r.getTerm(), r.getTakenCount()));
+    }
+
+    // ✅ 전공은 OCR 오인식/오타를 로드맵 표기로 모아서 집계
+    private String canonicalName(CourseFactRow r) {
+        if (r.getCategory() != Category.MAJOR) return r.getName();
+        return majorRoadmapIndex.findBestMatch(r.getName())
+                .filter(m -> !m.exact())
+                .map(MajorRoadmapIndex.RoadmapMatch::matchedName)
+                .orElse(r.getName());
+    }
+
+    private static Term parseTerm(String term) {
+        if (term == null || term.isBlank()) return null;
+        try {
+            return Term.fromCode(term);
+        } catch (IllegalArgumentException e) {
+            throw new RankingException(ErrorCode.RANKING_INVALID_SLICE);
+        }
+    }
+
+    private static Short toCohort(Integer admissionYear) {
+        if (admissionYear == null) return null;
+        return (short) (admissionYear < 100 ? 2000 + admissionYear : admissionYear);
+    }
+}
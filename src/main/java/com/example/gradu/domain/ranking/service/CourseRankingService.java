@@ -2,6 +2,8 @@ package com.example.gradu.domain.ranking.service;
 
 import com.example.gradu.domain.curriculum.entity.Category;
 import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex;
+import com.example.gradu.domain.ranking.cube.CourseCountCube;
+import com.example.gradu.domain.ranking.distinct.DistinctStudentCounter;
 import com.example.gradu.domain.ranking.dto.CourseRankingDto.*;
 import com.example.gradu.domain.ranking.repository.CourseRankingRepository;
 import org.springframework.data.domain.PageRequest;
@@ -16,6 +18,7 @@ public class CourseRankingService {
 
     private final CourseRankingRepository repository;
     private final MajorRoadmapIndex majorRoadmapIndex;
+    private final DistinctStudentCounter distinctCounter;
 
     private static final EnumSet<Category> MAJOR_CATEGORIES =
             EnumSet.of(Category.MAJOR);
@@ -37,10 +40,12 @@ public class CourseRankingService {
 
     public CourseRankingService(
             CourseRankingRepository repository,
-            MajorRoadmapIndex majorRoadmapIndex
+            MajorRoadmapIndex majorRoadmapIndex,
+            DistinctStudentCounter distinctCounter
     ) {
         this.repository = repository;
         this.majorRoadmapIndex = majorRoadmapIndex;
+        this.distinctCounter = distinctCounter;
     }
 
     private static final int MAJOR_FETCH_SIZE = 300;
@@ -83,29 +88,36 @@ public class CourseRankingService {
         );
 
         for (var r : fetchedRows) {
-            var termOpt = majorRoadmapIndex.findTermByCourseName(r.getName());
-            if (termOpt.isEmpty()) continue;
+            var matchOpt = majorRoadmapIndex.findBestMatch(r.getName());
+            if (matchOpt.isEmpty()) continue;
 
-            var key = termOpt.get().toBucketKey();
+            var match = matchOpt.get();
+            var key = match.term().toBucketKey();
             var list = bucket.get(key);
-            if (list != null) list.add(r);
+            if (list == null) continue;
+
+            // ✅ 근사 매칭(OCR 오인식/오타)은 로드맵 표기로 바꿔서 같은 과목과 합산되게
+            list.add(match.exact() ? r : renamed(r, match.matchedName()));
         }
 
         return new MajorRankingDto(
-                toTop10Merged(bucket.get("y1s2")),
-                toTop10Merged(bucket.get("y2s1")),
-                toTop10Merged(bucket.get("y2s2")),
-                toTop10Merged(bucket.get("y3s1")),
-                toTop10Merged(bucket.get("y3s2")),
-                toTop10Merged(bucket.get("y4s1")),
-                toTop10Merged(bucket.get("y4s2"))
+                toTop10Merged(bucket.get("y1s2"), MAJOR_CATEGORIES),
+                toTop10Merged(bucket.get("y2s1"), MAJOR_CATEGORIES),
+                toTop10Merged(bucket.get("y2s2"), MAJOR_CATEGORIES),
+                toTop10Merged(bucket.get("y3s1"), MAJOR_CATEGORIES),
+                toTop10Merged(bucket.get("y3s2"), MAJOR_CATEGORIES),
+                toTop10Merged(bucket.get("y4s1"), MAJOR_CATEGORIES),
+                toTop10Merged(bucket.get("y4s2"), MAJOR_CATEGORIES)
         );
     }
 
     /**
-     * ✅ 교양/전공 공통: rows를 "공백 제거 키"로 합산 → takenCount desc 정렬 → top10 → rank 부여
+     * ✅ 교양/전공 공통: rows를 "공백 제거 키"로 합산 → 학생 수로 재집계 → takenCount desc 정렬 → top10 → rank 부여
+     * - 후보는 행 수(count) 기준으로 뽑고, 순위는 재수강/학기 중복을 뺀 학생 수로 매긴다
+     * - 학생 수 집계가 하나라도 없으면(Redis 장애, 재빌드 전, 만료) 버킷 전체를 행 수 그대로 (단위 섞임 방지)
      */
-    private List<RankingItemDto> toTop10Merged(List<CourseRankingRepository.CourseCountRow> rows) {
+    private List<RankingItemDto> toTop10Merged(List<CourseRankingRepository.CourseCountRow> rows,
+                                               Set<Category> categories) {
         if (rows == null || rows.isEmpty()) return List.of();
 
         // normKey -> (sumCount, displayName)
@@ -124,10 +136,12 @@ public class CourseRankingService {
                     ? safe(raw)
                     : chooseDisplay(prev.displayName, safe(raw));
 
-            map.put(key, new Agg(nextCount, nextDisplay));
+            // ✅ 학생 수는 큐브와 같은 정규화 이름(전공은 로드맵 표기로 모은 뒤) 기준으로 집계돼 있다
+            //    공백만 다른 표기는 같은 키로 모이므로 버킷마다 키는 하나
+            map.put(key, new Agg(nextCount, nextDisplay, CourseCountCube.keyOf(raw)));
         }
 
-        var merged = map.values().stream()
+        var merged = withDistinctStudents(map.values(), categories).stream()
                 .sorted((a, b) -> {
                     int c = Long.compare(b.takenCount, a.takenCount);
                     if (c != 0) return c;
@@ -163,7 +177,27 @@ public class CourseRankingService {
                 .toList()
                 : fetchedRows;
 
-        return toTop10Merged(filtered);
+        return toTop10Merged(filtered, categories);
+    }
+
+    /**
+     * ✅ 후보 전부의 학생 수가 있을 때만 학생 수로 바꾼다 (하나라도 없으면 버킷 전체 행 수)
+     * - OCR 오인식 표기는 큐브 반영 시 이미 로드맵 표기로 합쳐져 있으므로 그 키 하나만 본다
+     */
+    private List<Agg> withDistinctStudents(Collection<Agg> aggs, Set<Category> categories) {
+        var distinct = distinctCounter.countDistinct(
+                categories,
+                aggs.stream().map(Agg::distinctKey).toList()
+        );
+        if (distinct.isEmpty()) return List.copyOf(aggs);
+
+        List<Agg> out = new ArrayList<>(aggs.size());
+        for (Agg a : aggs) {
+            Long students = distinct.get(a.distinctKey);
+            if (students == null) return List.copyOf(aggs);
+            out.add(new Agg(students, a.displayName, a.distinctKey));
+        }
+        return out;
     }
 
     private boolean containsAny(String text, List<String> keywords) {
@@ -184,6 +218,15 @@ public class CourseRankingService {
         return s.trim().replaceAll("\\s+", "");
     }
 
+    private static CourseRankingRepository.CourseCountRow renamed(
+            CourseRankingRepository.CourseCountRow row, String name) {
+        long takenCount = row.getTakenCount();
+        return new CourseRankingRepository.CourseCountRow() {
+            @Override public String getName() { return name; }
+            @Override public long getTakenCount() { return takenCount; }
+        };
+    }
+
     private static String safe(String s) {
         return s == null ? "" : s;
     }
@@ -196,5 +239,5 @@ public class CourseRankingService {
         return a;
     }
 
-    private record Agg(long takenCount, String displayName) {}
+    private record Agg(long takenCount, String displayName, String distinctKey) {}
 }
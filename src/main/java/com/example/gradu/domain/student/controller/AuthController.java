@@ -5,8 +5,12 @@ import com.example.gradu.domain.student.dto.LoginResponseDto;
 import com.example.gradu.domain.student.dto.PasswordResetRequestDto;
 import com.example.gradu.domain.student.dto.StudentAuthRequestDto;
 import com.example.gradu.domain.student.service.StudentService;
+import com.example.gradu.global.exception.BaseException;
+import com.example.gradu.global.exception.ErrorCode;
 import com.example.gradu.global.security.jwt.JwtAuthenticationFilter;
 import com.example.gradu.global.security.jwt.JwtProperties;
+import com.example.gradu.global.security.throttle.AuthThrottle;
+import com.example.gradu.global.security.throttle.ClientIp;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -28,6 +32,7 @@ public class AuthController {
     public static final String REFRESH_TOKEN = "refreshToken";
     private final StudentService studentService;
     private final JwtProperties jwtProperties;
+    private final AuthThrottle authThrottle;
 
     private final String frontendDomain;
     private final boolean cookieSecure;
@@ -36,12 +41,14 @@ public class AuthController {
     public AuthController(
             StudentService studentService,
             JwtProperties jwtProperties,
+            AuthThrottle authThrottle,
             @Value("${app.frontend-domain}") String frontendDomain,
             @Value("${app.cookie.secure}") boolean cookieSecure,
             @Value("${app.cookie.same-site}") String cookieSameSite
     ) {
         this.studentService = studentService;
         this.jwtProperties = jwtProperties;
+        this.authThrottle = authThrottle;
         this.frontendDomain = frontendDomain;
         this.cookieSecure = cookieSecure;
         this.cookieSameSite = cookieSameSite;
@@ -54,8 +61,26 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AccessTokenResponseDto> login(@Valid @RequestBody StudentAuthRequestDto request, HttpServletResponse response) {
-        LoginResponseDto tokens = studentService.login(request.getEmail(), request.getPassword());
+    public ResponseEntity<AccessTokenResponseDto> login(
+            @Valid @RequestBody StudentAuthRequestDto request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse response
+    ) {
+        // ✅ 해시 계산 전에 이메일/IP 별 시도를 확인하고 미리 센다 (Redis 1회, 동시 요청 몰림 방지)
+        String clientIp = ClientIp.resolve(httpRequest);
+        authThrottle.check(AuthThrottle.Action.LOGIN, request.getEmail(), clientIp);
+
+        LoginResponseDto tokens;
+        try {
+            tokens = studentService.login(request.getEmail(), request.getPassword());
+        } catch (RuntimeException e) {
+            // ✅ 비밀번호 불일치 / 없는 계정만 실패로 남기고, 그 밖의 오류는 센 시도를 되돌린다
+            if (!isCredentialFailure(e))
+                authThrottle.cancel(AuthThrottle.Action.LOGIN, request.getEmail(), clientIp);
+            throw e;
+        }
+        // ✅ 성공하면 이 이메일의 실패/잠금 기록을 지운다
+        authThrottle.succeeded(AuthThrottle.Action.LOGIN, request.getEmail(), clientIp);
 
         ResponseCookie cookie = ResponseCookie.from(REFRESH_TOKEN, tokens.getRefreshToken())
                 .httpOnly(true)
@@ -87,6 +112,12 @@ public class AuthController {
             HttpServletRequest request,
             HttpServletResponse response
     ) {
+        // ✅ 지금 쓰던 액세스 토큰도 만료 전까지 바로 막는다
+        String accessToken = extractAccessToken(request);
+        if (accessToken != null) {
+            studentService.revokeAccessToken(accessToken);
+        }
+
         String refreshToken = extractRefreshTokenFromCookie(request);
         if (refreshToken == null) {
             return noContentAndDeleteCookie(response);
@@ -109,6 +140,12 @@ public class AuthController {
         return ResponseEntity.noContent().build();
     }
 
+    private String extractAccessToken(HttpServletRequest request) {
+        String bearer = request.getHeader("Authorization");
+        if (bearer == null || !bearer.startsWith(JwtAuthenticationFilter.TOKEN_PREFIX)) return null;
+        return bearer.substring(JwtAuthenticationFilter.TOKEN_PREFIX.length());
+    }
+
     private String extractRefreshTokenFromCookie(HttpServletRequest request) {
         if (request.getCookies() == null) return null;
         return Arrays.stream(request.getCookies())
@@ -129,6 +166,11 @@ public class AuthController {
 
         studentService.withdraw(studentId, refreshToken);
 
+        String accessToken = extractAccessToken(request);
+        if (accessToken != null) {
+            studentService.revokeAccessToken(accessToken);
+        }
+
         return noContentAndDeleteCookie(response);
     }
 
@@ -137,4 +179,9 @@ public class AuthController {
         studentService.resetPassword(req);
         return ResponseEntity.noContent().build();
     }
+
+    private static boolean isCredentialFailure(RuntimeException e) {
+        return e instanceof BaseException be
+                && (be.getErrorCode() == ErrorCode.PASSWORD_MISMATCH || be.getErrorCode() == ErrorCode.STUDENT_NOT_FOUND);
+    }
 }
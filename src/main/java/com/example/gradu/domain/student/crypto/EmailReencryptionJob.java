@@ -0,0 +1,213 @@
+package com.example.gradu.domain.student.crypto;
+
+import com.example.gradu.global.crypto.AesGcmUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 교체 후 student.email 을 현재 키로 다시 암호화하는 백그라운드 작업.
+ *
+ * - id 키셋(WHERE id > ? ORDER BY id LIMIT ?)으로 배치를 읽는다 → OFFSET/전체 스캔 없이 PK 범위만
+ * - 배치는 workers 개씩 병렬 처리하고, 배치마다 JDBC batch update (autocommit, 짧은 행 잠금만)
+ * - UPDATE 는 "email = 읽은 값" 조건을 붙여서, 그 사이 바뀐 행은 덮어쓰지 않는다
+ * - 한 웨이브가 끝날 때마다 마지막 id 를 Redis 에 체크포인트 → 재시작하면 이어서
+ * - Redis 락으로 여러 인스턴스 중 하나만 돈다
+ * 키링이 예전 키도 읽으므로 작업 도중에도 서비스는 그대로 동작한다 (점검 시간 불필요).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailReencryptionJob {
+
+    static final String CHECKPOINT_KEY_PREFIX = "crypto:reencrypt:student-email:v";
+    static final String LOCK_KEY = "crypto:reencrypt:student-email:lock";
+    static final String SELECT_SQL = "SELECT id, email FROM student WHERE id > ? ORDER BY id LIMIT ?";
+    static final String UPDATE_SQL = "UPDATE student SET email = ? WHERE id = ? AND email = ?";
+
+    private static final Duration LOCK_TTL = Duration.ofMinutes(2);
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(30);
+
+    // 내 락일 때만 연장/해제
+    private static final DefaultRedisScript<Long> REFRESH_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final AesGcmUtil aes;
+    private final EmailReencryptionProperties props;
+    private final String owner = UUID.randomUUID().toString();
+
+    record Row(long id, String email) {}
+
+    public record Result(boolean ran, long scanned, long updated, long failed, long lastId) {
+        static Result skipped() {
+            return new Result(false, 0, 0, 0, 0);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startIfEnabled() {
+        if (!props.isEnabled()) return;
+        Thread.ofPlatform().name("email-reencryption").daemon().start(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                // 체크포인트까지는 반영됐으므로 다음 기동 때 이어서 한다
+                log.error("이메일 재암호화 중단: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    public Result run() {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("이메일 재암호화: 다른 인스턴스가 실행 중이라 건너뜀");
+            return Result.skipped();
+        }
+
+        int workers = Math.max(1, props.getWorkers());
+        int batchSize = Math.max(1, props.getBatchSize());
+        String checkpointKey = CHECKPOINT_KEY_PREFIX + aes.currentVersion();
+        Pacer pacer = new Pacer(props.getMaxRowsPerSecond());
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            long lastId = readCheckpoint(checkpointKey);
+            long scanned = 0, updated = 0, failed = 0;
+            log.info("이메일 재암호화 시작: v{} 로, id > {} 부터", aes.currentVersion(), lastId);
+
+            boolean exhausted = false;
+            while (!exhausted) {
+                // 한 웨이브 = workers 개 배치. 읽기는 순서대로, 재암호화/업데이트는 병렬
+                List<Future<int[]>> wave = new ArrayList<>(workers);
+                for (int i = 0; i < workers; i++) {
+                    List<Row> rows = jdbcTemplate.query(SELECT_SQL,
+                            (rs, n) -> new Row(rs.getLong(1), rs.getString(2)), lastId, batchSize);
+                    if (rows.isEmpty()) {
+                        exhausted = true;
+                        break;
+                    }
+                    lastId = rows.get(rows.size() - 1).id();
+                    scanned += rows.size();
+                    pacer.acquire(rows.size());
+                    wave.add(pool.submit(() -> reencryptBatch(rows)));
+                    if (rows.size() < batchSize) {
+                        exhausted = true;
+                        break;
+                    }
+                }
+                if (wave.isEmpty()) break;
+
+                for (Future<int[]> f : wave) {
+                    int[] r = await(f);
+                    updated += r[0];
+                    failed += r[1];
+                }
+                // 웨이브 전체가 끝난 뒤에만 체크포인트 (중간에 죽으면 이 웨이브를 다시 하지만, 이미 바뀐 행은 건너뜀)
+                redisTemplate.opsForValue().set(checkpointKey, Long.toString(lastId), CHECKPOINT_TTL);
+                redisTemplate.execute(REFRESH_LOCK_SCRIPT, List.of(LOCK_KEY), owner, Long.toString(LOCK_TTL.toMillis()));
+            }
+
+            log.info("이메일 재암호화 완료: scanned={}, updated={}, failed={}, lastId={}", scanned, updated, failed, lastId);
+            return new Result(true, scanned, updated, failed, lastId);
+        } finally {
+            pool.shutdownNow();
+            try {
+                redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), owner);
+            } catch (DataAccessException e) {
+                log.warn("재암호화 락 해제 실패 (TTL 후 자동 해제): {}", e.getMessage());
+            }
+        }
+    }
+
+    /** @return {업데이트된 행 수, 실패한 행 수} */
+    int[] reencryptBatch(List<Row> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        int failed = 0;
+        for (Row row : rows) {
+            if (!aes.needsReencryption(row.email())) continue;
+            try {
+                args.add(new Object[]{aes.reencrypt(row.email()), row.id(), row.email()});
+            } catch (IllegalStateException e) {
+                // 키링에 없는 키 등: 이 행만 건너뛰고 계속 (다음 실행 때 다시 시도하려면 체크포인트 삭제)
+                failed++;
+                log.warn("학생 {} 이메일 재암호화 실패: {}", row.id(), e.getMessage());
+            }
+        }
+        if (args.isEmpty()) return new int[]{0, failed};
+
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_SQL, args)) {
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) updated++;
+        }
+        return new int[]{updated, failed};
+    }
+
+    private long readCheckpoint(String key) {
+        String value = redisTemplate.opsForValue().get(key);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private static int[] await(Future<int[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재암호화 작업이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 초당 행 수 상한. 처리할 행 수만큼 시간을 예약하고, 예약 시각이 미래면 그때까지 기다린다.
+     */
+    static final class Pacer {
+        private final long nanosPerRow;
+        private long next = Long.MIN_VALUE;
+
+        Pacer(int maxRowsPerSecond) {
+            this.nanosPerRow = maxRowsPerSecond <= 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / maxRowsPerSecond;
+        }
+
+        void acquire(int rows) {
+            long wait = reserve(rows, System.nanoTime());
+            if (wait <= 0) return;
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("재암호화 작업이 중단되었습니다", e);
+            }
+        }
+
+        /** rows 만큼 예약하고, 지금부터 기다려야 할 나노초를 돌려준다 */
+        long reserve(int rows, long now) {
+            if (nanosPerRow == 0) return 0;
+            long start = Math.max(next, now);
+            next = start + rows * nanosPerRow;
+            return start - now;
+        }
+    }
+}
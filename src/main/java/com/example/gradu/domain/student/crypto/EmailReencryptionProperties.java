@@ -0,0 +1,24 @@
+package com.example.gradu.domain.student.crypto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학생 이메일 재암호화 작업 설정 (app.crypto.reencrypt.*).
+ * 키를 교체한 뒤 enabled=true 로 띄우면 백그라운드에서 예전 키 값을 현재 키로 바꾼다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.crypto.reencrypt")
+public class EmailReencryptionProperties {
+    private boolean enabled = false;
+    // 한 번에 읽고 batch update 하는 행 수 (행 잠금은 이 배치 동안만)
+    private int batchSize = 500;
+    // 동시에 처리하는 배치 수
+    private int workers = 2;
+    // 초당 처리 행 수 상한 (0 이하면 제한 없음)
+    private int maxRowsPerSecond = 2000;
+}
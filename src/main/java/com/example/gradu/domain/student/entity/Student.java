@@ -1,8 +1,10 @@
 package com.example.gradu.domain.student.entity;
 
+import com.example.gradu.global.crypto.EncryptedString;
 import com.example.gradu.global.crypto.EncryptedStringConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,6 +14,7 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Builder
+@DynamicUpdate // ✅ 비밀번호 변경 등에서 email 을 읽어 온 암호문으로 되돌려 쓰지 않게 (재암호화 작업과 경합 방지)
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -22,9 +25,10 @@ public class Student {
 
     private String password;
 
+    // ✅ 암호문 그대로 들고 있다가 getEmail() 할 때만 복호화
     @Convert(converter = EncryptedStringConverter.class)
     @Column(nullable = false, unique = true)
-    private String email;
+    private EncryptedString email;
 
     @Column(name = "email_hash", nullable = false, unique = true)
     private String emailHash;
@@ -36,7 +40,18 @@ public class Student {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    public String getEmail() {
+        return email == null ? null : email.get();
+    }
+
     public void changePassword(String encodedPassword) {
         this.password = encodedPassword;
     }
+
+    public static class StudentBuilder {
+        public StudentBuilder email(String email) {
+            this.email = EncryptedString.of(email);
+            return this;
+        }
+    }
 }
@@ -2,10 +2,25 @@ package com.example.gradu.domain.student.repository;
 
 import com.example.gradu.domain.student.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
     boolean existsByEmailHash(String emailHash);
     Optional<Student> findByEmailHash(String emailHash);
+
+    // ✅ 해시 계산은 트랜잭션 밖에서 끝내고, 쓰기만 짧은 트랜잭션으로
+    @Transactional
+    @Modifying
+    @Query("update Student s set s.password = :password where s.id = :id")
+    int updatePassword(Long id, String password);
+
+    // 로그인 시 해시 교체: 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않는다
+    @Transactional
+    @Modifying
+    @Query("update Student s set s.password = :password where s.id = :id and s.password = :expected")
+    int updatePasswordIfUnchanged(Long id, String expected, String password);
 }
@@ -12,26 +12,34 @@ import com.example.gradu.global.crypto.Sha256;
 import com.example.gradu.global.exception.ErrorCode;
 import com.example.gradu.global.exception.auth.AuthException;
 import com.example.gradu.global.exception.student.StudentException;
+import com.example.gradu.global.security.jwt.AccessTokenRevocationList;
 import com.example.gradu.global.security.jwt.JwtTokenProvider;
 import com.example.gradu.global.security.jwt.RefreshTokenStore;
+import com.example.gradu.global.security.password.PasswordHashingService;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+/**
+ * 회원가입/로그인/비밀번호 재설정은 트랜잭션을 걸지 않는다.
+ * bcrypt 는 PasswordHashingService 풀에서 최대 max-wait 까지 기다릴 수 있으므로,
+ * 조회는 짧게 끝내 DB 커넥션을 돌려준 뒤 해시를 계산하고, 쓰기만 작은 트랜잭션으로 따로 한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class StudentService {
     private final StudentRepository studentRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenRevocationList accessTokenRevocationList;
     private final CurriculumService curriculumService;
     private final EmailVerificationService emailVerificationService;
     private final SummaryService summaryService;
     private final CourseService courseService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     public void register(String email, String password, String code) {
 
         String emailHash = Sha256.hash(email);
@@ -42,7 +50,8 @@ public class StudentService {
 
         emailVerificationService.verifyCodeOnly(email, code);
 
-        String encodedPassword = passwordEncoder.encode(password);
+        // ✅ 트랜잭션 밖에서 해시 (커넥션을 잡은 채 해시 풀을 기다리지 않도록)
+        String encodedPassword = passwordHashingService.encode(password);
 
         Student student = Student.builder()
                 .password(encodedPassword)
@@ -50,22 +59,28 @@ public class StudentService {
                 .emailHash(emailHash)
                 .build();
 
-        studentRepository.save(student);
-
-        curriculumService.initializeForStudent(student.getId());
+        transactionTemplate.executeWithoutResult(status -> {
+            studentRepository.save(student);
+            curriculumService.initializeForStudent(student.getId());
+        });
 
         emailVerificationService.consumeCode(email);
     }
 
-    @Transactional(readOnly = true)
     public LoginResponseDto login(String email, String rawPassword) {
         String emailHash = Sha256.hash(email);
+        // ✅ 조회 트랜잭션은 여기서 끝나고 커넥션을 돌려준다
         Student student = studentRepository.findByEmailHash(emailHash)
                 .orElseThrow(() -> new StudentException(ErrorCode.STUDENT_NOT_FOUND));
 
-        if (!passwordEncoder.matches(rawPassword, student.getPassword()))
+        var verification = passwordHashingService.verify(rawPassword, student.getPassword());
+        if (!verification.matches())
             throw new AuthException(ErrorCode.PASSWORD_MISMATCH);
 
+        // ✅ 해시 설정(cost/방식)이 바뀌었으면 로그인할 때 새 해시로 교체 (짧은 쓰기 트랜잭션)
+        if (verification.rehashed() != null)
+            studentRepository.updatePasswordIfUnchanged(student.getId(), student.getPassword(), verification.rehashed());
+
         Long id = student.getId();
         String accessToken = jwtTokenProvider.generateAccessToken(id);
         String refreshToken = jwtTokenProvider.generateRefreshToken(id);
@@ -81,20 +96,30 @@ public class StudentService {
 
         Long studentId = jwtTokenProvider.getStudentIdFromToken(refreshToken);
 
-        if (!refreshTokenStore.validate(refreshToken)){
+        // ✅ Redis 왕복 1회: 저장된 주인이 토큰 주인과 같아야 함 (폐기/만료면 null)
+        if (!studentId.equals(refreshTokenStore.findStudentId(refreshToken))){
             throw new AuthException(ErrorCode.TOKEN_INVALID);
         }
-        studentRepository.findById(studentId)
-                .orElseThrow(() -> new StudentException(ErrorCode.STUDENT_NOT_FOUND));
+        // ✅ 존재 여부만 확인 (행/암호화 컬럼을 읽지 않음)
+        if (!studentRepository.existsById(studentId)) {
+            throw new StudentException(ErrorCode.STUDENT_NOT_FOUND);
+        }
 
         return jwtTokenProvider.generateAccessToken(studentId);
     }
 
     public void logout(String refreshToken) {
-        if (!refreshTokenStore.validate(refreshToken)) {
+        Long studentId = refreshTokenStore.findStudentId(refreshToken);
+        if (studentId == null) {
             throw new AuthException(ErrorCode.TOKEN_INVALID);
         }
-        refreshTokenStore.remove(refreshToken);
+        refreshTokenStore.remove(refreshToken, studentId);
+    }
+
+    // ✅ 유효한 액세스 토큰이면 jti 를 남은 수명만큼 폐기 (유효하지 않으면 할 일 없음)
+    public void revokeAccessToken(String accessToken) {
+        jwtTokenProvider.authenticate(accessToken)
+                .ifPresent(verified -> accessTokenRevocationList.revoke(verified.jti(), verified.expiresAt()));
     }
 
     @Transactional
@@ -103,9 +128,11 @@ public class StudentService {
             if (!refreshTokenStore.validate(refreshToken)) {
                 throw new AuthException(ErrorCode.TOKEN_INVALID);
             }
-            refreshTokenStore.remove(refreshToken);
         }
 
+        // ✅ 다른 기기의 세션까지 전부 폐기
+        refreshTokenStore.revokeAll(studentId);
+
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new StudentException(ErrorCode.STUDENT_NOT_FOUND));
 
@@ -116,18 +143,18 @@ public class StudentService {
         studentRepository.delete(student);
     }
 
-    @Transactional
     public void resetPassword(PasswordResetRequestDto req) {
         emailVerificationService.verifyCodeOnly(req.email(), req.code());
 
         Student student = studentRepository.findByEmailHash(Sha256.hash(req.email()))
                 .orElseThrow(() -> new StudentException(ErrorCode.STUDENT_NOT_FOUND));
 
-        if (passwordEncoder.matches(req.newPassword(), student.getPassword())) {
+        if (passwordHashingService.matches(req.newPassword(), student.getPassword())) {
             throw new StudentException(ErrorCode.SAME_PASSWORD_NOT_ALLOWED);
         }
 
-        student.changePassword(passwordEncoder.encode(req.newPassword()));
+        studentRepository.updatePassword(student.getId(), passwordHashingService.encode(req.newPassword()));
+        refreshTokenStore.revokeAll(student.getId());
 
         emailVerificationService.consumeCode(req.email());
     }
@@ -0,0 +1,71 @@
+package com.example.gradu.global.client;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 기반 서킷 브레이커.
+ * CLOSED --(연속 실패 threshold)--> OPEN --(openDuration 경과)--> HALF_OPEN(시험 호출 1건)
+ * 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN.
+ * 성공/실패 어느 쪽도 아닌 채로 끝난 시험 호출은 release() 로 자리만 돌려준다 (안 그러면 HALF_OPEN 에서 영원히 거절).
+ */
+class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+    private boolean probing;
+    private Thread prober;
+
+    CircuitBreaker(int failureThreshold, long openNanos, LongSupplier nanoClock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) return false;
+            state = State.HALF_OPEN;
+            probing = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probing) return false;
+            probing = true;
+            prober = Thread.currentThread();
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+        probing = false;
+    }
+
+    /** 이 스레드가 잡은 시험 호출 자리가 남아 있으면 반납 (결과는 세지 않는다) */
+    synchronized void release() {
+        if (state == State.HALF_OPEN && probing && prober == Thread.currentThread()) {
+            probing = false;
+            prober = null;
+        }
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN || ++failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+            failures = 0;
+            probing = false;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
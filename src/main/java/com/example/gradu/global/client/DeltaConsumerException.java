@@ -0,0 +1,17 @@
+package com.example.gradu.global.client;
+
+/**
+ * 스트림 조각을 받는 쪽(onDelta)에서 난 예외를 감싼 것.
+ * 브라우저 탭 종료(SseEmitter.send 실패), SSE 만료 등은 상대 서버 문제가 아니므로
+ * OpenAiCallGuard 가 재시도/서킷 브레이커 집계 없이 원래 예외로 풀어서 다시 던진다.
+ */
+final class DeltaConsumerException extends RuntimeException {
+
+    DeltaConsumerException(RuntimeException cause) {
+        super(cause.getMessage(), cause, false, false);
+    }
+
+    RuntimeException unwrap() {
+        return (RuntimeException) getCause();
+    }
+}
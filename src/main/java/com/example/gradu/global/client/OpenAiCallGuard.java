@@ -0,0 +1,263 @@
+package com.example.gradu.global.client;
+
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ai.AIException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * AI 호출 보호막: 벌크헤드 → 서킷 브레이커 → 재시도(지수 백오프 + 지터, Retry-After 우선) → 전체 마감.
+ *
+ * RestTemplate 인터셉터로 만들지 않은 이유: 인터셉터는 요청 본문을 byte[] 로 버퍼링하므로
+ * OpenAiClient 의 스트리밍 본문(이미지 Base64 직접 쓰기)이 깨진다. 대신 execute 호출 자체를 감싼다.
+ *
+ * 재시도 대상: 429, 5xx, 연결/타임아웃 오류. 그 외 4xx 는 요청 문제라 바로 실패.
+ * 전체 마감: 각 시도는 남은 시간이 지나면 호출 스레드를 인터럽트해 끊고(JDK HttpClient 는 인터럽트에 응답),
+ *           남은 시간이 read-timeout 한 번보다 짧으면 재시도하지 않는다.
+ * 지표: openai.http.requests{outcome} (타이머), openai.http.retries, openai.http.rejected{reason},
+ *       openai.http.circuit.state (0=CLOSED, 1=OPEN, 2=HALF_OPEN), openai.http.bulkhead.in_use
+ */
+@Slf4j
+@Component
+public class OpenAiCallGuard {
+
+    interface Sleeper {
+        void sleep(Duration duration) throws InterruptedException;
+    }
+
+    private final OpenAiHttpProperties props;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker breaker;
+    private final Sleeper sleeper;
+    private final LongSupplier nanoClock;
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("openai-deadline").daemon().factory());
+
+    private final Counter retries;
+    private final Counter rejectedCircuit;
+    private final Counter rejectedBulkhead;
+
+    @Autowired
+    public OpenAiCallGuard(OpenAiHttpProperties props, MeterRegistry meterRegistry) {
+        this(props, meterRegistry, d -> TimeUnit.NANOSECONDS.sleep(d.toNanos()), System::nanoTime);
+    }
+
+    OpenAiCallGuard(OpenAiHttpProperties props, MeterRegistry meterRegistry, Sleeper sleeper, LongSupplier nanoClock) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(props.getMaxConcurrent());
+        this.breaker = new CircuitBreaker(props.getFailureThreshold(), props.getOpenDuration().toNanos(), nanoClock);
+        this.sleeper = sleeper;
+        this.nanoClock = nanoClock;
+
+        this.retries = meterRegistry.counter("openai.http.retries");
+        this.rejectedCircuit = meterRegistry.counter("openai.http.rejected", "reason", "circuit_open");
+        this.rejectedBulkhead = meterRegistry.counter("openai.http.rejected", "reason", "bulkhead_full");
+        Gauge.builder("openai.http.circuit.state", breaker, b -> b.state().ordinal()).register(meterRegistry);
+        Gauge.builder("openai.http.bulkhead.in_use", bulkhead,
+                s -> props.getMaxConcurrent() - s.availablePermits()).register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> request) {
+        if (!acquireBulkhead()) {
+            rejectedBulkhead.increment();
+            throw new AIException(ErrorCode.AI_CAPTURE_BUSY);
+        }
+        try {
+            if (!breaker.tryAcquire()) {
+                rejectedCircuit.increment();
+                throw new AIException(ErrorCode.AI_UPSTREAM_UNAVAILABLE);
+            }
+            try {
+                return callWithRetry(request);
+            } finally {
+                // 성공/실패로 정리되지 않은 채 빠져나가도 HALF_OPEN 시험 호출 자리는 돌려준다
+                breaker.release();
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    private <T> T callWithRetry(Supplier<T> request) {
+        long deadline = nanoClock.getAsLong() + props.getTotalTimeout().toNanos();
+
+        for (int attempt = 1; ; attempt++) {
+            long start = nanoClock.getAsLong();
+            Duration retryAfter = null;
+            String outcome;
+            RuntimeException failure;
+
+            // ✅ 이미 진행 중인 시도도 전체 마감을 넘기지 않게 (응답 본문/스트림 읽기는 read-timeout 이 못 막는다)
+            AttemptTimer timer = new AttemptTimer(deadline - start);
+            try (timer) {
+                T result = request.get();
+                record("success", start);
+                breaker.onSuccess();
+                return result;
+            } catch (RestClientResponseException e) {
+                HttpStatusCode status = e.getStatusCode();
+                outcome = status.value() == 429 ? "rate_limited"
+                        : status.is5xxServerError() ? "server_error" : "client_error";
+                retryAfter = retryAfter(e.getResponseHeaders());
+                failure = e;
+            } catch (ResourceAccessException e) {
+                outcome = timer.timedOut() || isTimeout(e) ? "timeout" : "io_error";
+                failure = e;
+            } catch (DeltaConsumerException e) {
+                // ✅ 받는 쪽 문제(탭 닫힘, SSE 만료 등): 상대 서버는 정상 → 재시도/브레이커 집계 없이 원래 예외로
+                record("consumer_error", start);
+                throw e.unwrap();
+            } catch (RuntimeException e) {
+                // 응답 처리 중 오류 (스트리밍 중 끊김/파싱 실패 등): 재시도 없이 그대로, 시험 호출 자리도 풀어준다
+                record("error", start);
+                breaker.onFailure();
+                throw e;
+            }
+            record(outcome, start);
+
+            // ✅ 그 외 4xx 는 상대 서버는 정상 → 브레이커에 실패로 세지 않는다
+            if (outcome.equals("client_error")) {
+                breaker.onSuccess();
+                throw upstreamFailed(outcome, attempt, failure);
+            }
+            breaker.onFailure();
+
+            if (attempt >= props.getMaxAttempts() || breaker.state() == CircuitBreaker.State.OPEN) {
+                throw upstreamFailed(outcome, attempt, failure);
+            }
+            Duration delay = retryAfter != null ? retryAfter : backoff(attempt);
+            // 다음 시도가 read-timeout 만큼 기다릴 시간도 없으면 재시도하지 않는다
+            if (nanoClock.getAsLong() + delay.toNanos() + props.getReadTimeout().toNanos() > deadline) {
+                throw upstreamFailed(outcome, attempt, failure);
+            }
+
+            retries.increment();
+            try {
+                sleeper.sleep(delay);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw upstreamFailed(outcome, attempt, failure);
+            }
+        }
+    }
+
+    // 지수 백오프 + equal jitter: [base/2, base]
+    Duration backoff(int attempt) {
+        long initial = props.getInitialBackoff().toMillis();
+        long max = props.getMaxBackoff().toMillis();
+        long base = Math.min(max, initial << Math.min(attempt - 1, 20));
+        long half = base / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(base - half + 1));
+    }
+
+    // Retry-After: 초 또는 HTTP 날짜
+    static Duration retryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignore) {
+            // 날짜 형식일 수 있음
+        }
+        try {
+            Instant at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration d = Duration.between(Instant.now(), at);
+            return d.isNegative() ? Duration.ZERO : d;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(props.getBulkheadWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isTimeout(ResourceAccessException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof HttpTimeoutException || t instanceof SocketTimeoutException) return true;
+        }
+        return false;
+    }
+
+    private void record(String outcome, long startNanos) {
+        Timer.builder("openai.http.requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(nanoClock.getAsLong() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 시도 하나의 마감 타이머. 시간이 지나면 호출 스레드를 인터럽트하고,
+     * close() 에서 타이머가 남긴 인터럽트 표시를 지운다 (스레드를 계속 쓰는 호출 측에 새지 않게).
+     */
+    private final class AttemptTimer implements AutoCloseable {
+        private final Thread caller = Thread.currentThread();
+        private final ScheduledFuture<?> task;
+        private boolean done;
+        private boolean timedOut;
+
+        AttemptTimer(long timeoutNanos) {
+            this.task = watchdog.schedule(this::expire, Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+        }
+
+        private synchronized void expire() {
+            if (done) return;
+            timedOut = true;
+            caller.interrupt();
+        }
+
+        synchronized boolean timedOut() {
+            return timedOut;
+        }
+
+        @Override
+        public synchronized void close() {
+            done = true;
+            task.cancel(false);
+            if (timedOut) Thread.interrupted();
+        }
+    }
+
+    private static AIException upstreamFailed(String outcome, int attempts, RuntimeException cause) {
+        log.warn("AI 호출 실패: outcome={}, attempts={}, cause={}", outcome, attempts, cause.getMessage());
+        return new AIException(ErrorCode.AI_CAPTURE_FAILED);
+    }
+}
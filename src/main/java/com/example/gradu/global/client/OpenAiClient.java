@@ -1,38 +1,48 @@
 package com.example.gradu.global.client;
 
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
 import com.example.gradu.domain.capture_ai.dto.OpenAiResponseDto;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ai.AIException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpMessageConverterExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
+/**
+ * 요청 본문을 Map → Jackson 버퍼로 만들지 않고 커넥션에 바로 흘려 쓴다.
+ *
+ * - 모델명/프롬프트가 들어간 앞부분 JSON 은 생성 시 한 번만 직렬화해 둔다
+ * - 이미지는 InputStream → Base64 인코딩 스트림 → 커넥션 으로 복사 (base64 String/data URL 문자열을 만들지 않음)
+ * - 본문 길이를 미리 계산해 Content-Length 고정 길이 스트리밍으로 보낸다
+ *
+ * 이미지 수와 무관하게 요청당 추가 힙은 복사 버퍼 정도로 일정하다.
+ * 재시도 시에도 본문은 이미지 바이트에서 다시 흘려 쓰므로 그대로 재전송된다 (OpenAiCallGuard).
+ */
 @Component
 public class OpenAiClient {
-    private final String apiKey;
-    private final String apiUrl;
-    private final String modelName;
-    private final RestTemplate restTemplate;
-
-    public OpenAiClient(@Value("${openai.api.key}") String apiKey,
-                        @Value("${openai.api.url}") String apiUrl,
-                        @Value("${openai.api.model}") String modelName,
-                            RestTemplate restTemplate) {
-        this.apiKey = apiKey;
-        this.apiUrl = apiUrl;
-        this.modelName = modelName;
-        this.restTemplate = restTemplate;
-    }
-
-    public String analyzeCourseImages(List<String> base64Images) {
 
-        var content = new java.util.ArrayList<Map<String, Object>>();
-
-        // 텍스트 블록
-        content.add(
-                Map.of("type", "text", "text",
+    private static final String CAPTURE_PROMPT =
                         """
                         너는 졸업심사 성적표를 분석하는 OCR AI야.
         
@@ -114,37 +124,46 @@ public class OpenAiClient {
                             "term": "1"
                           }
                         ]
-                        """
-                )
-        );
+                        """;
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
-        content.addAll(createImageBlocks(base64Images));
+    // JSON 문자열에 그대로 넣어도 되는 MIME 만 허용
+    private static final Pattern SAFE_MIME = Pattern.compile("image/[a-z0-9.+-]+");
 
-        Map<String, Object> requestBody = Map.of(
-                "model", modelName,
-                "messages", List.of(
-                        Map.of(
-                                "role", "user",
-                                "content", content
-                        )
-                )
-        );
+    private static final byte[] IMAGE_OPEN = ascii(",{\"type\":\"image_url\",\"image_url\":{\"url\":\"data:");
+    private static final byte[] BASE64_MARK = ascii(";base64,");
+    private static final byte[] IMAGE_CLOSE = ascii("\"}}");
+    private static final byte[] SUFFIX = ascii("]}]}");
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
+    private final String apiKey;
+    private final String apiUrl;
+    private final RestTemplate restTemplate;
+    private final OpenAiCallGuard callGuard;
+    private final byte[] prefix;
+    private final byte[] streamPrefix;
 
-        HttpEntity<?> request = new HttpEntity<>(requestBody, headers);
+    public OpenAiClient(@Value("${openai.api.key}") String apiKey,
+                        @Value("${openai.api.url}") String apiUrl,
+                        @Value("${openai.api.model}") String modelName,
+                        @Qualifier("openAiRestTemplate") RestTemplate restTemplate,
+                        OpenAiCallGuard callGuard) {
+        this.apiKey = apiKey;
+        this.apiUrl = apiUrl;
+        this.restTemplate = restTemplate;
+        this.callGuard = callGuard;
+        this.prefix = serializePrefix(modelName, false);
+        this.streamPrefix = serializePrefix(modelName, true);
+    }
 
-        ResponseEntity<OpenAiResponseDto> response = restTemplate.exchange(
+    public String analyzeCourseImages(List<CaptureImage> images) {
+
+        OpenAiResponseDto body = callGuard.call(() -> restTemplate.execute(
                 apiUrl,
                 HttpMethod.POST,
-                request,
-                OpenAiResponseDto.class
-        );
-
-        OpenAiResponseDto body = response.getBody();
+                request -> writeRequest(request, images, prefix),
+                new HttpMessageConverterExtractor<>(OpenAiResponseDto.class, restTemplate.getMessageConverters())
+        ));
 
         if (body == null || body.choices().isEmpty()) {
             throw new IllegalStateException("OpenAI 응답이 비어 있습니다.");
@@ -156,14 +175,136 @@ public class OpenAiClient {
                 .content();
     }
 
-    private List<Map<String, Object>> createImageBlocks(List<String> base64Images) {
-        return base64Images.stream()
-                .map(img -> Map.of(
-                        "type", "image_url",
-                        "image_url", Map.of(
-                                "url", "data:image/png;base64," + img
-                        )
-                ))
-                .toList();
+    /**
+     * stream=true 모드: 응답을 SSE 조각(data: {...})으로 받아 content 조각이 올 때마다 onDelta 로 넘긴다.
+     * 이미 조각을 넘긴 뒤에 끊기면 재시도하지 않는다 (받는 쪽에 같은 행이 중복으로 나가므로).
+     * onDelta 가 던진 예외는 그대로 전파되고 서킷 브레이커에는 세지 않는다.
+     */
+    public void streamCourseImages(List<CaptureImage> images, Consumer<String> onDelta) {
+        AtomicBoolean emitted = new AtomicBoolean();
+
+        callGuard.call(() -> restTemplate.execute(
+                apiUrl,
+                HttpMethod.POST,
+                request -> {
+                    request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                    writeRequest(request, images, streamPrefix);
+                },
+                response -> {
+                    try {
+                        readEvents(response.getBody(), delta -> {
+                            emitted.set(true);
+                            try {
+                                onDelta.accept(delta);
+                            } catch (RuntimeException e) {
+                                // 받는 쪽 실패는 상대 서버 실패로 세지 않는다 (OpenAiCallGuard 에서 풀어서 다시 던짐)
+                                throw new DeltaConsumerException(e);
+                            }
+                        });
+                    } catch (IOException e) {
+                        if (emitted.get()) throw new AIException(ErrorCode.AI_CAPTURE_FAILED);
+                        throw e;
+                    }
+                    return null;
+                }
+        ));
+    }
+
+    // data: {"choices":[{"delta":{"content":"..."}}]} ... data: [DONE]
+    void readEvents(InputStream body, Consumer<String> onDelta) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith("data:")) continue;
+            String data = line.substring(5).trim();
+            if (data.equals("[DONE]")) return;
+
+            JsonNode content = MAPPER.readTree(data).path("choices").path(0).path("delta").path("content");
+            if (content.isTextual() && !content.asText().isEmpty()) onDelta.accept(content.asText());
+        }
+    }
+
+    private void writeRequest(ClientHttpRequest request, List<CaptureImage> images, byte[] head) throws IOException {
+        HttpHeaders headers = request.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+        headers.setContentLength(contentLength(images, head));
+
+        if (request instanceof StreamingHttpOutputMessage streaming) {
+            streaming.setBody(out -> writeRequestBody(out, images, head));
+        } else {
+            writeRequestBody(request.getBody(), images, head);
+        }
+    }
+
+    // {"model":"..","messages":[{"role":"user","content":[{"type":"text","text":".."} ,{image}... ]}]}
+    void writeRequestBody(OutputStream out, List<CaptureImage> images) throws IOException {
+        writeRequestBody(out, images, prefix);
+    }
+
+    private void writeRequestBody(OutputStream out, List<CaptureImage> images, byte[] head) throws IOException {
+        out.write(head);
+        for (CaptureImage img : images) {
+            out.write(IMAGE_OPEN);
+            out.write(ascii(mimeType(img)));
+            out.write(BASE64_MARK);
+            // ✅ close() 는 base64 패딩만 마무리하고 커넥션 스트림은 닫지 않는다
+            try (InputStream in = img.openStream();
+                 OutputStream b64 = Base64.getEncoder().wrap(nonClosing(out))) {
+                in.transferTo(b64);
+            }
+            out.write(IMAGE_CLOSE);
+        }
+        out.write(SUFFIX);
+        out.flush();
+    }
+
+    long contentLength(List<CaptureImage> images) {
+        return contentLength(images, prefix);
+    }
+
+    private static long contentLength(List<CaptureImage> images, byte[] head) {
+        long length = head.length + SUFFIX.length;
+        for (CaptureImage img : images) {
+            length += IMAGE_OPEN.length + mimeType(img).length() + BASE64_MARK.length + IMAGE_CLOSE.length;
+            length += 4L * ((img.bytes().length + 2) / 3);
+        }
+        return length;
+    }
+
+    private static byte[] serializePrefix(String modelName, boolean stream) {
+        try {
+            String json = "{\"model\":" + MAPPER.writeValueAsString(modelName)
+                    + (stream ? ",\"stream\":true" : "")
+                    + ",\"messages\":[{\"role\":\"user\",\"content\":[{\"type\":\"text\",\"text\":"
+                    + MAPPER.writeValueAsString(CAPTURE_PROMPT) + "}";
+            return json.getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ✅ 전처리로 JPEG 가 될 수 있으므로 실제 형식으로 보낸다
+    private static String mimeType(CaptureImage img) {
+        String type = img.contentType();
+        return (type == null || !SAFE_MIME.matcher(type).matches()) ? "image/png" : type;
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static OutputStream nonClosing(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
     }
 }
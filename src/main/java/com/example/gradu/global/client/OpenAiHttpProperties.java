@@ -0,0 +1,34 @@
+package com.example.gradu.global.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** AI 호출 전용 HTTP 설정 (openai.http.*) */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openai.http")
+public class OpenAiHttpProperties {
+    private boolean http2 = true;
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    // 응답 헤더까지 (이미지 분석은 수십 초 걸릴 수 있음)
+    private Duration readTimeout = Duration.ofSeconds(60);
+    // 재시도 포함 전체 마감
+    private Duration totalTimeout = Duration.ofSeconds(90);
+
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofMillis(500);
+    private Duration maxBackoff = Duration.ofSeconds(8);
+
+    // 벌크헤드: 동시에 나갈 수 있는 호출 수 / 자리 대기 시간
+    private int maxConcurrent = 8;
+    private Duration bulkheadWait = Duration.ofSeconds(2);
+
+    // 서킷 브레이커: 연속 실패 N번이면 openDuration 동안 바로 거절, 이후 1건만 시험 호출
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(30);
+}
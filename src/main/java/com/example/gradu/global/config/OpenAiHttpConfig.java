@@ -0,0 +1,37 @@
+package com.example.gradu.global.config;
+
+import com.example.gradu.global.client.OpenAiHttpProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
+/**
+ * AI 호출 전용 HTTP 클라이언트.
+ *
+ * 기본 RestTemplate(SimpleClientHttpRequestFactory)은 풀링/타임아웃이 없어 상대가 멈추면 스레드가 무기한 묶인다.
+ * JDK HttpClient 는 keep-alive 커넥션 풀과 HTTP/2 (하나의 커넥션에 다중 요청)를 기본 제공한다.
+ * (풀 크기/유휴 시간은 JVM 옵션 jdk.httpclient.connectionPoolSize, jdk.httpclient.keepalive.timeout)
+ */
+@Configuration
+public class OpenAiHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    public HttpClient openAiHttpClient(OpenAiHttpProperties props) {
+        return HttpClient.newBuilder()
+                .version(props.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(props.getConnectTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public RestTemplate openAiRestTemplate(HttpClient openAiHttpClient, OpenAiHttpProperties props) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(openAiHttpClient);
+        factory.setReadTimeout(props.getReadTimeout());
+        return new RestTemplate(factory);
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.gradu.global.config;
 
+import com.example.gradu.global.security.jwt.AccessTokenRevocationList;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -17,4 +20,16 @@ public class RedisConfig {
         template.setValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    // ✅ 액세스 토큰 폐기 전파 (각 노드의 로컬 폐기 목록 갱신)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            AccessTokenRevocationList revocationList
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(revocationList, new ChannelTopic(AccessTokenRevocationList.CHANNEL));
+        return container;
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.gradu.global.config;
+
+import com.example.gradu.global.security.StudentAccessInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final StudentAccessInterceptor studentAccessInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 모든 경로에 등록: 기동 시 검증한 @CheckStudentAccess 핸들러가 어느 경로에 있든 빠짐없이 검사
+        // (어노테이션 없는 핸들러는 메서드별로 캐시된 판정으로 바로 통과)
+        registry.addInterceptor(studentAccessInterceptor).addPathPatterns("/**");
+    }
+}
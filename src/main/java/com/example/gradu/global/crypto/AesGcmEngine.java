@@ -0,0 +1,163 @@
+package com.example.gradu.global.crypto;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AES-256-GCM 문자열 암복호화 (Spring 없이도 쓸 수 있는 순수 엔진, 스레드 안전).
+ *
+ * 저장 형식: "v{키 버전}:" + Base64(IV 12바이트 | 암호문 + 태그)
+ * - 헤더 없는 값은 예전 형식 → legacyVersion 키로 복호화 (키 교체 전 데이터)
+ * - 복호화는 키링의 아무 버전으로나, 암호화는 항상 currentVersion 으로 (needsReencryption/reencrypt 로 교체)
+ * - Cipher 는 공유 풀에서 꺼내 쓰고 돌려준다 (getInstance 는 프로바이더 조회라 비쌈)
+ *   ThreadLocal 대신 풀: 가상 스레드에서 호출돼도 재사용된다
+ * - 미리 크기를 맞춘 버퍼에 doFinal(in, off, len, out, off) 로 바로 쓴다 (암호문/IV 분리 복사 없음)
+ */
+public final class AesGcmEngine {
+
+    private static final String ALGO = "AES";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int GCM_TAG_BITS = 128;
+    private static final int IV_LENGTH = 12;
+    private static final int MAX_POOLED = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final Map<Integer, SecretKeySpec> keys;
+    private final int currentVersion;
+    private final int legacyVersion;
+    private final String currentHeader;
+
+    private final ConcurrentLinkedQueue<Cipher> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * @param keys           버전 → AES 키 (16/24/32 바이트)
+     * @param currentVersion 새로 암호화할 때 쓰는 버전
+     * @param legacyVersion  헤더 없는 예전 값을 풀 때 쓰는 버전
+     */
+    public AesGcmEngine(Map<Integer, byte[]> keys, int currentVersion, int legacyVersion) {
+        Map<Integer, SecretKeySpec> specs = new HashMap<>();
+        keys.forEach((version, key) -> specs.put(version, new SecretKeySpec(key, ALGO)));
+        if (!specs.containsKey(currentVersion) || !specs.containsKey(legacyVersion)) {
+            throw new IllegalArgumentException("AES 키 버전이 없습니다: current=" + currentVersion + ", legacy=" + legacyVersion);
+        }
+        this.keys = Map.copyOf(specs);
+        this.currentVersion = currentVersion;
+        this.legacyVersion = legacyVersion;
+        this.currentHeader = header(currentVersion);
+    }
+
+    public String encrypt(String plain) {
+        if (plain == null || plain.isBlank()) return plain;
+
+        byte[] input = plain.getBytes(StandardCharsets.UTF_8);
+        Cipher cipher = borrow();
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            cipher.init(Cipher.ENCRYPT_MODE, keys.get(currentVersion), new GCMParameterSpec(GCM_TAG_BITS, iv));
+
+            // [IV | 암호문 + 태그] 를 한 버퍼에: 암호문은 IV 뒤에 바로 쓴다
+            byte[] out = new byte[IV_LENGTH + cipher.getOutputSize(input.length)];
+            System.arraycopy(iv, 0, out, 0, IV_LENGTH);
+            int written = cipher.doFinal(input, 0, input.length, out, IV_LENGTH);
+            if (written != out.length - IV_LENGTH) throw new IllegalStateException("AES 출력 길이 불일치");
+            return currentHeader + Base64.getEncoder().encodeToString(out);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES encrypt 실패", e);
+        } finally {
+            release(cipher);
+        }
+    }
+
+    public String decrypt(String stored) {
+        if (stored == null || stored.isBlank()) return stored;
+
+        int version = versionOf(stored);
+        SecretKeySpec key = keys.get(version);
+        Cipher cipher = borrow();
+        try {
+            if (key == null) throw new IllegalStateException("알 수 없는 AES 키 버전: " + version);
+            byte[] all = Base64.getDecoder().decode(payloadOf(stored));
+            if (all.length < IV_LENGTH + GCM_TAG_BITS / 8) throw new IllegalStateException("암호문 길이가 너무 짧습니다");
+
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_BITS, all, 0, IV_LENGTH));
+            // 같은 배열에 평문을 덮어쓴다 (Cipher.doFinal 은 입출력이 겹쳐도 안전)
+            int n = cipher.doFinal(all, IV_LENGTH, all.length - IV_LENGTH, all, 0);
+            return new String(all, 0, n, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException | IllegalStateException e) {
+            throw new IllegalStateException("AES decrypt 실패", e);
+        } finally {
+            release(cipher);
+        }
+    }
+
+    /** 저장된 값의 키 버전 (헤더가 없으면 legacyVersion) */
+    public int versionOf(String stored) {
+        if (stored.length() < 3 || stored.charAt(0) != 'v') return legacyVersion;
+        int colon = stored.indexOf(':');
+        if (colon < 2 || colon > 11) return legacyVersion;
+        int version = 0;
+        for (int i = 1; i < colon; i++) {
+            char ch = stored.charAt(i);
+            if (ch < '0' || ch > '9') return legacyVersion;
+            version = version * 10 + (ch - '0');
+        }
+        return version;
+    }
+
+    public int currentVersion() {
+        return currentVersion;
+    }
+
+    /** 헤더 없는 예전 형식이거나 현재가 아닌 키 버전이면 true */
+    public boolean needsReencryption(String stored) {
+        if (stored == null || stored.isBlank()) return false;
+        return stored.indexOf(':') < 0 || versionOf(stored) != currentVersion;
+    }
+
+    /** 아는 키로 풀어서 현재 키로 다시 암호화 */
+    public String reencrypt(String stored) {
+        return needsReencryption(stored) ? encrypt(decrypt(stored)) : stored;
+    }
+
+    private String payloadOf(String stored) {
+        // Base64 에는 ':' 가 없으므로 콜론이 있으면 헤더
+        int colon = stored.indexOf(':');
+        return colon < 0 ? stored : stored.substring(colon + 1);
+    }
+
+    private static String header(int version) {
+        return "v" + version + ":";
+    }
+
+    private Cipher borrow() {
+        Cipher cipher = pool.poll();
+        if (cipher != null) {
+            pooled.decrementAndGet();
+            return cipher;
+        }
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES Cipher 생성 실패", e);
+        }
+    }
+
+    private void release(Cipher cipher) {
+        if (pooled.incrementAndGet() <= MAX_POOLED) {
+            pool.offer(cipher);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+}
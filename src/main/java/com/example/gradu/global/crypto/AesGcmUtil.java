@@ -1,80 +1,69 @@
 package com.example.gradu.global.crypto;
 
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.Cipher;
-import javax.crypto.spec.GCMParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-import java.security.SecureRandom;
-import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * 이메일 등 암호화 컬럼용 AES-GCM (실제 처리는 AesGcmEngine).
+ * 새 값은 "v{버전}:" 헤더를 붙여 현재 키로 저장하고, 키링에 있는 예전 키로 암호화된 값도 읽는다.
+ */
 @Component
 public class AesGcmUtil {
 
-    private static final String ALGO = "AES";
-    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
-    private static final int GCM_TAG_LENGTH = 128;   // bits
-    private static final int IV_LENGTH = 12;         // bytes
-
     @Value("${app.crypto.email-key}")
     private String keyString;
 
-    private SecretKeySpec keySpec;
-    private final SecureRandom random = new SecureRandom();
+    // 현재 키의 버전 (키를 바꿀 때 올린다)
+    @Value("${app.crypto.email-key-version:1}")
+    private int keyVersion = 1;
+
+    @Autowired(required = false)
+    private CryptoKeyringProperties keyring;
+
+    private AesGcmEngine engine;
 
     @PostConstruct
     void init() {
-        byte[] keyBytes = hexToBytes(keyString.trim());
-        this.keySpec = new SecretKeySpec(keyBytes, ALGO);
+        Map<Integer, byte[]> keys = new HashMap<>();
+        int legacyVersion = keyVersion;
+        if (keyring != null) {
+            keyring.getPreviousKeys().forEach((version, hex) -> keys.put(version, hexToBytes(hex.trim())));
+            legacyVersion = keyring.getLegacyVersion();
+        }
+        keys.put(keyVersion, hexToBytes(keyString.trim()));
+        // 예전 키가 없으면 헤더 없는 값도 지금 키로 암호화된 것
+        if (!keys.containsKey(legacyVersion)) legacyVersion = keyVersion;
+        this.engine = new AesGcmEngine(keys, keyVersion, legacyVersion);
     }
 
     public String encrypt(String plain) {
-        if (plain == null || plain.isBlank()) return plain;
-
-        try {
-            byte[] iv = new byte[IV_LENGTH];
-            random.nextBytes(iv);
-
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec spec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec, spec);
-            byte[] enc = cipher.doFinal(plain.getBytes(StandardCharsets.UTF_8));
-
-            // [IV + CipherText] 를 Base64 로 인코딩
-            byte[] res = new byte[iv.length + enc.length];
-            System.arraycopy(iv, 0, res, 0, iv.length);
-            System.arraycopy(enc, 0, res, iv.length, enc.length);
-
-            return Base64.getEncoder().encodeToString(res);
-        } catch (Exception e) {
-            throw new IllegalStateException("AES encrypt 실패", e);
-        }
+        return engine.encrypt(plain);
     }
 
     public String decrypt(String cipherText) {
-        if (cipherText == null || cipherText.isBlank()) return cipherText;
+        return engine.decrypt(cipherText);
+    }
 
-        try {
-            byte[] all = Base64.getDecoder().decode(cipherText);
-            byte[] iv = new byte[IV_LENGTH];
-            byte[] enc = new byte[all.length - IV_LENGTH];
-            System.arraycopy(all, 0, iv, 0, IV_LENGTH);
-            System.arraycopy(all, IV_LENGTH, enc, 0, enc.length);
+    /** 현재 키가 아닌 키(또는 헤더 없는 예전 형식)로 저장된 값인지 */
+    public boolean needsReencryption(String stored) {
+        return engine.needsReencryption(stored);
+    }
 
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec spec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, keySpec, spec);
-            byte[] plain = cipher.doFinal(enc);
-            return new String(plain, StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            throw new IllegalStateException("AES decrypt 실패", e);
-        }
+    /** 예전 키로 저장된 값을 현재 키로 다시 암호화 */
+    public String reencrypt(String stored) {
+        return engine.reencrypt(stored);
+    }
+
+    public int currentVersion() {
+        return engine.currentVersion();
     }
 
-    private static byte[] hexToBytes(String hex) {
+    static byte[] hexToBytes(String hex) {
         int len = hex.length();
         byte[] res = new byte[len / 2];
         for (int i = 0; i < len; i += 2) {
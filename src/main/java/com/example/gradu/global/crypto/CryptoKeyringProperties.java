@@ -0,0 +1,27 @@
+package com.example.gradu.global.crypto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 키 교체용 키링 (app.crypto.keyring.*).
+ *
+ * 현재 키는 그대로 app.crypto.email-key / email-key-version.
+ * 교체할 때: 예전 키를 previous-keys 로 옮기고, 새 키를 email-key 에 넣고, email-key-version 을 올린다.
+ * → 새 값은 새 키로, 예전 값은 previous-keys 로 읽힌다. 재암호화 작업이 끝나면 예전 키를 지운다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.crypto.keyring")
+public class CryptoKeyringProperties {
+    // 복호화 전용 예전 키: 버전 → hex
+    private Map<Integer, String> previousKeys = new HashMap<>();
+    // "v{n}:" 헤더가 없는 값(버전 도입 전)을 암호화한 키 버전
+    private int legacyVersion = 1;
+}
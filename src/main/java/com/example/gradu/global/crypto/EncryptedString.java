@@ -0,0 +1,79 @@
+package com.example.gradu.global.crypto;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * 암호화 컬럼 값 (불변 값 객체).
+ *
+ * DB 에서 읽을 때는 암호문만 들고 있다가 get() 을 처음 부를 때 한 번 복호화해서 기억한다.
+ * → 엔티티를 읽기만 하고 값을 안 쓰는 흐름(로그인, 과목 추가 등)에서는 복호화가 일어나지 않는다.
+ * 새로 만든 값은 평문만 들고 있다가 저장할 때 한 번 암호화한다.
+ */
+public final class EncryptedString {
+
+    private volatile String cipherText;
+    private volatile String plain;
+    private final UnaryOperator<String> decryptor;
+
+    private EncryptedString(String cipherText, String plain, UnaryOperator<String> decryptor) {
+        this.cipherText = cipherText;
+        this.plain = plain;
+        this.decryptor = decryptor;
+    }
+
+    /** 새 평문 값 (저장 시 암호화) */
+    public static EncryptedString of(String plain) {
+        return plain == null ? null : new EncryptedString(null, plain, null);
+    }
+
+    /** DB 에서 읽은 암호문 (처음 get() 할 때 복호화) */
+    static EncryptedString fromDatabase(String cipherText, UnaryOperator<String> decryptor) {
+        return cipherText == null ? null : new EncryptedString(cipherText, null, decryptor);
+    }
+
+    /** 평문 (처음 한 번만 복호화, 동시에 불려도 결과는 같다) */
+    public String get() {
+        String p = plain;
+        if (p == null) {
+            p = decryptor.apply(cipherText);
+            plain = p;
+        }
+        return p;
+    }
+
+    /** 이미 평문을 알고 있는지 (복호화했거나 새로 만든 값) */
+    public boolean isDecrypted() {
+        return plain != null;
+    }
+
+    /** 저장할 암호문: 읽어 온 값은 그대로, 새 값은 한 번만 암호화 */
+    String cipherText(UnaryOperator<String> encryptor) {
+        String c = cipherText;
+        if (c == null) {
+            c = encryptor.apply(plain);
+            cipherText = c;
+        }
+        return c;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EncryptedString other)) return false;
+        String c1 = cipherText, c2 = other.cipherText;
+        if (c1 != null && c1.equals(c2)) return true;
+        return Objects.equals(get(), other.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(get());
+    }
+
+    // 로그/예외 메시지로 평문이 새지 않게
+    @Override
+    public String toString() {
+        return "EncryptedString[***]";
+    }
+}
@@ -3,22 +3,29 @@ package com.example.gradu.global.crypto;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.Immutable;
 import org.springframework.stereotype.Component;
 
+/**
+ * EncryptedString ↔ 암호문 컬럼.
+ * 읽을 때는 복호화하지 않고 감싸기만 한다 (값을 실제로 쓸 때 EncryptedString.get() 에서 복호화).
+ * 값 객체가 불변이므로 Hibernate 가 스냅샷 복사/비교를 위해 변환을 다시 돌리지 않게 @Immutable.
+ */
 @Converter
 @Component
+@Immutable
 @RequiredArgsConstructor
-public class EncryptedStringConverter implements AttributeConverter<String, String> {
+public class EncryptedStringConverter implements AttributeConverter<EncryptedString, String> {
 
     private final AesGcmUtil aes;
 
     @Override
-    public String convertToDatabaseColumn(String attribute) {
-        return aes.encrypt(attribute);
+    public String convertToDatabaseColumn(EncryptedString attribute) {
+        return attribute == null ? null : attribute.cipherText(aes::encrypt);
     }
 
     @Override
-    public String convertToEntityAttribute(String dbData) {
-        return aes.decrypt(dbData);
+    public EncryptedString convertToEntityAttribute(String dbData) {
+        return EncryptedString.fromDatabase(dbData, aes::decrypt);
     }
 }
@@ -13,10 +13,15 @@ public class Sha256 {
 
     public static String hash(String input) {
         java.util.Objects.requireNonNull(input, "Input for hashing cannot be null.");
+        return hashBytes(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String hashBytes(byte[] input) {
+        java.util.Objects.requireNonNull(input, "Input for hashing cannot be null.");
 
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] bytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
+            byte[] bytes = digest.digest(input);
 
             StringBuilder hexString = new StringBuilder(2 * bytes.length);
             for (byte b : bytes) {
@@ -19,6 +19,8 @@ public enum ErrorCode {
     PASSWORD_MISMATCH("A004", HttpStatus.UNAUTHORIZED, "비밀번호가 일치하지 않습니다."),
     AUTH_UNAUTHENTICATED("A005", HttpStatus.UNAUTHORIZED, "로그인이 필요합니다."),
     AUTH_FORBIDDEN("A006", HttpStatus.FORBIDDEN, "다른 사용자의 데이터에 접근할 수 없습니다."),
+    AUTH_BUSY("A007", HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    AUTH_TOO_MANY_ATTEMPTS("A008", HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
 
     CURRICULUM_NOT_FOUND("C001", HttpStatus.NOT_FOUND, "구분을 찾을 수 없습니다."),
@@ -33,9 +35,18 @@ public enum ErrorCode {
     EMAIL_OTP_EXPIRED("EM004", HttpStatus.BAD_REQUEST, "인증코드가 만료되었습니다."),
     EMAIL_OTP_ALREADY_USED("EM005", HttpStatus.BAD_REQUEST, "이미 사용된 인증코드입니다."),
     EMAIL_OTP_INVALID("EM006", HttpStatus.BAD_REQUEST, "인증코드가 일치하지 않습니다."),
+    EMAIL_OTP_TOO_MANY("EM007", HttpStatus.TOO_MANY_REQUESTS, "인증코드 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     AI_IMAGE_CONVERSION_FAILED("AI001", HttpStatus.INTERNAL_SERVER_ERROR, "이미지 변환에 실패했습니다."),
     AI_RESPONSE_PARSING_FAILED("AI002", HttpStatus.INTERNAL_SERVER_ERROR, "AI 응답을 파싱하는 데 실패했습니다."),
+    AI_CAPTURE_BUSY("AI003", HttpStatus.SERVICE_UNAVAILABLE, "분석 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    AI_CAPTURE_JOB_NOT_FOUND("AI004", HttpStatus.NOT_FOUND, "분석 작업을 찾을 수 없습니다."),
+    AI_CAPTURE_FAILED("AI005", HttpStatus.BAD_GATEWAY, "AI 분석에 실패했습니다."),
+    AI_UPSTREAM_UNAVAILABLE("AI006", HttpStatus.SERVICE_UNAVAILABLE, "AI 서버가 불안정합니다. 잠시 후 다시 시도해주세요."),
+
+    RATE_LIMITED("RL001", HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    RANKING_INVALID_SLICE("R001", HttpStatus.BAD_REQUEST, "랭킹 조회 조건이 올바르지 않습니다."),
 
     SHA_256_HASH_FAILED("CR001", HttpStatus.INTERNAL_SERVER_ERROR, "SHA-256 해시 생성에 실패했습니다.");
 
@@ -1,6 +1,8 @@
 package com.example.gradu.global.exception;
 
 import com.example.gradu.global.exception.course.CourseException;
+import com.example.gradu.global.exception.ratelimit.RateLimitException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -31,6 +33,24 @@ public class GlobalExceptionHandler {
                 .body(body);
     }
 
+    /** 요청 제한: 언제 다시 시도할지 Retry-After 로 알려준다 */
+    @ExceptionHandler(RateLimitException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitException(RateLimitException e) {
+        ErrorCode errorCode = e.getErrorCode();
+
+        ErrorResponse body = ErrorResponse.builder()
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .errors(null)
+                .duplicates(null)
+                .build();
+
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(body);
+    }
+
     /** 🔥 BaseException (CourseException 아닌 모든 BaseException) */
     @ExceptionHandler(BaseException.class)
     public ResponseEntity<ErrorResponse> handleBaseException(BaseException e) {
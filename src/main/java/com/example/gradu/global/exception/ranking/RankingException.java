@@ -0,0 +1,10 @@
+package com.example.gradu.global.exception.ranking;
+
+import com.example.gradu.global.exception.BaseException;
+import com.example.gradu.global.exception.ErrorCode;
+
+public class RankingException extends BaseException {
+    public RankingException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.gradu.global.exception.ratelimit;
+
+import com.example.gradu.global.exception.BaseException;
+import com.example.gradu.global.exception.ErrorCode;
+
+/** 응답에 Retry-After(초) 헤더를 붙여야 하는 거절 */
+public class RateLimitException extends BaseException {
+    private final long retryAfterSeconds;
+
+    public RateLimitException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.gradu.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 경로 패턴 목록을 한 번만 컴파일해 두고 요청 URI 가 그중 하나에 걸리는지 판별한다.
+ *
+ * - 와일드카드 없는 패턴: HashSet 정확 일치 (대부분의 공개 API)
+ * - 와일드카드 패턴: 앞쪽 리터럴 접두사로 먼저 거르고, 걸린 것만 PathPattern 으로 매칭
+ *   → 일반 API 요청은 PathContainer 파싱 없이 문자열 비교 몇 번으로 끝난다.
+ * 불변 객체라 필터/인가 설정에서 같이 쓴다.
+ * 요청은 Spring 매처와 같이 컨텍스트 경로를 뺀, 디코딩된 애플리케이션 내 경로로 판별한다.
+ */
+public final class RequestPathClassifier {
+
+    private final Set<String> exact = new HashSet<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final List<PathPattern> patterns = new ArrayList<>();
+
+    @SafeVarargs
+    public static RequestPathClassifier of(Collection<String>... patternLists) {
+        return new RequestPathClassifier(patternLists);
+    }
+
+    private RequestPathClassifier(Collection<String>[] patternLists) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        for (Collection<String> list : patternLists) {
+            for (String pattern : list) {
+                int wildcard = firstWildcard(pattern);
+                if (wildcard < 0) {
+                    exact.add(pattern);
+                    continue;
+                }
+                // "/v3/api-docs/**" 는 "/v3/api-docs" 에도 걸리므로 접두사 끝의 '/' 는 뺀다
+                String prefix = pattern.substring(0, Math.max(0, pattern.lastIndexOf('/', wildcard)));
+                prefixes.add(prefix);
+                patterns.add(parser.parse(pattern));
+            }
+        }
+    }
+
+    /** 원본 getRequestURI() 가 아니라 컨텍스트 경로 제외 + 디코딩 + ';' 파라미터 제거한 경로로 */
+    public boolean matches(HttpServletRequest request) {
+        return matches(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+    }
+
+    public boolean matches(String uri) {
+        if (uri == null) return false;
+        if (exact.contains(uri)) return true;
+
+        PathContainer path = null;
+        for (int i = 0; i < patterns.size(); i++) {
+            if (!uri.startsWith(prefixes.get(i))) continue;
+            if (path == null) path = PathContainer.parsePath(uri);
+            if (patterns.get(i).matches(path)) return true;
+        }
+        return false;
+    }
+
+    private static int firstWildcard(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '*' || ch == '?' || ch == '{') return i;
+        }
+        return -1;
+    }
+}
@@ -11,8 +11,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -45,6 +43,10 @@ public class SecurityConfig {
             "/api/v1/auth/password/reset"
     );
 
+    // ✅ 위 목록을 한 번만 컴파일 (JWT 필터 건너뛰기 + 인가 permitAll 에서 공유)
+    public static final RequestPathClassifier PUBLIC_PATHS =
+            RequestPathClassifier.of(PUBLIC_WHITELIST, SWAGGER_WHITELIST);
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -55,8 +57,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         // 스웨거 & 공개 엔드포인트 허용
                         .requestMatchers("/error").permitAll()
-                        .requestMatchers(SWAGGER_WHITELIST.toArray(String[]::new)).permitAll()
-                        .requestMatchers(PUBLIC_WHITELIST.toArray(String[]::new)).permitAll()
+                        .requestMatchers(request -> PUBLIC_PATHS.matches(request)).permitAll()
                         // 그 외는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -91,9 +92,4 @@ public class SecurityConfig {
         source.registerCorsConfiguration("/**", config);
         return source;
     }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
@@ -12,4 +12,20 @@ public class SecurityUtil {
         }
         return auth.getName();
     }
+
+    // JWT 필터가 principal 로 Long 학번을 넣으므로 문자열 변환 없이 그대로 꺼낸다
+    public static Long getCurrentStudentIdAsLong() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth.getPrincipal() == null) {
+            return null;
+        }
+        if (auth.getPrincipal() instanceof Long id) {
+            return id;
+        }
+        try {
+            return Long.valueOf(auth.getName());
+        } catch (NumberFormatException e) {
+            return null; // anonymousUser 등
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package com.example.gradu.global.security;
+
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.auth.AuthException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @CheckStudentAccess 가 붙은 핸들러에서 경로의 학번(sid / studentId)이 로그인한 학번과 같은지 확인한다.
+ *
+ * 어떤 메서드가 검사 대상이고 어느 경로 변수가 주인 학번인지는 기동 시 한 번 계산해 메서드별로 캐시
+ * (잘못 붙은 어노테이션은 기동 실패). 요청 시에는 이미 파싱된 URI 템플릿 변수에서 꺼내 long 으로 비교만 한다.
+ */
+@Component
+public class StudentAccessInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> OWNER_VARIABLES = Set.of("sid", "studentId");
+    private static final String NOT_CHECKED = "";
+
+    private final Map<Method, String> ownerVariables = new ConcurrentHashMap<>();
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void resolveHandlers(ContextRefreshedEvent event) {
+        event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class).values()
+                .forEach(mapping -> mapping.getHandlerMethods().values().forEach(this::ownerVariable));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) return true;
+
+        String variable = ownerVariable(handlerMethod);
+        if (variable.isEmpty()) return true;
+
+        Long currentId = SecurityUtil.getCurrentStudentIdAsLong();
+        if (currentId == null) {
+            throw new AuthException(ErrorCode.AUTH_UNAUTHENTICATED);
+        }
+        if (currentId != ownerId(request, variable)) {
+            throw new AuthException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return true;
+    }
+
+    String ownerVariable(HandlerMethod handlerMethod) {
+        return ownerVariables.computeIfAbsent(handlerMethod.getMethod(), m -> resolve(handlerMethod));
+    }
+
+    private static String resolve(HandlerMethod handlerMethod) {
+        if (!handlerMethod.hasMethodAnnotation(CheckStudentAccess.class)) return NOT_CHECKED;
+
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+            if (pathVariable == null) continue;
+            String name = !pathVariable.name().isEmpty() ? pathVariable.name()
+                    : !pathVariable.value().isEmpty() ? pathVariable.value()
+                    : parameter.getParameter().getName();
+            if (OWNER_VARIABLES.contains(name)) return name;
+        }
+        throw new IllegalStateException("@CheckStudentAccess 에 sid/studentId 경로 변수가 없습니다: " + handlerMethod);
+    }
+
+    // 숫자가 아닌 학번은 누구의 것도 아니므로 forbidden
+    @SuppressWarnings("unchecked")
+    private static long ownerId(HttpServletRequest request, String variable) {
+        var variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String raw = variables == null ? null : variables.get(variable);
+        if (raw == null) throw new AuthException(ErrorCode.AUTH_FORBIDDEN);
+        try {
+            return Long.parseLong(raw);
+        } catch (NumberFormatException e) {
+            throw new AuthException(ErrorCode.AUTH_FORBIDDEN);
+        }
+    }
+}
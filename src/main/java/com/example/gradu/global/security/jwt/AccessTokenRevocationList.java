@@ -0,0 +1,144 @@
+package com.example.gradu.global.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 폐기된 액세스 토큰(jti) 목록 — 요청마다 Redis 를 보지 않고 노드 메모리에서만 판정한다.
+ *
+ * - Redis: jwt:revoked:{jti} (PX = 토큰 남은 수명) + jwt:revoked (ZSET, 점수 = 만료 시각 ms)
+ * - 폐기 시 같은 스크립트에서 PUBLISH → 모든 노드가 로컬 목록에 추가
+ * - 로컬: 블룸 필터(대부분의 "폐기 안 됨"을 바로 걸러냄) + 정확한 jti → 만료 시각 맵(오탐 제거)
+ * - 주기적으로 ZSET 에서 다시 읽어(놓친 메시지 보정) 만료된 항목을 빼고 블룸 필터를 새로 만든다
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList implements MessageListener {
+
+    public static final String CHANNEL = "jwt:revoked";
+    static final String KEY_PREFIX = "jwt:revoked:";
+    static final String INDEX_KEY = "jwt:revoked";
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    // KEYS = [jti 키, 인덱스 ZSET], ARGV = [jti, 만료 시각 ms, ttl ms, 채널]
+    private static final DefaultRedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[3]) then
+              redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            end
+            return redis.call('PUBLISH', ARGV[4], ARGV[1] .. ':' .. ARGV[2])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Clock clock;
+    private final int expectedSize;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloom;
+
+    @Autowired
+    public AccessTokenRevocationList(RedisTemplate<String, String> redisTemplate, JwtProperties jwtProperties) {
+        this(redisTemplate, jwtProperties, Clock.systemUTC());
+    }
+
+    AccessTokenRevocationList(RedisTemplate<String, String> redisTemplate, JwtProperties jwtProperties, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.expectedSize = Math.max(1, jwtProperties.getRevocationExpectedSize());
+        this.bloom = new BloomFilter(expectedSize, FALSE_POSITIVE_RATE);
+    }
+
+    /** 만료 전까지 jti 를 폐기 (이 노드는 즉시, 다른 노드는 pub/sub 으로) */
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null) return;
+        long expiresAtMs = expiresAt.toEpochMilli();
+        long ttl = expiresAtMs - clock.millis();
+        if (ttl <= 0) return;
+
+        add(jti, expiresAtMs);
+        redisTemplate.execute(REVOKE_SCRIPT, List.of(KEY_PREFIX + jti, INDEX_KEY),
+                jti, String.valueOf(expiresAtMs), String.valueOf(ttl), CHANNEL);
+    }
+
+    /** 요청 경로용: 네트워크 호출 없음. jti 가 없는 예전 토큰은 폐기 대상이 아님 */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloom.mightContain(jti)) return false;
+        Long expiresAtMs = revoked.get(jti);
+        return expiresAtMs != null && expiresAtMs > clock.millis();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        accept(new String(message.getBody(), UTF_8));
+    }
+
+    /** payload = "{jti}:{만료 시각 ms}" */
+    void accept(String payload) {
+        int sep = payload.lastIndexOf(':');
+        try {
+            if (sep <= 0) throw new NumberFormatException(payload);
+            add(payload.substring(0, sep), Long.parseLong(payload.substring(sep + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("폐기 메시지 형식 오류: {}", payload);
+        }
+    }
+
+    /**
+     * Redis 인덱스와 다시 맞추고(구독이 끊겼던 동안의 폐기 반영) 만료된 항목을 정리한다.
+     * 시작 직후 한 번 돌면서 기존 폐기 목록도 불러온다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation-resync-ms:60000}")
+    public void resync() {
+        long now = clock.millis();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> live =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(INDEX_KEY, now + 1, Double.POSITIVE_INFINITY);
+            if (live != null) {
+                for (var t : live) {
+                    if (t.getValue() != null && t.getScore() != null) add(t.getValue(), t.getScore().longValue());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("폐기 목록 동기화 실패 (로컬 목록 유지): {}", e.getMessage());
+        }
+        prune(now);
+    }
+
+    int size() {
+        return revoked.size();
+    }
+
+    private synchronized void add(String jti, long expiresAtMs) {
+        revoked.merge(jti, expiresAtMs, Math::max);
+        bloom.put(jti);
+    }
+
+    // 블룸 필터는 지울 수 없으므로 남은 항목으로 새로 만들어 교체
+    private synchronized void prune(long now) {
+        revoked.values().removeIf(expiresAtMs -> expiresAtMs <= now);
+        BloomFilter next = new BloomFilter(Math.max(expectedSize, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(next::put);
+        bloom = next;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.gradu.global.security.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터 (폐기된 jti 의 "확실히 없음" 판정용).
+ *
+ * - 비트 배열은 AtomicLongArray → 읽기는 락 없이, 쓰기는 CAS
+ * - 해시 두 개(FNV-1a 64 + 믹싱)로 k 개 위치를 만든다 (Kirsch–Mitzenmacher)
+ * 지우기는 지원하지 않으므로 만료된 항목은 새 필터를 만들어 교체한다.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /** expected: 예상 원소 수, fpp: 허용 오탐률 (0~1) */
+    BloomFilter(int expected, double fpp) {
+        int n = Math.max(1, expected);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        m = Math.max(64, m);
+        this.bits = new AtomicLongArray(Math.toIntExact((m + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void put(String value) {
+        long h1 = mix(fnv1a(value));
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int idx = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long cur;
+            do {
+                cur = bits.get(idx);
+                if ((cur & mask) != 0) break;
+            } while (!bits.compareAndSet(idx, cur, cur | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long h1 = mix(fnv1a(value));
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    private static long fnv1a(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -8,34 +8,24 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.stream.Stream;
 
-import static com.example.gradu.global.security.SecurityConfig.*;
+import static com.example.gradu.global.security.SecurityConfig.PUBLIC_PATHS;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenRevocationList revocationList;
     public static final String TOKEN_PREFIX = "Bearer ";
-    private static final AntPathMatcher PATH_MATCH = new AntPathMatcher();
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String u = request.getRequestURI();
-        return isWhitelisted(u);
-    }
-
-    private boolean isWhitelisted(String uri) {
-        return Stream.concat(
-                PUBLIC_WHITELIST.stream(),
-                SWAGGER_WHITELIST.stream()
-        ).anyMatch(pattern -> PATH_MATCH.match(pattern, uri));
+        return PUBLIC_PATHS.matches(request);
     }
 
 
@@ -49,11 +39,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (bearer != null && bearer.startsWith(TOKEN_PREFIX)) {
             String token = bearer.substring(TOKEN_PREFIX.length());
             try {
-                if (jwtTokenProvider.isTokenValid(token)) {
-                    Long studentId = jwtTokenProvider.getStudentIdFromToken(token);
-                    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(studentId, null, Collections.emptyList());
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                }
+                // ✅ 검증 + 학번 추출을 한 번의 파싱으로 (검증된 토큰은 만료 전까지 캐시)
+                // ✅ 폐기(로그아웃) 여부는 로컬 목록만 확인 → 요청마다 Redis 호출 없음
+                // ✅ refresh 토큰은 Bearer 로 받지 않는다 (로그아웃 후에도 refresh 수명 동안 통과하게 되므로)
+                jwtTokenProvider.authenticate(token)
+                        .filter(VerifiedToken::isAccess)
+                        .filter(verified -> !revocationList.isRevoked(verified.jti()))
+                        .ifPresent(verified -> {
+                            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(verified.studentId(), null, Collections.emptyList());
+                            SecurityContextHolder.getContext().setAuthentication(auth);
+                        });
             } catch (io.jsonwebtoken.JwtException
                      | IllegalArgumentException ex) {
                 // 만료/위조/잘못된 토큰 모두 조용히 통과
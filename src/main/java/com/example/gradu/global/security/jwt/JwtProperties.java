@@ -13,4 +13,8 @@ public class JwtProperties {
     private String secret;
     private long accessExpiration;
     private long refreshExpiration;
+    // 검증된 토큰 캐시 크기 (0 이면 끔)
+    private int verifiedCacheSize = 10_000;
+    // 폐기된 액세스 토큰 블룸 필터 크기 (넘으면 다음 정리 때 키움)
+    private int revocationExpectedSize = 10_000;
 }
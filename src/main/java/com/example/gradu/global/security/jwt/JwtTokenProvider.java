@@ -9,7 +9,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Clock;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -17,21 +20,42 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 @Component
 public class JwtTokenProvider {
 
+    // ✅ access / refresh 구분 (refresh 토큰을 Bearer 로 쓰지 못하게)
+    static final String TOKEN_TYPE_CLAIM = "token_type";
+    static final String ACCESS = "access";
+    static final String REFRESH = "refresh";
+
     private final JwtProperties jwtProperties;
+    private final Clock clock;
     private Key signingKey;
+    // ✅ JwtParser 는 불변/스레드 안전 → 요청마다 parserBuilder() 로 새로 만들지 않는다
+    private JwtParser parser;
+    private VerifiedTokenCache verifiedCache;
 
     public JwtTokenProvider(JwtProperties jwtProperties) {
+        this(jwtProperties, Clock.systemUTC());
+    }
+
+    JwtTokenProvider(JwtProperties jwtProperties, Clock clock) {
         this.jwtProperties = jwtProperties;
+        this.clock = clock;
     }
 
     @PostConstruct
     void init() {
         this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        this.verifiedCache = new VerifiedTokenCache(jwtProperties.getVerifiedCacheSize(), clock);
     }
 
     public String generateAccessToken(Long userId) {
         String token =  Jwts.builder()
                 .setSubject(String.valueOf(userId))
+                .setId(UUID.randomUUID().toString()) // ✅ jti: 로그아웃 시 이 토큰만 폐기
+                .claim(TOKEN_TYPE_CLAIM, ACCESS)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getAccessExpiration()))
                 .signWith(signingKey)
@@ -43,6 +67,7 @@ public class JwtTokenProvider {
     public String generateRefreshToken(Long userId) {
         return Jwts.builder()
                 .setSubject(String.valueOf(userId))
+                .claim(TOKEN_TYPE_CLAIM, REFRESH)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getRefreshExpiration()))
                 .signWith(signingKey)
@@ -50,43 +75,87 @@ public class JwtTokenProvider {
     }
 
     public Long getStudentIdFromToken(String token) {
-        return Long.parseLong(Jwts.parserBuilder().setSigningKey(signingKey).build()
-                .parseClaimsJws(token).getBody().getSubject());
+        return Long.parseLong(parser.parseClaimsJws(token).getBody().getSubject());
     }
 
     public boolean isTokenValid(String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * 요청 인증용: 검증된 토큰 캐시 → 없으면 한 번만 파싱해서 검증 + 학번/만료 추출.
+     * 유효하지 않으면 empty.
+     */
+    public Optional<VerifiedToken> authenticate(String token) {
+        if (token == null || !verifiedCache.enabled()) return verify(token);
+
+        String key = VerifiedTokenCache.key(token);
+        VerifiedToken cached = verifiedCache.get(key);
+        if (cached != null) return Optional.of(cached);
+
+        Optional<VerifiedToken> verified = verify(token);
+        verified.ifPresent(v -> verifiedCache.put(key, v));
+        return verified;
+    }
+
+    private Optional<VerifiedToken> verify(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(signingKey).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                log.warn("만료 시각이 없는 JWT 토큰입니다");
+                return Optional.empty();
+            }
+            VerifiedToken.TokenType type = typeOf(claims);
+            if (type == null) {
+                log.warn("access 토큰에 jti 가 없습니다");
+                return Optional.empty();
+            }
+            return Optional.of(new VerifiedToken(Long.parseLong(claims.getSubject()), claims.getId(), expiration.toInstant(), type));
         } catch (ExpiredJwtException e) {
             log.warn("만료된 JWT 토큰입니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (UnsupportedJwtException e) {
             log.warn("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (MalformedJwtException e) {
             log.warn("잘못된 형식의 JWT 토큰입니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (SecurityException e) {
             log.warn("JWT 보안 검증에 실패했습니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (IllegalArgumentException e) {
             log.warn("JWT 클레임이 비어있습니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (JwtException e) {
             log.warn("JWT 토큰 검증 중 예상치 못한 오류가 발생했습니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
+    /**
+     * token_type 클레임으로 구분. access 는 jti 가 있어야 한다 (없으면 null → 거절).
+     * 클레임이 없는 예전 토큰:
+     * - jti 가 있으면 access (jti 도입 후 발급)
+     * - jti 가 없으면 수명이 access 이하일 때만 access (jti 도입 전 access 토큰), 아니면 refresh
+     *   → 배포 후 access 만료 시간이 지나면 jti 없는 access 토큰은 더 이상 통과하지 않는다
+     */
+    private VerifiedToken.TokenType typeOf(Claims claims) {
+        String type = claims.get(TOKEN_TYPE_CLAIM, String.class);
+        if (ACCESS.equals(type)) return claims.getId() == null ? null : VerifiedToken.TokenType.ACCESS;
+        if (type != null) return VerifiedToken.TokenType.REFRESH;
+
+        if (claims.getId() != null) return VerifiedToken.TokenType.ACCESS;
+        Date issuedAt = claims.getIssuedAt();
+        boolean accessLifetime = issuedAt != null
+                // iat/exp 는 초 단위로 잘려 저장되므로 1초 여유
+                && claims.getExpiration().getTime() - issuedAt.getTime() <= jwtProperties.getAccessExpiration() + 1_000;
+        return accessLifetime ? VerifiedToken.TokenType.ACCESS : VerifiedToken.TokenType.REFRESH;
+    }
+
     public String extractStudentIdIgnoringExpiration(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getSubject();
+            return parser.parseClaimsJws(token).getBody().getSubject();
         } catch (ExpiredJwtException e) {
             return e.getClaims().getSubject();
         } catch (JwtException e) {
@@ -1,32 +1,144 @@
 package com.example.gradu.global.security.jwt;
 
+import com.example.gradu.global.crypto.Sha256;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
+/**
+ * 리프레시 토큰 저장소 (학생별 토큰 패밀리).
+ *
+ * - rt:{토큰 SHA-256} → 학번 (PX = 리프레시 만료). 토큰 원문은 Redis 에 남기지 않는다.
+ * - rt:family:{학번} → ZSET(토큰 해시, 만료 시각 ms). 저장할 때 만료된 항목을 정리하므로 세션 수만큼만 자란다.
+ * - 쓰기/폐기는 Lua 한 번 (TTL 관리 포함) → 왕복 1회, KEYS 스캔 없음.
+ * 예전 형식(토큰 원문 키)은 조회할 때 새 형식 + 패밀리로 옮긴다 (전체 폐기에 걸리도록).
+ * 전체 폐기 때 rt:revoked:{학번} 표시를 남겨, 그 뒤에 처음 쓰이는 예전 형식 토큰은 옮기지 않고 거절한다.
+ *
+ * 스크립트가 건드리는 키는 학번을 클라이언트에서 먼저 알아내 KEYS 로 넘긴다.
+ * 단, 전체 폐기의 토큰 키(rt:{해시})들은 패밀리 ZSET 을 읽어야 알 수 있어 스크립트 안에서 만든다.
+ * 키에 해시 태그가 없어 한 스크립트의 키들이 다른 슬롯에 흩어지므로 단일 노드 Redis 를 전제로 한다 (Cluster 미지원).
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RefreshTokenStore {
 
+    static final String TOKEN_PREFIX = "rt:";
+    static final String FAMILY_PREFIX = "rt:family:";
+    static final String REVOKED_PREFIX = "rt:revoked:";
+
+    // KEYS = [토큰 키, 패밀리 키], ARGV = [학번, ttl ms, 토큰 해시]
+    private static final DefaultRedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local ttl = tonumber(ARGV[2])
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ttl)
+            redis.call('ZADD', KEYS[2], now + ttl, ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            if redis.call('PTTL', KEYS[2]) < ttl then
+              redis.call('PEXPIRE', KEYS[2], ttl)
+            end
+            return 1
+            """, Long.class);
+
+    // 예전 형식 토큰 옮기기. KEYS = [토큰 키, 예전 형식 키, 패밀리 키, 전체 폐기 표시 키], ARGV = [학번, 토큰 해시, 기본 ttl ms]
+    // → 학번 또는 nil (다른 요청이 먼저 옮겼으면 새 키 값)
+    private static final DefaultRedisScript<String> MIGRATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+              return redis.call('GET', KEYS[1])
+            end
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+              redis.call('DEL', KEYS[2])
+              return nil
+            end
+            local ttl = redis.call('PTTL', KEYS[2])
+            if ttl < 0 then ttl = tonumber(ARGV[3]) end
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ttl)
+            redis.call('ZADD', KEYS[3], now + ttl, ARGV[2])
+            if redis.call('PTTL', KEYS[3]) < ttl then
+              redis.call('PEXPIRE', KEYS[3], ttl)
+            end
+            redis.call('DEL', KEYS[2])
+            return ARGV[1]
+            """, String.class);
+
+    // KEYS = [토큰 키, 예전 형식 키, 패밀리 키], ARGV = [토큰 해시] → 지운 개수
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            return redis.call('DEL', KEYS[1], KEYS[2])
+            """, Long.class);
+
+    // KEYS = [패밀리 키, 전체 폐기 표시 키], ARGV = [토큰 접두사, 리프레시 ttl ms] → 폐기한 토큰 수
+    // (토큰 키는 패밀리 멤버로 스크립트 안에서 만든다 → 단일 노드 전제)
+    private static final DefaultRedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[2], '1', 'PX', ARGV[2])
+            local members = redis.call('ZRANGE', KEYS[1], 0, -1)
+            local batch = {}
+            for i = 1, #members do
+              batch[#batch + 1] = ARGV[1] .. members[i]
+              if #batch == 500 then
+                redis.call('DEL', unpack(batch))
+                batch = {}
+              end
+            end
+            if #batch > 0 then
+              redis.call('DEL', unpack(batch))
+            end
+            redis.call('DEL', KEYS[1])
+            return #members
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtProperties jwtProperties;
 
     public void save(String refreshToken, Long studentId) {
-        redisTemplate.opsForValue()
-                .set(refreshToken, String.valueOf(studentId), jwtProperties.getRefreshExpiration(), TimeUnit.MILLISECONDS);
+        String hash = Sha256.hash(refreshToken);
+        redisTemplate.execute(SAVE_SCRIPT, List.of(TOKEN_PREFIX + hash, FAMILY_PREFIX + studentId),
+                String.valueOf(studentId), String.valueOf(jwtProperties.getRefreshExpiration()), hash);
+    }
+
+    /** @return 토큰 주인 학번, 없으면(만료/폐기) null — 새 형식은 GET 한 번, 예전 형식이면 그 자리에서 새 형식으로 옮김 */
+    public Long findStudentId(String refreshToken) {
+        String hash = Sha256.hash(refreshToken);
+        String stored = redisTemplate.opsForValue().get(TOKEN_PREFIX + hash);
+        if (stored != null) return Long.valueOf(stored);
+
+        // 예전 형식: 학번을 먼저 읽어 패밀리/전체 폐기 표시 키를 KEYS 로 넘긴다 (스크립트에서 다시 확인)
+        String legacy = redisTemplate.opsForValue().get(refreshToken);
+        if (legacy == null) return null;
+        String moved = redisTemplate.execute(MIGRATE_SCRIPT,
+                List.of(TOKEN_PREFIX + hash, refreshToken, FAMILY_PREFIX + legacy, REVOKED_PREFIX + legacy),
+                legacy, hash, String.valueOf(jwtProperties.getRefreshExpiration()));
+        return moved == null ? null : Long.valueOf(moved);
     }
 
     public boolean validate(String refreshToken) {
-        String storedStudentId = redisTemplate.opsForValue().get(refreshToken);
-        return storedStudentId != null;
+        return findStudentId(refreshToken) != null;
+    }
+
+    /** @param studentId findStudentId 로 확인한 토큰 주인 (패밀리 키를 KEYS 로 넘기기 위해) */
+    public void remove(String refreshToken, Long studentId) {
+        String hash = Sha256.hash(refreshToken);
+        redisTemplate.execute(REMOVE_SCRIPT,
+                List.of(TOKEN_PREFIX + hash, refreshToken, FAMILY_PREFIX + studentId), hash);
     }
 
-    public void remove(String refreshToken) {
-        redisTemplate.delete(refreshToken);
+    /**
+     * 학생의 모든 세션 폐기 (탈퇴/비밀번호 재설정).
+     * 아직 패밀리로 옮겨지지 않은 예전 형식 토큰은 남은 수명 동안 전체 폐기 표시로 막는다.
+     */
+    public long revokeAll(Long studentId) {
+        Long revoked = redisTemplate.execute(REVOKE_ALL_SCRIPT,
+                List.of(FAMILY_PREFIX + studentId, REVOKED_PREFIX + studentId),
+                TOKEN_PREFIX, String.valueOf(jwtProperties.getRefreshExpiration()));
+        long count = revoked == null ? 0 : revoked;
+        log.info("리프레시 토큰 전체 폐기: studentId={}, count={}", studentId, count);
+        return count;
     }
 }
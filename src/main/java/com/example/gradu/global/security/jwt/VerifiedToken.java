@@ -0,0 +1,14 @@
+package com.example.gradu.global.security.jwt;
+
+import java.time.Instant;
+
+/** 서명/만료 검증을 통과한 토큰에서 꺼낸 값 (jti 는 예전 토큰이면 null) */
+public record VerifiedToken(Long studentId, String jti, Instant expiresAt, TokenType type) {
+
+    public enum TokenType { ACCESS, REFRESH }
+
+    /** 요청 인증(Bearer)에 쓸 수 있는 토큰인지 */
+    public boolean isAccess() {
+        return type == TokenType.ACCESS;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.gradu.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 검증을 통과한 토큰을 만료 시각까지 기억하는 LRU (크기 제한).
+ *
+ * 같은 access 토큰이 만료 전까지 계속 오므로, 두 번째부터는 HMAC 검증 + JSON 파싱을 건너뛴다.
+ * 키는 토큰 원문 대신 SHA-256 해시 (힙에 토큰이 그대로 남지 않도록). maxSize 가 0 이하면 캐시하지 않는다.
+ * access 토큰만 담는다 (refresh 토큰은 요청 인증에 쓰이지 않으므로).
+ */
+final class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<String, VerifiedToken> entries;
+
+    VerifiedTokenCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    boolean enabled() {
+        return maxSize > 0;
+    }
+
+    VerifiedToken get(String key) {
+        synchronized (entries) {
+            VerifiedToken verified = entries.get(key);
+            if (verified == null) return null;
+            if (!clock.instant().isBefore(verified.expiresAt())) {
+                entries.remove(key);
+                return null;
+            }
+            return verified;
+        }
+    }
+
+    void put(String key, VerifiedToken verified) {
+        if (!verified.isAccess()) return;
+        synchronized (entries) {
+            entries.put(key, verified);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    static String key(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.gradu.global.security.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 비밀번호 해시 설정 (app.password.*) */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.password")
+public class PasswordHashingProperties {
+    // 해시 전용 스레드 수 (0 이면 코어 수 / 2, 최소 1) / 대기열 크기
+    private int threads = 0;
+    private int queueCapacity = 64;
+    // 대기열 + 해시까지 최대 대기 시간
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    // 기동 시 해시 1회가 이 시간에 가깝도록 bcrypt cost 를 고른다 (min~max 범위)
+    private Duration targetHashTime = Duration.ofMillis(100);
+    private int minStrength = 10;
+    private int maxStrength = 14;
+}
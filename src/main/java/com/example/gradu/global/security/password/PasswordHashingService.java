@@ -0,0 +1,161 @@
+package com.example.gradu.global.security.password;
+
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.auth.AuthException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 비밀번호 해시/검증 전용 서비스.
+ *
+ * - bcrypt 는 CPU 를 오래 잡으므로 요청 스레드가 아니라 크기 제한된 전용 풀에서 돌린다
+ *   (학기 초 로그인 폭주에도 다른 API 가 CPU 를 뺏기지 않도록). 풀/대기열이 차면 AUTH_BUSY.
+ * - cost 는 기동 시 측정해서 해시 1회가 targetHashTime 에 가깝게 고른다 (minStrength 미만으로는 내리지 않음).
+ * - 저장 형식은 "{bcrypt}$2a$.." (DelegatingPasswordEncoder). 접두사 없는 기존 해시도 검증되고,
+ *   로그인 성공 시 현재 설정과 다르면 새 해시를 돌려줘서 호출 측이 교체한다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    static final String ENCODING_ID = "bcrypt";
+
+    /** matches: 일치 여부 / rehashed: 설정이 바뀌어 교체할 새 해시 (없으면 null) */
+    public record Verification(boolean matches, String rehashed) {
+        public static Verification mismatch() {
+            return new Verification(false, null);
+        }
+    }
+
+    private final PasswordEncoder encoder;
+    private final ExecutorService executor;
+    private final long maxWaitNanos;
+    private final int strength;
+
+    private final Timer encodeTimer;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    @Autowired
+    public PasswordHashingService(PasswordHashingProperties props, MeterRegistry meterRegistry) {
+        this(props, meterRegistry, calibrate(props, PasswordHashingService::measureNanos));
+    }
+
+    PasswordHashingService(PasswordHashingProperties props, MeterRegistry meterRegistry, int strength) {
+        this.strength = strength;
+        this.encoder = delegatingEncoder(strength);
+        this.executor = newExecutor(props);
+        this.maxWaitNanos = props.getMaxWait().toNanos();
+
+        this.encodeTimer = meterRegistry.timer("password.hash", "op", "encode");
+        this.verifyTimer = meterRegistry.timer("password.hash", "op", "verify");
+        this.rejected = meterRegistry.counter("password.hash.rejected");
+        log.info("비밀번호 해시: bcrypt cost={}", strength);
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> encodeTimer.record(() -> encoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return verify(rawPassword, encodedPassword).matches();
+    }
+
+    /** 검증 + (일치하고 설정이 바뀌었으면) 재해시까지 한 번에 전용 풀에서 */
+    public Verification verify(String rawPassword, String encodedPassword) {
+        if (encodedPassword == null) return Verification.mismatch();
+        return run(() -> verifyTimer.record(() -> {
+            if (!encoder.matches(rawPassword, encodedPassword)) return Verification.mismatch();
+            String rehashed = encoder.upgradeEncoding(encodedPassword) ? encoder.encode(rawPassword) : null;
+            return new Verification(true, rehashed);
+        }));
+    }
+
+    int strength() {
+        return strength;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new AuthException(ErrorCode.AUTH_BUSY);
+        }
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new AuthException(ErrorCode.AUTH_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthException(ErrorCode.AUTH_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /** cost 를 올릴 때마다 시간이 두 배 → 다음 단계가 목표를 넘지 않는 가장 높은 cost */
+    static int calibrate(PasswordHashingProperties props, IntToLongFunction nanosForStrength) {
+        long target = props.getTargetHashTime().toNanos();
+        int strength = props.getMinStrength();
+        long elapsed = nanosForStrength.applyAsLong(strength);
+        while (strength < props.getMaxStrength() && elapsed * 2 <= target) {
+            strength++;
+            elapsed = nanosForStrength.applyAsLong(strength);
+        }
+        return strength;
+    }
+
+    private static long measureNanos(int strength) {
+        var bcrypt = new BCryptPasswordEncoder(strength);
+        bcrypt.encode("warm-up");
+        long start = System.nanoTime();
+        bcrypt.encode("calibration");
+        return System.nanoTime() - start;
+    }
+
+    static PasswordEncoder delegatingEncoder(int strength) {
+        var delegating = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, new BCryptPasswordEncoder(strength)));
+        // 접두사 없는 기존 해시("$2a$10$...")도 검증 → upgradeEncoding 이 true 라 로그인 시 교체된다
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return delegating;
+    }
+
+    private static ExecutorService newExecutor(PasswordHashingProperties props) {
+        int threads = props.getThreads() > 0
+                ? props.getThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(props.getQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.gradu.global.security.throttle;
+
+import com.example.gradu.global.crypto.Sha256;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ratelimit.RateLimitException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 공개 인증 엔드포인트(로그인, 인증코드 발송) 남용 방지.
+ *
+ * - 이메일 해시별 / 클라이언트 IP별 슬라이딩 윈도 카운터 (이전 윈도 가중치 + 현재 윈도)
+ * - 이메일은 freeAttempts 이후 시도 간격을 두 배씩 늘리고, 한도를 넘으면 잠금 (잠길 때마다 두 배)
+ * - check 는 확인 + 증가를 Lua 한 번으로 → 해시 계산 전에 시도를 미리 잡아 두므로 동시 요청 몰림도 한도 안에서 막힌다
+ * - 로그인은 비밀번호 불일치 / 없는 계정만 실패로 남기고,
+ *   성공하면 succeeded 로 이메일 기록(잠금 횟수 포함)을 지우고 IP 몫을 돌려준다,
+ *   그 밖의 오류(DB 장애 등)는 cancel 로 잡아 둔 시도를 되돌린다
+ * - 막힌 요청은 카운트하지 않음, Redis 장애 시에는 통과시킨다 (로그인 해시는 PasswordHashingService 가 따로 제한)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthThrottle {
+
+    static final String KEY_PREFIX = "throttle:";
+
+    public enum Action {
+        LOGIN("login", ErrorCode.AUTH_TOO_MANY_ATTEMPTS),
+        OTP_SEND("otp", ErrorCode.EMAIL_OTP_TOO_MANY);
+
+        private final String key;
+        private final ErrorCode errorCode;
+
+        Action(String key, ErrorCode errorCode) {
+            this.key = key;
+            this.errorCode = errorCode;
+        }
+    }
+
+    // KEYS = [주체별 해시...], ARGV = [windowMs, baseDelayMs, lockoutMs, maxLockoutMs, (free, limit)...]
+    // → 0 이면 허용(모든 키 +1), 아니면 기다려야 하는 ms
+    private static final DefaultRedisScript<Long> SCRIPT = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            local baseDelay = tonumber(ARGV[2])
+            local lockout = tonumber(ARGV[3])
+            local maxLockout = tonumber(ARGV[4])
+            local wid = math.floor(now / window)
+            local weight = 1 - (now % window) / window
+
+            local state = {}
+            for i, key in ipairs(KEYS) do
+              local free = tonumber(ARGV[3 + 2 * i])
+              local limit = tonumber(ARGV[4 + 2 * i])
+              local h = redis.call('HMGET', key, 'w', 'c', 'p', 'last', 'lock', 'strikes')
+              local w = tonumber(h[1]) or wid
+              local c = tonumber(h[2]) or 0
+              local p = tonumber(h[3]) or 0
+              if w < wid then
+                if w == wid - 1 then p = c else p = 0 end
+                c = 0
+              end
+
+              local lock = tonumber(h[5]) or 0
+              if lock > now then return lock - now end
+
+              local est = p * weight + c
+              if est >= limit then
+                local strikes = tonumber(h[6]) or 0
+                local d = math.floor(math.min(maxLockout, lockout * 2 ^ strikes))
+                redis.call('HSET', key, 'w', wid, 'c', c, 'p', p, 'lock', now + d, 'strikes', strikes + 1)
+                redis.call('PEXPIRE', key, math.max(2 * window, d + window))
+                return d
+              end
+              if est >= free then
+                local delay = math.floor(math.min(maxLockout, baseDelay * 2 ^ (math.floor(est) - free)))
+                local elapsed = now - (tonumber(h[4]) or 0)
+                if elapsed < delay then return delay - elapsed end
+              end
+              state[i] = {c, p}
+            end
+
+            for i, key in ipairs(KEYS) do
+              redis.call('HSET', key, 'w', wid, 'c', state[i][1] + 1, 'p', state[i][2], 'last', now)
+              if redis.call('PTTL', key) < 2 * window then
+                redis.call('PEXPIRE', key, 2 * window)
+              end
+            end
+            return 0
+            """, Long.class);
+
+    // 잡아 둔 시도 되돌리기. KEYS = [주체별 해시...], ARGV = [clearFirst(1/0)]
+    // clearFirst 면 첫 키(이메일)는 잠금 횟수까지 통째로 지우고, 나머지는 현재 카운트에서 1 뺀다
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            for i, key in ipairs(KEYS) do
+              if i == 1 and ARGV[1] == '1' then
+                redis.call('DEL', key)
+              elseif (tonumber(redis.call('HGET', key, 'c')) or 0) > 0 then
+                redis.call('HINCRBY', key, 'c', -1)
+              end
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AuthThrottleProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 허용이면 이번 시도를 바로 세고 반환, 막히면 RateLimitException(429 + Retry-After).
+     * 해시 계산 전에 세므로 결과가 나기 전의 동시 요청도 한도에 잡힌다.
+     */
+    public void check(Action action, String email, String clientIp) {
+        long waitMs = run(action, emailKey(action, email), clientIp);
+        if (waitMs > 0) {
+            meterRegistry.counter("auth.throttled", "action", action.key).increment();
+            throw new RateLimitException(action.errorCode, (waitMs + 999) / 1000);
+        }
+    }
+
+    /** 로그인 성공: 이메일별 시도/잠금 기록을 지우고, IP 에 잡아 둔 시도 하나를 돌려준다 */
+    public void succeeded(Action action, String email, String clientIp) {
+        release(action, email, clientIp, true);
+    }
+
+    /** 자격 증명을 확인하지 못하고 끝난 시도(DB 장애 등): 잡아 둔 시도를 되돌린다 */
+    public void cancel(Action action, String email, String clientIp) {
+        release(action, email, clientIp, false);
+    }
+
+    private void release(Action action, String email, String clientIp, boolean clearEmail) {
+        List<String> keys = new ArrayList<>(2);
+        String emailKey = emailKey(action, email);
+        if (emailKey != null) keys.add(emailKey);
+        if (clientIp != null && !clientIp.isBlank()) keys.add(ipKey(action, clientIp));
+        if (keys.isEmpty()) return;
+
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, keys, clearEmail && emailKey != null ? "1" : "0");
+        } catch (RuntimeException e) {
+            log.warn("인증 요청 제한 되돌리기 실패: {}", e.getMessage());
+        }
+    }
+
+    private long run(Action action, String emailKey, String clientIp) {
+        AuthThrottleProperties.Policy policy = action == Action.LOGIN ? properties.getLogin() : properties.getOtp();
+
+        List<String> keys = new ArrayList<>(2);
+        List<String> args = new ArrayList<>(8);
+        args.add(String.valueOf(policy.getWindow().toMillis()));
+        args.add(String.valueOf(policy.getBaseDelay().toMillis()));
+        args.add(String.valueOf(policy.getLockout().toMillis()));
+        args.add(String.valueOf(policy.getMaxLockout().toMillis()));
+        if (emailKey != null) {
+            keys.add(emailKey);
+            args.add(String.valueOf(policy.getFreeAttempts()));
+            args.add(String.valueOf(policy.getPerEmail()));
+        }
+        if (clientIp != null && !clientIp.isBlank()) {
+            // IP 는 공용망(학교/기숙사)일 수 있으므로 간격 제한 없이 한도만
+            keys.add(ipKey(action, clientIp));
+            args.add(String.valueOf(policy.getPerIp()));
+            args.add(String.valueOf(policy.getPerIp()));
+        }
+        if (keys.isEmpty()) return 0;
+
+        try {
+            Long result = redisTemplate.execute(SCRIPT, keys, args.toArray());
+            return result == null ? 0 : result;
+        } catch (RuntimeException e) {
+            log.warn("인증 요청 제한 확인 실패 (통과 처리): {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private static String ipKey(Action action, String clientIp) {
+        return KEY_PREFIX + action.key + ":ip:" + clientIp;
+    }
+
+    private static String emailKey(Action action, String email) {
+        if (email == null || email.isBlank()) return null;
+        return KEY_PREFIX + action.key + ":email:" + Sha256.hash(email.trim().toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.gradu.global.security.throttle;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 로그인/인증코드 발송 요청 제한 (app.auth-throttle.*) */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.auth-throttle")
+public class AuthThrottleProperties {
+
+    private Policy login = new Policy(Duration.ofMinutes(15), 10, 100, 5,
+            Duration.ofSeconds(1), Duration.ofMinutes(5), Duration.ofHours(1));
+
+    private Policy otp = new Policy(Duration.ofHours(1), 5, 30, 1,
+            Duration.ofSeconds(30), Duration.ofMinutes(15), Duration.ofHours(24));
+
+    @Getter
+    @Setter
+    public static class Policy {
+        // 슬라이딩 윈도 길이
+        private Duration window;
+        // 윈도 안 허용 횟수 (이메일별 / IP별), 넘으면 잠금
+        private int perEmail;
+        private int perIp;
+        // 이메일별로 이 횟수까지는 바로 허용, 그 뒤로는 시도 간격을 baseDelay 부터 두 배씩 늘린다
+        private int freeAttempts;
+        private Duration baseDelay;
+        // 첫 잠금 시간 (잠길 때마다 두 배, maxLockout 까지)
+        private Duration lockout;
+        private Duration maxLockout;
+
+        public Policy() {}
+
+        Policy(Duration window, int perEmail, int perIp, int freeAttempts,
+               Duration baseDelay, Duration lockout, Duration maxLockout) {
+            this.window = window;
+            this.perEmail = perEmail;
+            this.perIp = perIp;
+            this.freeAttempts = freeAttempts;
+            this.baseDelay = baseDelay;
+            this.lockout = lockout;
+            this.maxLockout = maxLockout;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.gradu.global.security.throttle;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/** 클라이언트 IP: Caddy 가 넣어주는 X-Real-IP, 없으면(로컬 실행) 소켓 주소 */
+public final class ClientIp {
+    private ClientIp() {}
+
+    public static final String HEADER = "X-Real-IP";
+
+    public static String resolve(HttpServletRequest request) {
+        String realIp = request.getHeader(HEADER);
+        if (realIp != null && !realIp.isBlank()) return realIp.trim();
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.gradu.domain.capture_ai.admission;
+
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ratelimit.RateLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CaptureAdmissionTest {
+
+    private CaptureRateLimiter rateLimiter;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(CaptureRateLimiter.class);
+        when(rateLimiter.tryConsume(anyString())).thenReturn(0L);
+        registry = new SimpleMeterRegistry();
+    }
+
+    private CaptureAdmission admission(int maxConcurrent, int maxQueue, long maxWaitMs) {
+        return new CaptureAdmission(rateLimiter, registry, maxConcurrent, maxQueue, maxWaitMs, 5);
+    }
+
+    @Test
+    void checkRate_rejectsWithRetryAfterInSeconds() {
+        // given: 1.2초 뒤 토큰이 생김
+        when(rateLimiter.tryConsume("1")).thenReturn(1_200L);
+        var admission = admission(1, 1, 0);
+
+        // when & then
+        assertThatThrownBy(() -> admission.checkRate("1"))
+                .isInstanceOf(RateLimitException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.RATE_LIMITED)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 2L);
+        assertThat(registry.counter("capture.admission.rejected", "reason", "rate_limited").count()).isEqualTo(1);
+    }
+
+    @Test
+    void enter_rejectsImmediately_whenQueueIsFull() {
+        // given: 자리 1, 대기열 0
+        var admission = admission(1, 0, 1_000);
+        var held = admission.enter("1");
+
+        // when & then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> admission.enter("2"))
+                .isInstanceOf(RateLimitException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AI_CAPTURE_BUSY)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 5L);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+        assertThat(registry.counter("capture.admission.rejected", "reason", "queue_full").count()).isEqualTo(1);
+        held.close();
+    }
+
+    @Test
+    void enter_waitsInQueue_untilSlotIsReleased() throws Exception {
+        // given
+        var admission = admission(1, 1, 5_000);
+        var held = admission.enter("1");
+
+        // when: 두 번째 요청은 대기하다가 자리가 나면 들어감
+        var waiter = CompletableFuture.supplyAsync(() -> admission.enter("2"));
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(registry.get("capture.admission.queue").gauge().value()).isEqualTo(1.0);
+        held.close();
+
+        // then
+        var permit = waiter.get(2, TimeUnit.SECONDS);
+        assertThat(registry.get("capture.admission.queue").gauge().value()).isZero();
+        assertThat(registry.get("capture.admission.in_flight").gauge().value()).isEqualTo(1.0);
+        permit.close();
+    }
+
+    @Test
+    void enter_rejects_whenWaitTimesOut() {
+        var admission = admission(1, 1, 50);
+        var held = admission.enter("1");
+
+        assertThatThrownBy(() -> admission.enter("2")).isInstanceOf(RateLimitException.class);
+        assertThat(registry.counter("capture.admission.rejected", "reason", "wait_timeout").count()).isEqualTo(1);
+        held.close();
+    }
+
+    @Test
+    void permit_releasesOnlyOnce() {
+        var admission = admission(2, 0, 0);
+        var permit = admission.enter("1");
+
+        permit.close();
+        permit.close();
+
+        assertThat(admission.available()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.gradu.domain.capture_ai.admission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CaptureRateLimiterTest {
+
+    private StringRedisTemplate redisTemplate;
+    private CaptureRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        limiter = new CaptureRateLimiter(redisTemplate, 5, 5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryConsume_passesBucketSettings_andReadsScriptResult() {
+        // given: 허용 → 거절(3초 대기)
+        Object[][] args = new Object[1][];
+        doAnswer(inv -> {
+            args[0] = inv.getArguments();
+            return List.of(1L, 0L);
+        }).doReturn(List.of(0L, 3_000L))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        // when & then
+        assertThat(limiter.tryConsume("42")).isZero();
+        assertThat(limiter.tryConsume("42")).isEqualTo(3_000L);
+
+        assertThat(args[0][1]).isEqualTo(List.of("ratelimit:capture:42"));
+        // capacity, 초당이 아닌 ms 당 충전량, cost, ttl(가득 차는 데 60초)
+        assertThat(List.of(args[0]).subList(2, 6)).containsExactly("5", String.valueOf(5 / 60_000.0), "1", "60");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryConsume_failsOpen_whenRedisIsDown() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(limiter.tryConsume("42")).isZero();
+    }
+}
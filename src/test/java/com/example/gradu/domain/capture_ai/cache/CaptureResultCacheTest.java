@@ -0,0 +1,88 @@
+package com.example.gradu.domain.capture_ai.cache;
+
+import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CaptureResultCacheTest {
+
+    private ValueOperations<String, String> valueOps;
+    private SimpleMeterRegistry registry;
+    private CaptureResultCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        var redisTemplate = mock(StringRedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        registry = new SimpleMeterRegistry();
+        cache = new CaptureResultCache(redisTemplate, new ObjectMapper(), registry, 24);
+    }
+
+    @Test
+    void setKey_followsUploadOrder_andSingleImageKeyIsItsHash() {
+        String a = CaptureResultCache.imageHash("A".getBytes());
+        String b = CaptureResultCache.imageHash("B".getBytes());
+
+        // 순서가 다르면 결과 행 순서도 달라야 하므로 다른 묶음
+        assertThat(CaptureResultCache.setKey(List.of(a, b))).isNotEqualTo(CaptureResultCache.setKey(List.of(b, a)));
+        assertThat(CaptureResultCache.setKey(List.of(a, b))).isEqualTo(CaptureResultCache.setKey(new java.util.LinkedHashSet<>(List.of(a, b))));
+        assertThat(CaptureResultCache.setKey(List.of(a))).isEqualTo(a);
+        assertThat(CaptureResultCache.setKey(List.of(a, b))).isNotIn(a, b);
+    }
+
+    @Test
+    void putThenGetAll_roundTripsCourses_andSkipsMissingKeys() throws Exception {
+        // given
+        var course = new CourseBulkRequest();
+        course.setName("자료구조");
+        course.setEnglish(false);
+        String json = new ObjectMapper().writeValueAsString(List.of(course));
+        when(valueOps.multiGet(anyList())).thenReturn(Arrays.asList(json, null));
+
+        // when
+        cache.put("k1", List.of(course));
+        var found = cache.getAll(List.of("k1", "k2"));
+
+        // then
+        verify(valueOps).set(eq("capture:result:k1"), eq(json), eq(Duration.ofHours(24)));
+        verify(valueOps).multiGet(List.of("capture:result:k1", "capture:result:k2"));
+        assertThat(found).containsOnlyKeys("k1");
+        assertThat(found.get("k1")).extracting(CourseBulkRequest::getName).containsExactly("자료구조");
+    }
+
+    @Test
+    void getAll_treatsRedisFailureAsMiss() {
+        when(valueOps.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(cache.getAll(List.of("k1"))).isEmpty();
+    }
+
+    @Test
+    void record_countsRequestsAndImages_forHitRatio() {
+        cache.record(2, 0); // 전체 적중
+        cache.record(1, 2); // 일부 적중
+        cache.record(0, 1); // 미적중
+
+        assertThat(registry.counter("capture.cache.requests", "result", "hit").count()).isEqualTo(1);
+        assertThat(registry.counter("capture.cache.requests", "result", "partial").count()).isEqualTo(1);
+        assertThat(registry.counter("capture.cache.requests", "result", "miss").count()).isEqualTo(1);
+        assertThat(registry.counter("capture.cache.images", "result", "hit").count()).isEqualTo(3);
+        assertThat(registry.counter("capture.cache.images", "result", "miss").count()).isEqualTo(3);
+    }
+}
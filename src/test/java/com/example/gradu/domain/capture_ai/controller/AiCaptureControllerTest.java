@@ -1,10 +1,21 @@
 package com.example.gradu.domain.capture_ai.controller;
 
+import com.example.gradu.domain.capture_ai.admission.CaptureAdmission;
+import com.example.gradu.domain.capture_ai.dto.CaptureFailureDto;
+import com.example.gradu.domain.capture_ai.dto.CaptureJobDto;
+import com.example.gradu.domain.capture_ai.dto.CaptureResultDto;
 import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.domain.capture_ai.job.CaptureJobStatus;
 import com.example.gradu.domain.capture_ai.service.AiCaptureService;
+import com.example.gradu.domain.capture_ai.service.CaptureFanOutService;
+import com.example.gradu.domain.capture_ai.service.CaptureJobService;
+import com.example.gradu.domain.capture_ai.service.CaptureStreamService;
 import com.example.gradu.global.config.JpaAuditingConfig;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ratelimit.RateLimitException;
 import com.example.gradu.global.security.SecurityConfig;
 import com.example.gradu.global.security.jwt.JwtAuthenticationFilter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -13,13 +24,19 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -37,12 +54,27 @@ class AiCaptureControllerTest {
     @Autowired MockMvc mockMvc;
 
     @MockitoBean AiCaptureService aiCaptureService;
+    @MockitoBean CaptureJobService captureJobService;
+    @MockitoBean CaptureFanOutService captureFanOutService;
+    @MockitoBean CaptureStreamService captureStreamService;
+    @MockitoBean CaptureAdmission captureAdmission;
 
     private static final String BASE = "/api/v1/ai";
 
+    @AfterEach
+    void clearAuth() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void login(String studentId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(studentId, null, List.of()));
+    }
+
     @Test
     void captureCoursesByImage_ok_returnsList() throws Exception {
         // given: multipart files (RequestPart name = "images")
+        login("1");
         MockMultipartFile img1 = new MockMultipartFile(
                 "images",
                 "a.png",
@@ -69,6 +101,25 @@ class AiCaptureControllerTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
 
         verify(aiCaptureService).analyzeCapture(anyList());
+        verify(captureAdmission).enter("1");
+    }
+
+    @Test
+    void captureCoursesByImage_tooManyRequests_withRetryAfter() throws Exception {
+        // given: 학생별 요청 한도 초과
+        login("1");
+        MockMultipartFile img = new MockMultipartFile("images", "a.png", MediaType.IMAGE_PNG_VALUE, "dummy".getBytes());
+        when(captureAdmission.enter("1")).thenThrow(new RateLimitException(ErrorCode.RATE_LIMITED, 12));
+
+        // when & then
+        mockMvc.perform(multipart(BASE + "/course-capture")
+                        .file(img)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "12"))
+                .andExpect(jsonPath("$.code").value("RL001"));
+
+        verify(aiCaptureService, never()).analyzeCapture(anyList());
     }
 
     @Test
@@ -80,4 +131,85 @@ class AiCaptureControllerTest {
 
         verify(aiCaptureService, never()).analyzeCapture(anyList());
     }
+
+    @Test
+    void submitCaptureJob_accepted_withLocation() throws Exception {
+        // given: 로그인 학생 1
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("1", null, List.of()));
+        MockMultipartFile img = new MockMultipartFile("images", "a.png", MediaType.IMAGE_PNG_VALUE, "dummy".getBytes());
+        when(captureJobService.submit(eq("1"), anyList()))
+                .thenReturn(new CaptureJobDto("job-1", CaptureJobStatus.QUEUED, null, null, null));
+
+        // when & then
+        mockMvc.perform(multipart(BASE + "/course-capture/jobs")
+                        .file(img)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/ai/course-capture/jobs/job-1"))
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        verify(aiCaptureService, never()).analyzeCapture(anyList());
+        verify(captureAdmission).checkRate("1");
+    }
+
+    @Test
+    void getCaptureJob_returnsStatus_andRequiresLogin() throws Exception {
+        // 비로그인 → 401
+        mockMvc.perform(get(BASE + "/course-capture/jobs/job-1"))
+                .andExpect(status().isUnauthorized());
+
+        // 로그인 → 상태 조회
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("1", null, List.of()));
+        when(captureJobService.get("1", "job-1"))
+                .thenReturn(new CaptureJobDto("job-1", CaptureJobStatus.SUCCEEDED, List.of(), null, null));
+
+        mockMvc.perform(get(BASE + "/course-capture/jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"));
+    }
+
+    @Test
+    void captureCoursesFanOut_returnsCoursesAndPerImageFailures() throws Exception {
+        // given
+        login("1");
+        MockMultipartFile img1 = new MockMultipartFile("images", "a.png", MediaType.IMAGE_PNG_VALUE, "dummy".getBytes());
+        MockMultipartFile img2 = new MockMultipartFile("images", "b.png", MediaType.IMAGE_PNG_VALUE, "dummy2".getBytes());
+        var course = new CourseBulkRequest();
+        course.setName("자료구조");
+        when(captureFanOutService.analyze(anyList())).thenReturn(new CaptureResultDto(
+                List.of(course),
+                List.of(new CaptureFailureDto(1, "b.png", "AI005", "실패"))));
+
+        // when & then
+        mockMvc.perform(multipart(BASE + "/course-capture/fan-out")
+                        .file(img1)
+                        .file(img2)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses[0].name").value("자료구조"))
+                .andExpect(jsonPath("$.failures[0].imageIndex").value(1))
+                .andExpect(jsonPath("$.failures[0].filename").value("b.png"));
+
+        verify(aiCaptureService, never()).analyzeCapture(anyList());
+    }
+
+    @Test
+    void streamCaptureCourses_startsAsyncSseStream() throws Exception {
+        // given
+        login("1");
+        MockMultipartFile img = new MockMultipartFile("images", "a.png", MediaType.IMAGE_PNG_VALUE, "dummy".getBytes());
+        when(captureStreamService.stream(anyList(), any())).thenReturn(new SseEmitter());
+
+        // when & then
+        mockMvc.perform(multipart(BASE + "/course-capture/stream")
+                        .file(img)
+                        .contentType(MediaType.MULTIPART_FORM_DATA)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(captureStreamService).stream(anyList(), any());
+    }
 }
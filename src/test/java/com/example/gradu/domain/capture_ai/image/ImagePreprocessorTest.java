@@ -0,0 +1,140 @@
+package com.example.gradu.domain.capture_ai.image;
+
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImagePreprocessorTest {
+
+    private final ImagePreprocessor preprocessor = new ImagePreprocessor(true, 1600, 0.85f, false, 40_000_000);
+
+    @Test
+    void process_cropsMargins_downscales_andReencodesAsSmallerJpeg() throws IOException {
+        // given: 흰 여백 가운데 표(2400x1200)가 있는 3000x4000 스크린샷
+        byte[] png = toPng(screenshot(3000, 4000, 300, 1000, 2400, 1200));
+
+        // when
+        var result = preprocessor.process(new CaptureImage(png, "image/png", "a.png"));
+
+        // then
+        assertThat(result.image().contentType()).isEqualTo("image/jpeg");
+        assertThat(result.processedBytes()).isLessThan(result.originalBytes());
+        assertThat(result.savedBytes()).isPositive();
+
+        BufferedImage out = ImageIO.read(new ByteArrayInputStream(result.image().bytes()));
+        assertThat(Math.max(out.getWidth(), out.getHeight())).isLessThanOrEqualTo(1600);
+        // 여백이 잘려 표 비율(2:1)에 가깝다
+        assertThat((double) out.getWidth() / out.getHeight()).isBetween(1.9, 2.1);
+    }
+
+    @Test
+    void cropToContent_keepsImage_whenNoMarginToTrim() {
+        BufferedImage full = screenshot(400, 300, 0, 0, 400, 300);
+
+        assertThat(ImagePreprocessor.cropToContent(full)).isSameAs(full);
+    }
+
+    @Test
+    void process_returnsOriginal_whenNotDecodable_orDisabled() {
+        var junk = new CaptureImage("not-an-image".getBytes(), "image/png", "x.png");
+
+        var result = preprocessor.process(junk);
+        assertThat(result.image()).isSameAs(junk);
+        assertThat(result.savedBytes()).isZero();
+
+        var disabled = new ImagePreprocessor(false, 1600, 0.85f, false, 40_000_000);
+        assertThat(disabled.process(junk).image()).isSameAs(junk);
+    }
+
+    @Test
+    void process_returnsOriginal_withoutDecoding_whenHeaderDeclaresHugeDimensions() throws IOException {
+        // given: 수십 바이트짜리 PNG 가 100000x100000 (약 40GB 디코딩) 을 선언
+        var bomb = new CaptureImage(pngHeaderOnly(100_000, 100_000), "image/png", "bomb.png");
+
+        // when
+        var result = preprocessor.process(bomb);
+
+        // then: OOM 없이 원본 그대로
+        assertThat(result.image()).isSameAs(bomb);
+        assertThat(result.savedBytes()).isZero();
+    }
+
+    @Test
+    void process_grayscale_producesSingleChannelJpeg() throws IOException {
+        var gray = new ImagePreprocessor(true, 800, 0.85f, true, 40_000_000);
+        byte[] png = toPng(screenshot(1200, 1600, 100, 200, 1000, 600));
+
+        var result = gray.process(new CaptureImage(png, "image/png", "a.png"));
+
+        BufferedImage out = ImageIO.read(new ByteArrayInputStream(result.image().bytes()));
+        assertThat(out.getColorModel().getNumComponents()).isEqualTo(1);
+    }
+
+    // 흰 배경 + 파란 헤더 + 격자가 있는 표
+    private static BufferedImage screenshot(int w, int h, int tx, int ty, int tw, int th) {
+        var img = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, w, h);
+        g.setColor(new Color(40, 90, 200));
+        g.fillRect(tx, ty, tw, Math.max(1, th / 10));
+        g.setColor(Color.DARK_GRAY);
+        for (int y = ty; y < ty + th; y += 40) g.drawLine(tx, y, tx + tw - 1, y);
+        for (int x = tx; x < tx + tw; x += 200) g.drawLine(x, ty, x, ty + th - 1);
+        g.drawRect(tx, ty, tw - 1, th - 1);
+        g.dispose();
+
+        // 안티에일리어싱된 글자처럼 표 안 픽셀을 미세하게 흔든다 (실제 스크린샷 PNG 가 큰 이유)
+        int[] px = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+        var rnd = new Random(42);
+        for (int y = ty; y < ty + th; y++) {
+            for (int x = tx; x < tx + tw; x++) {
+                int jitter = rnd.nextInt(8);
+                px[y * w + x] -= jitter << 16 | jitter << 8 | jitter;
+            }
+        }
+        return img;
+    }
+
+    // 시그니처 + IHDR + IEND 만 있는 PNG (크기 선언만 있고 픽셀 데이터 없음)
+    private static byte[] pngHeaderOnly(int w, int h) throws IOException {
+        var out = new ByteArrayOutputStream();
+        out.write(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        ByteBuffer ihdr = ByteBuffer.allocate(13).putInt(w).putInt(h)
+                .put((byte) 8).put((byte) 6).put((byte) 0).put((byte) 0).put((byte) 0);
+        writeChunk(out, "IHDR", ihdr.array());
+        writeChunk(out, "IEND", new byte[0]);
+        return out.toByteArray();
+    }
+
+    private static void writeChunk(ByteArrayOutputStream out, String type, byte[] data) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        var crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        out.write(ByteBuffer.allocate(4).putInt(data.length).array());
+        out.write(typeBytes);
+        out.write(data);
+        out.write(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+    }
+
+    private static byte[] toPng(BufferedImage img) throws IOException {
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", out);
+        return out.toByteArray();
+    }
+}
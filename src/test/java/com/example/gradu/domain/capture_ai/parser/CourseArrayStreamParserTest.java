@@ -0,0 +1,120 @@
+package com.example.gradu.domain.capture_ai.parser;
+
+import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ai.AIException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CourseArrayStreamParserTest {
+
+    private static final String RESPONSE = """
+            ```json
+            [
+              {"name":"자료구조","credit":3,"category":"MAJOR","grade":"A+","isEnglish":false,"academicYear":2024,"term":"1"},
+              {"name":"공동체리더십훈련1","credit":0.5,"category":"PERSONALITY_LEADERSHIP","grade":"P","academicYear":2019,"term":"2"}
+            ]
+            ```
+            """;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 17, 10_000})
+    void feed_emitsEachCourseAsSoonAsItsObjectCloses(int chunkSize) {
+        // given
+        var parser = new CourseArrayStreamParser();
+        List<CourseBulkRequest> out = new ArrayList<>();
+        int firstEmittedAt = -1;
+
+        // when: 조각 크기와 관계없이
+        for (int i = 0; i < RESPONSE.length(); i += chunkSize) {
+            var done = parser.feed(RESPONSE.substring(i, Math.min(RESPONSE.length(), i + chunkSize)));
+            if (!done.isEmpty() && firstEmittedAt < 0) firstEmittedAt = i + chunkSize;
+            out.addAll(done);
+        }
+        parser.finish();
+
+        // then: 코드펜스는 무시, 첫 행은 첫 객체가 닫히자마자 나온다
+        assertThat(out).extracting(CourseBulkRequest::getName, CourseBulkRequest::getCategory)
+                .containsExactly(
+                        tuple("자료구조", Category.MAJOR),
+                        tuple("공동체리더십훈련1", Category.PERSONALITY_LEADERSHIP));
+        if (chunkSize < RESPONSE.length()) {
+            assertThat(firstEmittedAt).isLessThan(RESPONSE.indexOf("공동체리더십훈련1"));
+        }
+    }
+
+    @Test
+    void finish_keepsSalvagedRows_whenStreamIsTruncated() {
+        // given: 두 번째 원소에서 응답이 끊김
+        var parser = new CourseArrayStreamParser();
+        assertThat(parser.feed("[{\"name\":\"자료구조\"}, {\"name\":\"운영")).hasSize(1);
+
+        // when & then: 살린 행이 있으면 실패로 보지 않는다
+        assertThatCode(parser::finish).doesNotThrowAnyException();
+        assertThat(parser.skipped()).isEqualTo(1);
+    }
+
+    @Test
+    void finish_failsWhenNothingIsSalvaged() {
+        var truncated = new CourseArrayStreamParser();
+        truncated.feed("[{\"name\":\"운영");
+        var noArray = new CourseArrayStreamParser();
+        noArray.feed("죄송합니다. 이미지를 읽을 수 없습니다.");
+
+        assertThatThrownBy(truncated::finish)
+                .isInstanceOf(AIException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AI_RESPONSE_PARSING_FAILED);
+        assertThatThrownBy(noArray::finish)
+                .isInstanceOf(AIException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AI_RESPONSE_PARSING_FAILED);
+    }
+
+    @Test
+    void feed_skipsMalformedElements_andKeepsTheRest() {
+        // given: 따옴표 빠진 값, 모르는 카테고리, 숫자가 아닌 학점
+        var parser = new CourseArrayStreamParser();
+        String text = """
+                [
+                  {"name": 자료구조, "category":"MAJOR"},
+                  {"name":"운영체제","category":"MAJOR","grade":"AO","term":"2학기","credit":"3(1)"},
+                  {"name":"수학","category":"NOT_A_CATEGORY"},
+                  {"name":"물리","category":"BSM","credit":"three"},
+                  {"name":"채플 \\\\ \\"}\\"","category":"신앙 및 세계관","grade":"p","term":"여름"}
+                ]
+                """;
+
+        // when
+        var out = parser.feed(text);
+        parser.finish();
+
+        // then
+        assertThat(out).extracting(CourseBulkRequest::getName, CourseBulkRequest::getCategory,
+                        CourseBulkRequest::getGrade, CourseBulkRequest::getTerm)
+                .containsExactly(
+                        tuple("운영체제", Category.MAJOR, "A0", "2"),
+                        tuple("채플 \\ \"}\"", Category.FAITH_WORLDVIEW, "P", "sum"));
+        assertThat(out.get(0).getCredit()).isEqualByComparingTo("3");
+        assertThat(out.get(0).getDesignedCredit()).isEqualTo(1);
+        assertThat(parser.skipped()).isEqualTo(3);
+    }
+
+    @Test
+    void feed_ignoresBracketsInProseBeforeTheArray() {
+        var parser = new CourseArrayStreamParser();
+
+        var out = parser.feed("아래는 [요청하신] 결과입니다 [1단계]:\n[{\"name\":\"자료구조\",\"category\":\"전공주제\"}]\n끝 [참고]");
+        parser.finish();
+
+        assertThat(out).extracting(CourseBulkRequest::getName, CourseBulkRequest::getCategory)
+                .containsExactly(tuple("자료구조", Category.MAJOR));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.gradu.domain.capture_ai.parser;
+
+import com.example.gradu.domain.curriculum.entity.Category;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CourseRowNormalizerTest {
+
+    @ParameterizedTest
+    @CsvSource({"AO,A0", "a+,A+", "B,B0", "b o,B0", "pd,PD", "Pass,PASS", "f,F", "C0,C0"})
+    void grade_normalizesCommonOcrMistakes(String raw, String expected) {
+        assertThat(CourseRowNormalizer.grade(raw)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,1", "1학기,1", "2 학기,2", "summer,sum", "여름,sum", "3,sum", "겨울학기,win", "WIN,win"})
+    void term_mapsToTermCodes(String raw, String expected) {
+        assertThat(CourseRowNormalizer.term(raw)).isEqualTo(expected);
+    }
+
+    @Test
+    void category_acceptsEnumNamesAndKoreanLabels() {
+        assertThat(CourseRowNormalizer.category("major")).isEqualTo(Category.MAJOR);
+        assertThat(CourseRowNormalizer.category("전공 주제")).isEqualTo(Category.MAJOR);
+        assertThat(CourseRowNormalizer.category("신앙및세계관")).isEqualTo(Category.FAITH_WORLDVIEW);
+        assertThat(CourseRowNormalizer.category("자유선택(교양)")).isEqualTo(Category.FREE_ELECTIVE_BASIC);
+        assertThat(CourseRowNormalizer.category("NOT_A_CATEGORY")).isNull();
+    }
+
+    @Test
+    void credit_splitsDesignedCreditInParentheses() {
+        assertThat(CourseRowNormalizer.credit("3(1)")).containsExactly("3", "1");
+        assertThat(CourseRowNormalizer.credit("0.5")).containsExactly("0.5", null);
+        assertThat(CourseRowNormalizer.credit("three")).isNull();
+    }
+
+    @Test
+    void isEnglishName_ignoresDigitsAndPunctuation() {
+        assertThat(CourseRowNormalizer.isEnglishName("Data Structures (1)", Category.MAJOR)).isTrue();
+        assertThat(CourseRowNormalizer.isEnglishName("Business English 1", Category.PRACTICAL_ENGLISH)).isFalse();
+        assertThat(CourseRowNormalizer.isEnglishName(" 1234-() ", Category.MAJOR)).isFalse();
+        assertThat(CourseRowNormalizer.isEnglishName("자료구조 Data", Category.MAJOR)).isFalse();
+        assertThat(CourseRowNormalizer.isEnglishName(null, Category.MAJOR)).isFalse();
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.gradu.domain.capture_ai.service;
 
+import com.example.gradu.domain.capture_ai.cache.CaptureResultCache;
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
 import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.domain.capture_ai.image.ImagePreprocessor;
 import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex;
 import com.example.gradu.global.client.OpenAiClient;
 import com.example.gradu.global.exception.ErrorCode;
 import com.example.gradu.global.exception.ai.AIException;
@@ -9,20 +13,32 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AiCaptureServiceTest {
 
     @Mock OpenAiClient openAiClient;
+    @Mock MajorRoadmapIndex majorRoadmapIndex;
+    @Spy ImagePreprocessor imagePreprocessor = new ImagePreprocessor(true, 1600, 0.85f, false, 40_000_000);
+    @Mock CaptureResultCache resultCache;
 
     @InjectMocks AiCaptureService service;
 
@@ -58,6 +74,164 @@ class AiCaptureServiceTest {
         verify(openAiClient, times(1)).analyzeCourseImages(anyList());
     }
 
+    @Test
+    void analyzeImages_sendsPreprocessedImages_toClient() {
+        // given: 전처리 결과가 JPEG 로 바뀐 경우
+        var original = new CaptureImage("PNG".getBytes(), "image/png", "a.png");
+        var processed = new CaptureImage("JPG".getBytes(), "image/jpeg", "a.png");
+        doReturn(new ImagePreprocessor.Result(processed, 3_000_000, 300_000))
+                .when(imagePreprocessor).process(original);
+        when(openAiClient.analyzeCourseImages(anyList())).thenReturn("[]");
+
+        // when
+        service.analyzeImages(List.of(original));
+
+        // then
+        verify(openAiClient).analyzeCourseImages(List.of(processed));
+    }
+
+    @Test
+    void analyzeImages_fullCacheHit_skipsModelCall() {
+        // given
+        var img1 = new CaptureImage("A".getBytes(), "image/png", "a.png");
+        var img2 = new CaptureImage("B".getBytes(), "image/png", "b.png");
+        String fullKey = CaptureResultCache.setKey(List.of(
+                CaptureResultCache.imageHash(img1.bytes()), CaptureResultCache.imageHash(img2.bytes())));
+        var cachedCourse = new CourseBulkRequest();
+        cachedCourse.setName("자료구조");
+        when(resultCache.getAll(anyList())).thenReturn(Map.of(fullKey, List.of(cachedCourse)));
+
+        // when: 같은 순서로 다시 올린 묶음
+        var result = service.analyzeImages(List.of(img1, img2));
+
+        // then
+        assertThat(result).extracting(CourseBulkRequest::getName).containsExactly("자료구조");
+        verifyNoInteractions(openAiClient);
+        verify(resultCache).record(2, 0);
+    }
+
+    @Test
+    void analyzeImages_reorderedUpload_doesNotReuseFirstUploadsRowOrder() {
+        // given: (img1, img2) 묶음 결과와 이미지별 결과가 모두 캐시에 있음
+        var img1 = new CaptureImage("A".getBytes(), "image/png", "a.png");
+        var img2 = new CaptureImage("B".getBytes(), "image/png", "b.png");
+        String hash1 = CaptureResultCache.imageHash(img1.bytes());
+        String hash2 = CaptureResultCache.imageHash(img2.bytes());
+        var course1 = new CourseBulkRequest();
+        course1.setName("자료구조");
+        var course2 = new CourseBulkRequest();
+        course2.setName("운영체제");
+        when(resultCache.getAll(anyList())).thenReturn(Map.of(
+                CaptureResultCache.setKey(List.of(hash1, hash2)), List.of(course1, course2),
+                hash1, List.of(course1),
+                hash2, List.of(course2)));
+
+        // when: 순서를 바꿔 다시 올림
+        var result = service.analyzeImages(List.of(img2, img1));
+
+        // then: 새 업로드 순서 그대로
+        assertThat(result).extracting(CourseBulkRequest::getName).containsExactly("운영체제", "자료구조");
+        verifyNoInteractions(openAiClient);
+    }
+
+    @Test
+    void analyzeImages_partialHit_sendsOnlyMissingImages_andCachesThem() {
+        // given: img1 은 이미지별 캐시에 있음, img2 는 없음
+        var img1 = new CaptureImage("A".getBytes(), "image/png", "a.png");
+        var img2 = new CaptureImage("B".getBytes(), "image/png", "b.png");
+        String hash1 = CaptureResultCache.imageHash(img1.bytes());
+        String hash2 = CaptureResultCache.imageHash(img2.bytes());
+
+        var cachedCourse = new CourseBulkRequest();
+        cachedCourse.setName("자료구조");
+        when(resultCache.getAll(anyList())).thenReturn(Map.of(hash1, List.of(cachedCourse)));
+        when(openAiClient.analyzeCourseImages(anyList()))
+                .thenReturn("[{\"name\":\"운영체제\",\"category\":\"GENERAL_EDU\"}]");
+
+        // when
+        var result = service.analyzeImages(List.of(img1, img2, img2)); // 중복 업로드는 한 번만
+
+        // then
+        assertThat(result).extracting(CourseBulkRequest::getName).containsExactly("자료구조", "운영체제");
+        verify(openAiClient).analyzeCourseImages(List.of(img2));
+        verify(resultCache).record(1, 1);
+        verify(resultCache).put(eq(hash2), anyList());
+        verify(resultCache).put(eq(CaptureResultCache.setKey(List.of(hash1, hash2))), anyList());
+    }
+
+    @Test
+    void analyzeImages_partialHit_assemblesResultInUploadOrder() {
+        // given: 가운데 img2 만 캐시에 있음
+        var img1 = new CaptureImage("A".getBytes(), "image/png", "a.png");
+        var img2 = new CaptureImage("B".getBytes(), "image/png", "b.png");
+        var img3 = new CaptureImage("C".getBytes(), "image/png", "c.png");
+        String hash2 = CaptureResultCache.imageHash(img2.bytes());
+
+        var cachedCourse = new CourseBulkRequest();
+        cachedCourse.setName("이산수학");
+        when(resultCache.getAll(anyList())).thenReturn(Map.of(hash2, List.of(cachedCourse)));
+        when(openAiClient.analyzeCourseImages(List.of(img1)))
+                .thenReturn("[{\"name\":\"자료구조\",\"category\":\"MAJOR\"}]");
+        when(openAiClient.analyzeCourseImages(List.of(img3)))
+                .thenReturn("[{\"name\":\"운영체제\",\"category\":\"MAJOR\"}]");
+
+        // when
+        var result = service.analyzeImages(List.of(img1, img2, img3));
+
+        // then: 캐시 적중 여부와 관계없이 업로드 순서 그대로 → fullKey 에도 같은 순서로 저장
+        assertThat(result).extracting(CourseBulkRequest::getName).containsExactly("자료구조", "이산수학", "운영체제");
+        verify(resultCache).record(1, 2);
+        verify(resultCache).put(eq(CaptureResultCache.setKey(List.of(
+                        CaptureResultCache.imageHash(img1.bytes()), hash2, CaptureResultCache.imageHash(img3.bytes())))),
+                argThat(rows -> rows.stream().map(CourseBulkRequest::getName).toList()
+                        .equals(List.of("자료구조", "이산수학", "운영체제"))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamImages_emitsEachCourseAsItCompletes_andCachesResult() {
+        // given: 모델이 조각으로 응답
+        var img = new CaptureImage("A".getBytes(), "image/png", "a.png");
+        String hash = CaptureResultCache.imageHash(img.bytes());
+        List<String> timeline = new ArrayList<>();
+        doAnswer(inv -> {
+            Consumer<String> onDelta = inv.getArgument(1);
+            for (String chunk : List.of("```json\n[{\"name\":\"Data Str", "uctures\",\"category\":\"MAJOR\"},",
+                    "{\"name\":\"운영체제\",\"category\":\"GENERAL_EDU\"}]\n```")) {
+                timeline.add("chunk");
+                onDelta.accept(chunk);
+            }
+            return null;
+        }).when(openAiClient).streamCourseImages(anyList(), any(Consumer.class));
+
+        // when
+        var result = service.streamImages(List.of(img), c -> timeline.add(c.getName()));
+
+        // then: 두 번째 조각에서 첫 행이 바로 나가고, 후처리(영문 판별)도 적용
+        assertThat(timeline).containsExactly("chunk", "chunk", "Data Structures", "chunk", "운영체제");
+        assertThat(result.get(0).isEnglish()).isTrue();
+        verify(resultCache).record(0, 1);
+        verify(resultCache).put(eq(hash), eq(result));
+    }
+
+    @Test
+    void streamImages_cacheHit_emitsWithoutModelCall() {
+        // given
+        var img = new CaptureImage("A".getBytes(), "image/png", "a.png");
+        String hash = CaptureResultCache.imageHash(img.bytes());
+        var cachedCourse = new CourseBulkRequest();
+        cachedCourse.setName("자료구조");
+        when(resultCache.getAll(List.of(hash))).thenReturn(Map.of(hash, List.of(cachedCourse)));
+        List<String> emitted = new ArrayList<>();
+
+        // when
+        service.streamImages(List.of(img), c -> emitted.add(c.getName()));
+
+        // then
+        assertThat(emitted).containsExactly("자료구조");
+        verifyNoInteractions(openAiClient);
+    }
+
     @Test
     void analyzeCapture_whenAiReturnsInvalidJson_throwsParsingFailed() {
         // given
@@ -153,4 +327,34 @@ class AiCaptureServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).isEnglish()).isFalse();
     }
+
+    @Test
+    void analyzeCapture_snapsFuzzyMatchedMajorName_toRoadmapName() {
+        // given: OCR 오인식 전공명 + 같은 이름의 교양(교정 대상 아님)
+        MultipartFile img = new MockMultipartFile("f", "a.png", "image/png", "X".getBytes());
+        String aiJson = """
+                [
+                  {"name":"웹서비스개밟","category":"MAJOR"},
+                  {"name":"데이터구조","category":"MAJOR"},
+                  {"name":"웹서비스개밟","category":"GENERAL_EDU"}
+                ]
+                """;
+        when(openAiClient.analyzeCourseImages(anyList())).thenReturn(aiJson);
+
+        var row = new MajorRoadmapIndex.RoadmapRow(2, 2, "ECE20009", "웹서비스개발", "Web Service Development");
+        when(majorRoadmapIndex.findBestMatch("웹서비스개밟"))
+                .thenReturn(Optional.of(new MajorRoadmapIndex.RoadmapMatch(row, "웹서비스개발", 0.83, false)));
+        when(majorRoadmapIndex.findBestMatch("데이터구조"))
+                .thenReturn(Optional.of(new MajorRoadmapIndex.RoadmapMatch(
+                        new MajorRoadmapIndex.RoadmapRow(2, 1, "ECE20010", "데이터구조", "Data Structures"),
+                        "데이터구조", 1.0, true)));
+
+        // when
+        List<CourseBulkRequest> result = service.analyzeCapture(List.of(img));
+
+        // then
+        assertThat(result).extracting(CourseBulkRequest::getName)
+                .containsExactly("웹서비스개발", "데이터구조", "웹서비스개밟");
+        verify(majorRoadmapIndex, times(2)).findBestMatch(anyString());
+    }
 }
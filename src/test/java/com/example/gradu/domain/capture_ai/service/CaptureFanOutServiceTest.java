@@ -0,0 +1,133 @@
+package com.example.gradu.domain.capture_ai.service;
+
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
+import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ai.AIException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class CaptureFanOutServiceTest {
+
+    private AiCaptureService aiCaptureService;
+    private ExecutorService executor;
+
+    private static final CaptureImage A = new CaptureImage("a".getBytes(), "image/png", "a.png");
+    private static final CaptureImage B = new CaptureImage("b".getBytes(), "image/png", "b.png");
+    private static final CaptureImage C = new CaptureImage("c".getBytes(), "image/png", "c.png");
+
+    @BeforeEach
+    void setUp() {
+        aiCaptureService = mock(AiCaptureService.class);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static CourseBulkRequest course(String name, int year, String term) {
+        var c = new CourseBulkRequest();
+        c.setName(name);
+        c.setAcademicYear((short) year);
+        c.setTerm(term);
+        return c;
+    }
+
+    @Test
+    void analyze_mergesInImageOrder_evenWhenFirstImageFinishesLast() {
+        // given: A 가 가장 늦게 끝나도 결과는 A → B → C 순서
+        when(aiCaptureService.analyzeImages(List.of(A))).thenAnswer(inv -> {
+            TimeUnit.MILLISECONDS.sleep(200);
+            return List.of(course("자료구조", 2024, "1"));
+        });
+        when(aiCaptureService.analyzeImages(List.of(B))).thenReturn(List.of(course("운영체제", 2024, "2")));
+        when(aiCaptureService.analyzeImages(List.of(C))).thenReturn(List.of(course("알고리즘", 2025, "1")));
+        var service = new CaptureFanOutService(aiCaptureService, executor, 4, 1);
+
+        // when
+        var result = service.analyze(List.of(A, B, C));
+
+        // then
+        assertThat(result.courses()).extracting(CourseBulkRequest::getName)
+                .containsExactly("자료구조", "운영체제", "알고리즘");
+        assertThat(result.failures()).isEmpty();
+    }
+
+    @Test
+    void analyze_dedupesByNormalizedNameYearAndTerm_keepingFirst() {
+        // given: 캡처가 겹쳐서 같은 과목이 두 장에 나온 경우 (공백만 다름), 다른 학기 재수강은 유지
+        var first = course("웹 서비스 개발", 2024, "1");
+        first.setGrade("A+");
+        var dup = course("웹서비스개발", 2024, "1");
+        dup.setGrade("B0");
+        when(aiCaptureService.analyzeImages(List.of(A))).thenReturn(List.of(first));
+        when(aiCaptureService.analyzeImages(List.of(B))).thenReturn(List.of(dup, course("웹서비스개발", 2025, "1")));
+        var service = new CaptureFanOutService(aiCaptureService, executor, 4, 1);
+
+        // when
+        var result = service.analyze(List.of(A, B));
+
+        // then
+        assertThat(result.courses())
+                .extracting(CourseBulkRequest::getName, CourseBulkRequest::getAcademicYear, CourseBulkRequest::getGrade)
+                .containsExactly(
+                        tuple("웹 서비스 개발", (short) 2024, "A+"),
+                        tuple("웹서비스개발", (short) 2025, null));
+    }
+
+    @Test
+    void analyze_reportsFailurePerImage_andKeepsOtherResults() {
+        // given
+        when(aiCaptureService.analyzeImages(List.of(A))).thenReturn(List.of(course("자료구조", 2024, "1")));
+        when(aiCaptureService.analyzeImages(List.of(B))).thenThrow(new AIException(ErrorCode.AI_RESPONSE_PARSING_FAILED));
+        when(aiCaptureService.analyzeImages(List.of(C))).thenThrow(new IllegalStateException("boom"));
+        var service = new CaptureFanOutService(aiCaptureService, executor, 4, 1);
+
+        // when
+        var result = service.analyze(List.of(A, B, C));
+
+        // then
+        assertThat(result.courses()).extracting(CourseBulkRequest::getName).containsExactly("자료구조");
+        assertThat(result.failures())
+                .extracting(f -> f.imageIndex(), f -> f.filename(), f -> f.errorCode())
+                .containsExactly(
+                        tuple(1, "b.png", ErrorCode.AI_RESPONSE_PARSING_FAILED.getCode()),
+                        tuple(2, "c.png", ErrorCode.AI_CAPTURE_FAILED.getCode()));
+    }
+
+    @Test
+    void analyze_groupsImages_andBoundsParallelism() {
+        // given: 2장씩 묶고 동시에 1묶음만
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(aiCaptureService.analyzeImages(anyList())).thenAnswer(inv -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(50);
+            running.decrementAndGet();
+            return List.of();
+        });
+        var service = new CaptureFanOutService(aiCaptureService, executor, 1, 2);
+
+        // when
+        service.analyze(List.of(A, B, C));
+
+        // then
+        verify(aiCaptureService).analyzeImages(List.of(A, B));
+        verify(aiCaptureService).analyzeImages(List.of(C));
+        assertThat(peak.get()).isEqualTo(1);
+    }
+}
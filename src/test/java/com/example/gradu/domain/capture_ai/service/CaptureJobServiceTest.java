@@ -0,0 +1,122 @@
+package com.example.gradu.domain.capture_ai.service;
+
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
+import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.domain.capture_ai.job.CaptureJob;
+import com.example.gradu.domain.capture_ai.job.CaptureJobStatus;
+import com.example.gradu.domain.capture_ai.job.CaptureJobStore;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ai.AIException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CaptureJobServiceTest {
+
+    private AiCaptureService aiCaptureService;
+    private CaptureJobStore jobStore;
+    private final Map<String, CaptureJob> saved = new HashMap<>();
+    private final List<CaptureJobStatus> history = new ArrayList<>();
+
+    private static final List<CaptureImage> IMAGES =
+            List.of(new CaptureImage("png".getBytes(), "image/png", "a.png"));
+
+    @BeforeEach
+    void setUp() {
+        aiCaptureService = mock(AiCaptureService.class);
+        jobStore = mock(CaptureJobStore.class);
+
+        // Redis 대신 메모리 저장
+        doAnswer(inv -> {
+            CaptureJob job = inv.getArgument(0);
+            saved.put(job.jobId(), job);
+            history.add(job.status());
+            return null;
+        }).when(jobStore).save(any(CaptureJob.class));
+        when(jobStore.find(anyString())).thenAnswer(inv -> Optional.ofNullable(saved.get(inv.<String>getArgument(0))));
+    }
+
+    private CaptureJobService service(Executor executor, int maxPending) {
+        return new CaptureJobService(aiCaptureService, jobStore, executor, 2, maxPending, 1_000L);
+    }
+
+    @Test
+    void submit_runsJob_andStoresResult() {
+        // given
+        var course = new CourseBulkRequest();
+        course.setName("자료구조");
+        when(aiCaptureService.analyzeImages(anyList())).thenReturn(List.of(course));
+        var service = service(Runnable::run, 4);
+
+        // when
+        var submitted = service.submit("1", IMAGES);
+
+        // then
+        assertThat(submitted.status()).isEqualTo(CaptureJobStatus.QUEUED);
+        assertThat(history).containsExactly(CaptureJobStatus.QUEUED, CaptureJobStatus.RUNNING, CaptureJobStatus.SUCCEEDED);
+
+        var job = service.get("1", submitted.jobId());
+        assertThat(job.status()).isEqualTo(CaptureJobStatus.SUCCEEDED);
+        assertThat(job.courses()).extracting(CourseBulkRequest::getName).containsExactly("자료구조");
+    }
+
+    @Test
+    void submit_storesFailureCode_whenAnalysisFails() {
+        // given
+        when(aiCaptureService.analyzeImages(anyList()))
+                .thenThrow(new AIException(ErrorCode.AI_RESPONSE_PARSING_FAILED));
+        var service = service(Runnable::run, 4);
+
+        // when
+        var job = service.get("1", service.submit("1", IMAGES).jobId());
+
+        // then
+        assertThat(job.status()).isEqualTo(CaptureJobStatus.FAILED);
+        assertThat(job.errorCode()).isEqualTo(ErrorCode.AI_RESPONSE_PARSING_FAILED.getCode());
+        assertThat(job.courses()).isNull();
+    }
+
+    @Test
+    void submit_rejects_whenPendingLimitReached_andAcceptsAgainAfterDrain() {
+        // given: 실행되지 않고 쌓이기만 하는 executor
+        Deque<Runnable> queued = new ArrayDeque<>();
+        var service = service(queued::add, 1);
+        when(aiCaptureService.analyzeImages(anyList())).thenReturn(List.of());
+
+        service.submit("1", IMAGES);
+
+        // when / then
+        assertThatThrownBy(() -> service.submit("1", IMAGES))
+                .isInstanceOf(AIException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AI_CAPTURE_BUSY);
+
+        // 대기 작업이 끝나면 다시 받는다
+        queued.poll().run();
+        assertThatCode(() -> service.submit("1", IMAGES)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void get_hidesOtherStudentsJob() {
+        // given
+        when(aiCaptureService.analyzeImages(anyList())).thenReturn(List.of());
+        var service = service(Runnable::run, 4);
+        var jobId = service.submit("1", IMAGES).jobId();
+
+        // when / then
+        assertThatThrownBy(() -> service.get("2", jobId))
+                .isInstanceOf(AIException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AI_CAPTURE_JOB_NOT_FOUND);
+        assertThatThrownBy(() -> service.subscribe("2", jobId))
+                .isInstanceOf(AIException.class);
+    }
+}
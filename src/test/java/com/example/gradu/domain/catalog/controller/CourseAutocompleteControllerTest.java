@@ -0,0 +1,70 @@
+package com.example.gradu.domain.catalog.controller;
+
+import com.example.gradu.domain.catalog.dto.CourseSuggestionDto;
+import com.example.gradu.domain.catalog.service.CourseAutocompleteService;
+import com.example.gradu.global.config.JpaAuditingConfig;
+import com.example.gradu.global.security.SecurityConfig;
+import com.example.gradu.global.security.jwt.JwtAuthenticationFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(
+        controllers = CourseAutocompleteController.class,
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JpaAuditingConfig.class),
+        }
+)
+@AutoConfigureMockMvc(addFilters = false)
+class CourseAutocompleteControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockitoBean
+    CourseAutocompleteService courseAutocompleteService;
+
+    @Test
+    void autocomplete_returnsSuggestions() throws Exception {
+        // given
+        when(courseAutocompleteService.suggest("웹섭", 5)).thenReturn(List.of(
+                new CourseSuggestionDto("웹서비스개발", "Web Service Development", 40)
+        ));
+
+        // when & then
+        mvc.perform(get("/api/v1/catalog/courses/autocomplete")
+                        .param("q", "웹섭")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("웹서비스개발"))
+                .andExpect(jsonPath("$[0].nameEn").value("Web Service Development"))
+                .andExpect(jsonPath("$[0].popularity").value(40));
+
+        verify(courseAutocompleteService).suggest("웹섭", 5);
+    }
+
+    @Test
+    void autocomplete_defaultLimitIs10() throws Exception {
+        // given
+        when(courseAutocompleteService.suggest("db", 10)).thenReturn(List.of());
+
+        // when & then
+        mvc.perform(get("/api/v1/catalog/courses/autocomplete").param("q", "db"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.gradu.domain.catalog.index;
+
+import com.example.gradu.domain.catalog.entity.CatalogCourse;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseCatalogIndexTest {
+
+    private static CatalogCourse course(Long id, String code, String ko, String en, String... aliases) {
+        CatalogCourse c = CatalogCourse.builder()
+                .courseCode(code)
+                .nameKo(ko)
+                .nameEn(en)
+                .build();
+        for (String a : aliases) c.addAlias(a);
+        ReflectionTestUtils.setField(c, "id", id);
+        return c;
+    }
+
+    @Test
+    void findIdByName_resolvesKoreanEnglishAliasAndCode_ignoringSpacesAndCase() {
+        var index = new CourseCatalogIndex();
+        index.rebuild(List.of(
+                course(1L, "ECE20009", "웹서비스개발", "Web Service Development"),
+                course(2L, "ECE10002", "C 프로그래밍", "C-Programming", "C 프로그래밍(전산전자)")
+        ));
+
+        assertThat(index.findIdByName("웹 서비스 개발")).contains(1L);
+        assertThat(index.findIdByName("web service development")).contains(1L);
+        assertThat(index.findIdByName("ECE20009")).contains(1L);
+        assertThat(index.findIdByName("C프로그래밍(전산전자)")).contains(2L);
+        assertThat(index.findById(2L)).get()
+                .extracting(CourseCatalogIndex.CatalogEntry::courseCode)
+                .isEqualTo("ECE10002");
+    }
+
+    @Test
+    void findIdByName_returnsEmpty_whenUnknownOrBlank() {
+        var index = new CourseCatalogIndex();
+        index.rebuild(List.of(course(1L, "ECE20009", "웹서비스개발", null)));
+
+        assertThat(index.findIdByName("없는과목")).isEmpty();
+        assertThat(index.findIdByName(null)).isEmpty();
+        assertThat(index.findIdByName("   ")).isEmpty();
+        assertThat(index.findById(null)).isEmpty();
+    }
+
+    @Test
+    void rebuild_replacesPreviousSnapshot() {
+        var index = new CourseCatalogIndex();
+        index.rebuild(List.of(course(1L, "A", "가", null)));
+        index.rebuild(List.of(course(2L, "B", "나", null)));
+
+        assertThat(index.findIdByName("가")).isEmpty();
+        assertThat(index.findIdByName("나")).contains(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
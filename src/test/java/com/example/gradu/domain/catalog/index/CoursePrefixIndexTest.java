@@ -0,0 +1,72 @@
+package com.example.gradu.domain.catalog.index;
+
+import com.example.gradu.domain.catalog.index.CoursePrefixIndex.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoursePrefixIndexTest {
+
+    private final CoursePrefixIndex index = CoursePrefixIndex.build(List.of(
+            new Entry("웹서비스개발", "Web Service Development", 40),
+            new Entry("웹 프로그래밍", null, 10),
+            new Entry("데이터구조", "Data Structures", 99),
+            new Entry("데이터베이스", "Database Systems", 70)
+    ));
+
+    private static List<String> names(List<Entry> entries) {
+        return entries.stream().map(Entry::name).toList();
+    }
+
+    @Test
+    void search_matchesSyllableStillBeingTyped() {
+        // when: "웹서비"를 치는 도중 "웹섭"까지 입력된 상태
+        var result = index.search("웹섭", 5);
+
+        // then
+        assertThat(names(result)).containsExactly("웹서비스개발");
+    }
+
+    @Test
+    void search_matchesBareInitialConsonant_orderedByPopularity() {
+        assertThat(names(index.search("ㄷ", 5))).containsExactly("데이터구조", "데이터베이스");
+        assertThat(names(index.search("ㅇ", 5))).containsExactly("웹서비스개발", "웹 프로그래밍");
+    }
+
+    @Test
+    void search_ignoresWhitespaceAndCase() {
+        assertThat(names(index.search("웹프로", 5))).containsExactly("웹 프로그래밍");
+        assertThat(names(index.search("웹 서비스", 5))).containsExactly("웹서비스개발");
+        assertThat(names(index.search("DATA", 5))).containsExactly("데이터구조", "데이터베이스");
+        assertThat(names(index.search("data s", 5))).containsExactly("데이터구조");
+    }
+
+    @Test
+    void search_respectsLimit_andReturnsEmptyForBlankOrUnknown() {
+        assertThat(index.search("데이", 1)).hasSize(1);
+        assertThat(index.search("  ", 5)).isEmpty();
+        assertThat(index.search("없는과목", 5)).isEmpty();
+        assertThat(index.search("데이", 0)).isEmpty();
+    }
+
+    @Test
+    void search_widePrefix_usesPrecomputedTop_consistentWithScan() {
+        // given: 같은 접두어를 가진 과목이 SCAN_THRESHOLD 보다 많음
+        List<Entry> many = new ArrayList<>();
+        for (int i = 0; i < CoursePrefixIndex.SCAN_THRESHOLD * 3; i++) {
+            many.add(new Entry("Course " + i, null, i));
+        }
+        var big = CoursePrefixIndex.build(many);
+
+        // when
+        var top = big.search("cou", 3);
+        var narrow = big.search("course 19", 3);
+
+        // then
+        assertThat(names(top)).containsExactly("Course 191", "Course 190", "Course 189");
+        assertThat(names(narrow)).containsExactly("Course 191", "Course 190", "Course 19");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.gradu.domain.catalog.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzyNameIndexTest {
+
+    private static FuzzyNameIndex<String> index() {
+        Map<String, String> names = new LinkedHashMap<>();
+        names.put("웹서비스개발", "ECE20009");
+        names.put("Web Service Development", "ECE20009");
+        names.put("데이터구조", "ECE20010");
+        names.put("Data Structures", "ECE20010");
+        names.put("캡스톤디자인1", "ECE30079");
+        names.put("캡스톤디자인2", "ECE40079");
+        names.put("운영체제", "ECE30021");
+        return FuzzyNameIndex.build(names, 0.75);
+    }
+
+    @Test
+    void find_exact_ignoresSpacesCaseAndSymbols() {
+        var m = index().find(" data-structures ");
+
+        assertThat(m).get().satisfies(x -> {
+            assertThat(x.value()).isEqualTo("ECE20010");
+            assertThat(x.exact()).isTrue();
+            assertThat(x.confidence()).isEqualTo(1.0);
+        });
+    }
+
+    @Test
+    void find_typoWithinEditBudget_returnsCanonicalNameWithConfidence() {
+        var ko = index().find("웹서비스개밟");
+        var en = index().find("Data Strucutres");
+
+        assertThat(ko).get().satisfies(x -> {
+            assertThat(x.name()).isEqualTo("웹서비스개발");
+            assertThat(x.distance()).isEqualTo(1);
+            assertThat(x.exact()).isFalse();
+            assertThat(x.confidence()).isGreaterThanOrEqualTo(0.75);
+        });
+        assertThat(en).get().extracting(FuzzyNameIndex.Match::value).isEqualTo("ECE20010");
+    }
+
+    @Test
+    void find_rejectsLowConfidence_ambiguousAndDifferentNumberedCourse() {
+        var idx = index();
+
+        // 2글자 오류 (6글자 → 신뢰도 0.67)
+        assertThat(idx.find("웹사비스개밟")).isEmpty();
+        // 1/l 혼동: 어느 번호 과목인지 확정할 수 없음
+        assertThat(idx.find("캡스톤디자인l")).isEmpty();
+        // 번호만 다른 과목은 근사 매칭하지 않음
+        assertThat(idx.find("캡스톤디자인3")).isEmpty();
+        assertThat(idx.find("없는과목")).isEmpty();
+        assertThat(idx.find(null)).isEmpty();
+    }
+
+    @Test
+    void boundedDistance_capsAtKPlusOne() {
+        assertThat(FuzzyNameIndex.boundedDistance("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(FuzzyNameIndex.boundedDistance("kitten", "sitting", 2)).isEqualTo(3);
+        assertThat(FuzzyNameIndex.boundedDistance("abc", "abcdef", 2)).isEqualTo(3);
+        assertThat(FuzzyNameIndex.boundedDistance("운영체제", "운영채제", 1)).isEqualTo(1);
+    }
+}
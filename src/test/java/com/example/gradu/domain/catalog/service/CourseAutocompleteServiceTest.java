@@ -0,0 +1,75 @@
+package com.example.gradu.domain.catalog.service;
+
+import com.example.gradu.domain.catalog.index.CoursePrefixIndex.Entry;
+import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex;
+import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex.RoadmapRow;
+import com.example.gradu.domain.ranking.repository.CourseRankingRepository;
+import com.example.gradu.domain.ranking.repository.CourseRankingRepository.CourseCountRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseAutocompleteServiceTest {
+
+    @Mock CourseRankingRepository courseRankingRepository;
+    @Mock MajorRoadmapIndex majorRoadmapIndex;
+
+    CourseAutocompleteService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CourseAutocompleteService(courseRankingRepository, majorRoadmapIndex, 2);
+    }
+
+    private static CourseCountRow row(String name, long count) {
+        return new CourseCountRow() {
+            @Override public String getName() { return name; }
+            @Override public long getTakenCount() { return count; }
+        };
+    }
+
+    @Test
+    void mergeEntries_sumsCountsOfSpacingAndEnglishVariantsIntoRoadmapName() {
+        // given
+        var roadmap = List.of(new RoadmapRow(2, 2, "ECE20009", "웹서비스개발", "Web Service Development"));
+        var counts = List.of(
+                row("웹서비스개발", 5),
+                row("웹 서비스 개발", 2),
+                row("web service development", 1),
+                row("채플", 30)
+        );
+
+        // when
+        var entries = CourseAutocompleteService.mergeEntries(roadmap, counts);
+
+        // then
+        assertThat(entries).containsExactlyInAnyOrder(
+                new Entry("웹서비스개발", "Web Service Development", 8),
+                new Entry("채플", null, 30)
+        );
+    }
+
+    @Test
+    void suggest_beforeRebuild_isEmpty_andAfterRebuild_servesFromMemory() {
+        // given
+        assertThat(service.suggest("채", 5)).isEmpty();
+        when(majorRoadmapIndex.getRows()).thenReturn(List.of());
+        when(courseRankingRepository.findCourseNameCounts(2L)).thenReturn(List.of(row("채플", 30)));
+
+        // when
+        service.rebuild();
+
+        // then
+        assertThat(service.suggest("ㅊ", 5))
+                .extracting("name")
+                .containsExactly("채플");
+    }
+}
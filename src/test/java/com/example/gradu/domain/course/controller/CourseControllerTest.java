@@ -10,6 +10,8 @@ import com.example.gradu.domain.curriculum.entity.Category;
 import com.example.gradu.global.config.JpaAuditingConfig;
 import com.example.gradu.global.security.SecurityConfig;
 import com.example.gradu.global.security.jwt.JwtAuthenticationFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -17,6 +19,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -43,6 +47,18 @@ class CourseControllerTest {
     @MockitoBean CourseService courseService;
     @MockitoBean CourseCommandService courseCommandService;
 
+    // ✅ @CheckStudentAccess: 경로의 학번(1)과 같은 학생으로 로그인
+    @BeforeEach
+    void login() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(1L, null, List.of()));
+    }
+
+    @AfterEach
+    void clearAuth() {
+        SecurityContextHolder.clearContext();
+    }
+
     private Course stubCourseForResponse() {
         Course c = mock(Course.class);
         when(c.getCategory()).thenReturn(Category.MAJOR);
@@ -169,4 +185,27 @@ class CourseControllerTest {
         // then
         verify(courseService).bulkInsert(eq(studentId), anyList());
     }
+
+    @Test
+    void getAllCourses_otherStudent_forbidden() throws Exception {
+        // given: 1번으로 로그인했는데 2번 학생 경로
+
+        // when & then
+        mockMvc.perform(get("/api/v1/students/{studentId}/courses/all", 2L))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(courseService);
+    }
+
+    @Test
+    void getAllCourses_notLoggedIn_unauthorized() throws Exception {
+        // given
+        SecurityContextHolder.clearContext();
+
+        // when & then
+        mockMvc.perform(get("/api/v1/students/{studentId}/courses/all", 1L))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(courseService);
+    }
 }
@@ -1,7 +1,9 @@
 package com.example.gradu.domain.course.service;
 
+import com.example.gradu.domain.catalog.index.CourseCatalogIndex;
 import com.example.gradu.domain.course.dto.CourseUpdateRequestDto;
 import com.example.gradu.domain.course.entity.Course;
+import com.example.gradu.domain.course.event.CourseChangedEvent;
 import com.example.gradu.domain.course.repository.CourseRepository;
 import com.example.gradu.domain.curriculum.entity.Category;
 import com.example.gradu.domain.curriculum.entity.Curriculum;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -26,6 +29,8 @@ class CourseCommandServiceTest {
     @Mock CourseRepository courseRepository;
     @Mock CurriculumRepository curriculumRepository;
     @Mock SummaryCommandService summaryCommandService;
+    @Mock CourseCatalogIndex courseCatalogIndex;
+    @Mock ApplicationEventPublisher eventPublisher;
 
     @InjectMocks CourseCommandService courseCommandService;
 
@@ -82,6 +87,7 @@ class CourseCommandServiceTest {
 
         verifyNoInteractions(curriculumRepository);
         verify(summaryCommandService, never()).recomputeAndSave(anyLong());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -181,5 +187,6 @@ class CourseCommandServiceTest {
         verify(designedCur).addEarnedCredits(-2); // designed -2
         verify(courseRepository).delete(c);
         verify(summaryCommandService).recomputeAndSave(1L);
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(1L));
     }
 }
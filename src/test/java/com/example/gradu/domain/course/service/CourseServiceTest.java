@@ -1,6 +1,7 @@
 package com.example.gradu.domain.course.service;
 
 import com.example.gradu.domain.capture_ai.dto.CourseBulkRequest;
+import com.example.gradu.domain.catalog.index.CourseCatalogIndex;
 import com.example.gradu.domain.course.dto.CourseRequestDto;
 import com.example.gradu.domain.course.dto.CourseUpdateRequestDto;
 import com.example.gradu.domain.course.entity.Course;
@@ -16,9 +17,11 @@ import com.example.gradu.global.exception.course.CourseException;
 import com.example.gradu.global.exception.student.StudentException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -35,6 +38,8 @@ class CourseServiceTest {
     @Mock CurriculumRepository curriculumRepository;
     @Mock CourseCommandService courseCommandService;
     @Mock SummaryCommandService summaryCommandService;
+    @Mock CourseCatalogIndex courseCatalogIndex;
+    @Mock ApplicationEventPublisher eventPublisher;
 
     @InjectMocks CourseService courseService;
 
@@ -138,6 +143,25 @@ class CourseServiceTest {
         verify(summaryCommandService).recomputeAndSave(1L);
     }
 
+    @Test
+    void addCourse_newCourse_linksCatalogId_andKeepsRawName() {
+        // given
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student()));
+        when(courseRepository.findByStudentIdAndNameAndCategoryAndAcademicYearAndTerm(anyLong(), anyString(), any(), any(), any()))
+                .thenReturn(Optional.empty());
+        when(curriculumRepository.findByStudentIdAndCategory(1L, Category.GENERAL_EDU)).thenReturn(Optional.of(mock(Curriculum.class)));
+        when(courseCatalogIndex.findIdByName("웹 서비스 개발")).thenReturn(Optional.of(42L));
+
+        // when
+        courseService.addCourse(1L, req("웹 서비스 개발", BigDecimal.valueOf(3), Category.GENERAL_EDU, 0, false, "A+", (short) 2024, "1"), false);
+
+        // then: 표시용 원본 이름은 그대로, catalog id만 채워짐
+        ArgumentCaptor<Course> captor = ArgumentCaptor.forClass(Course.class);
+        verify(courseRepository).save(captor.capture());
+        assertThat(captor.getValue().getName()).isEqualTo("웹 서비스 개발");
+        assertThat(captor.getValue().getCatalogCourseId()).isEqualTo(42L);
+    }
+
     @Test
     void addCourse_majorAlsoUpdatesMajorDesigned() {
         // given
@@ -6,12 +6,16 @@ import com.example.gradu.domain.curriculum.service.CurriculumService;
 import com.example.gradu.global.config.JpaAuditingConfig;
 import com.example.gradu.global.security.SecurityConfig;
 import com.example.gradu.global.security.jwt.JwtAuthenticationFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -36,6 +40,18 @@ class CurriculumControllerTest {
 
     @MockitoBean CurriculumService curriculumService;
 
+    // ✅ @CheckStudentAccess: 경로의 학번(1)과 같은 학생으로 로그인
+    @BeforeEach
+    void login() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(1L, null, List.of()));
+    }
+
+    @AfterEach
+    void clearAuth() {
+        SecurityContextHolder.clearContext();
+    }
+
     private Curriculum stubCurriculum(Category category, Curriculum.Status status) {
         Curriculum c = mock(Curriculum.class);
         when(c.getCategory()).thenReturn(category);
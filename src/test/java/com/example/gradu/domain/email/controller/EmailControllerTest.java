@@ -3,8 +3,11 @@ package com.example.gradu.domain.email.controller;
 import com.example.gradu.domain.email.dto.EmailRequestDto;
 import com.example.gradu.domain.email.service.EmailVerificationService;
 import com.example.gradu.global.config.JpaAuditingConfig;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ratelimit.RateLimitException;
 import com.example.gradu.global.security.SecurityConfig;
 import com.example.gradu.global.security.jwt.JwtAuthenticationFilter;
+import com.example.gradu.global.security.throttle.AuthThrottle;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,8 +19,10 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(
@@ -35,6 +40,7 @@ class EmailControllerTest {
     @Autowired ObjectMapper om;
 
     @MockitoBean EmailVerificationService service;
+    @MockitoBean AuthThrottle authThrottle;
 
     @Test
     void send_ok_returns204() throws Exception {
@@ -51,6 +57,23 @@ class EmailControllerTest {
         verify(service).sendCode("a@handong.ac.kr");
     }
 
+    @Test
+    void send_throttled_returns429_withoutSendingMail() throws Exception {
+        // given
+        doThrow(new RateLimitException(ErrorCode.EMAIL_OTP_TOO_MANY, 60))
+                .when(authThrottle).check(eq(AuthThrottle.Action.OTP_SEND), eq("a@handong.ac.kr"), anyString());
+        String body = om.writeValueAsString(new EmailRequestDto("a@handong.ac.kr"));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/auth/email/otp/send")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "60"));
+
+        verify(service, never()).sendCode(anyString());
+    }
+
     @Test
     void send_badRequest_whenValidationFails() throws Exception {
         // EmailRequestDto에 @NotBlank/@Email 등이 있어야 400이 나옴
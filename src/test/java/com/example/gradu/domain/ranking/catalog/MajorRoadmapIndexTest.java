@@ -60,6 +60,33 @@ class MajorRoadmapIndexTest {
         assertThat(index.findTermByCourseName("   ")).isEmpty();
     }
 
+    @Test
+    void findBestMatch_fuzzyMatchesOcrVariants_toRoadmapName() throws IOException {
+        var index = new MajorRoadmapIndex(new ObjectMapper());
+
+        // 오타 1글자
+        assertThat(index.findBestMatch("웹서비스개밟")).get().satisfies(m -> {
+            assertThat(m.exact()).isFalse();
+            assertThat(m.matchedName()).isEqualTo("웹서비스개발");
+            assertThat(m.term()).isEqualTo(new MajorRoadmapIndex.TermKey(2, 2));
+        });
+
+        // 괄호 꼬리가 붙은 OCR 결과
+        assertThat(index.findBestMatch("데이터구조(01)")).get().satisfies(m -> {
+            assertThat(m.exact()).isFalse();
+            assertThat(m.matchedName()).isEqualTo("데이터구조");
+        });
+
+        // 공백/대소문자만 다르면 정확 매칭
+        assertThat(index.findBestMatch("data structures")).get()
+                .extracting(MajorRoadmapIndex.RoadmapMatch::exact)
+                .isEqualTo(true);
+
+        // 근사 매칭도 findTermByCourseName 에 반영
+        assertThat(index.findTermByCourseName("Computer Netwroks"))
+                .contains(new MajorRoadmapIndex.TermKey(3, 2));
+    }
+
     // ===== helpers =====
 
     private static MajorRoadmapIndex.RoadmapRow pickAnyRowWithKoOrEn() throws IOException {
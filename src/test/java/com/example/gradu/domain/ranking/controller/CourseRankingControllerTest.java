@@ -1,6 +1,8 @@
 package com.example.gradu.domain.ranking.controller;
 
 import com.example.gradu.domain.ranking.dto.CourseRankingDto;
+import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.domain.ranking.service.CourseCubeService;
 import com.example.gradu.domain.ranking.service.CourseRankingService;
 import com.example.gradu.global.config.JpaAuditingConfig;
 import com.example.gradu.global.security.SecurityConfig;
@@ -37,6 +39,9 @@ class CourseRankingControllerTest {
     @MockitoBean
     CourseRankingService rankingService;
 
+    @MockitoBean
+    CourseCubeService cubeService;
+
     @Test
     void getCourses_returnsRankingResponseJson() throws Exception {
         // given
@@ -77,4 +82,22 @@ class CourseRankingControllerTest {
                 // liberal.faithWorldview[0]
                 .andExpect(jsonPath("$.liberal.faithWorldview[0].courseName").value("채플"));
     }
+
+    @Test
+    void getCourseSlice_bindsFilters_andReturnsItems() throws Exception {
+        // given
+        when(cubeService.slice(Category.BSM, (short) 2024, "2", null, null, 5))
+                .thenReturn(List.of(new CourseRankingDto.RankingItemDto(1, "선형대수학", 12, 0)));
+
+        // when & then
+        mvc.perform(get("/api/v1/rankings/courses/slice")
+                        .param("category", "BSM")
+                        .param("academicYear", "2024")
+                        .param("term", "2")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].rank").value(1))
+                .andExpect(jsonPath("$[0].courseName").value("선형대수학"))
+                .andExpect(jsonPath("$[0].takenCount").value(12));
+    }
 }
@@ -0,0 +1,134 @@
+package com.example.gradu.domain.ranking.cube;
+
+import com.example.gradu.domain.course.entity.Term;
+import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.domain.ranking.cube.CourseCountCube.CourseKey;
+import com.example.gradu.domain.ranking.cube.CourseCountCube.Fact;
+import com.example.gradu.domain.ranking.cube.CourseCountCube.RankedCourse;
+import com.example.gradu.domain.ranking.cube.CourseCountCube.SliceKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseCountCubeTest {
+
+    private CourseCountCube cube;
+
+    private static Fact fact(Category category, String name, int year, Term term) {
+        return new Fact(category, name, (short) year, term, 1);
+    }
+
+    private static SliceKey slice(Category category, Integer year, Term term, Integer cohort, Integer studyYear) {
+        return new SliceKey(
+                category,
+                year == null ? null : year.shortValue(),
+                term,
+                cohort == null ? null : cohort.shortValue(),
+                studyYear
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        cube = new CourseCountCube();
+        // 21학번(첫 수강 2021)
+        cube.replaceStudent(1L, List.of(
+                fact(Category.BSM, "미적분학1", 2021, Term.FIRST),
+                fact(Category.MAJOR, "운영체제", 2023, Term.FIRST),
+                fact(Category.MAJOR, "데이터베이스", 2023, Term.FIRST)
+        ));
+        // 22학번
+        cube.replaceStudent(2L, List.of(
+                fact(Category.BSM, "미적분학 1", 2022, Term.FIRST),
+                fact(Category.BSM, "선형대수학", 2024, Term.SECOND),
+                fact(Category.MAJOR, "운영체제", 2024, Term.FIRST)
+        ));
+    }
+
+    @Test
+    void top_byYearAndTerm_mergesWhitespaceVariants() {
+        assertThat(cube.top(slice(Category.BSM, 2024, Term.SECOND, null, null), 10))
+                .containsExactly(new RankedCourse("선형대수학", 1));
+
+        // 연도/학기 전체 roll-up: "미적분학1" + "미적분학 1"
+        assertThat(cube.top(slice(Category.BSM, null, null, null, null), 10))
+                .containsExactly(new RankedCourse("미적분학 1", 2), new RankedCourse("선형대수학", 1));
+    }
+
+    @Test
+    void top_byCohortAndStudyYear() {
+        // 21학번이 3학년 1학기(2023-1)에 들은 과목
+        assertThat(cube.top(slice(null, null, Term.FIRST, 2021, 3), 10))
+                .extracting(RankedCourse::name)
+                .containsExactly("데이터베이스", "운영체제");
+
+        // 학번 무관 3학년 1학기 전공: 21학번(2023), 22학번(2024) 모두 운영체제
+        assertThat(cube.top(slice(Category.MAJOR, null, Term.FIRST, null, 3), 10))
+                .first()
+                .isEqualTo(new RankedCourse("운영체제", 2));
+    }
+
+    @Test
+    void replaceStudent_appliesOnlyTheDiff_andRemovesEmptiedStudent() {
+        // when: 학생 2가 선형대수학 삭제 + 운영체제를 데이터베이스로 변경
+        cube.replaceStudent(2L, List.of(
+                fact(Category.BSM, "미적분학 1", 2022, Term.FIRST),
+                fact(Category.MAJOR, "데이터베이스", 2024, Term.FIRST)
+        ));
+
+        // then
+        assertThat(cube.top(slice(Category.BSM, 2024, Term.SECOND, null, null), 10)).isEmpty();
+        assertThat(cube.top(slice(Category.MAJOR, null, null, null, null), 10))
+                .containsExactly(new RankedCourse("데이터베이스", 2), new RankedCourse("운영체제", 1));
+
+        // when: 탈퇴
+        cube.replaceStudent(1L, List.of());
+        cube.replaceStudent(2L, List.of());
+
+        // then
+        assertThat(cube.studentCount()).isZero();
+        assertThat(cube.top(slice(null, null, null, null, null), 10)).isEmpty();
+    }
+
+    @Test
+    void replaceStudent_cohortShift_movesCellsToNewCohort() {
+        // when: 학생 2가 2021년 과목을 추가 → 학번 대리값이 2021로 바뀜
+        cube.replaceStudent(2L, List.of(
+                fact(Category.BSM, "물리학", 2021, Term.SECOND),
+                fact(Category.BSM, "미적분학 1", 2022, Term.FIRST),
+                fact(Category.BSM, "선형대수학", 2024, Term.SECOND),
+                fact(Category.MAJOR, "운영체제", 2024, Term.FIRST)
+        ));
+
+        // then
+        assertThat(cube.top(slice(null, null, null, 2022, null), 10)).isEmpty();
+        assertThat(cube.top(slice(Category.MAJOR, null, null, 2021, null), 10))
+                .containsExactly(new RankedCourse("운영체제", 2), new RankedCourse("데이터베이스", 1));
+    }
+
+    @Test
+    void replaceStudent_returnsCourseLevelDiff_ignoringRetakesAndTermMoves() {
+        // when: 학생 1이 미적분학1을 다른 학기에 재수강 + 데이터베이스 삭제 + 선형대수학 추가
+        var diff = cube.replaceStudent(1L, List.of(
+                fact(Category.BSM, "미적분학1", 2021, Term.FIRST),
+                fact(Category.BSM, "미적분학 1", 2022, Term.SECOND),
+                fact(Category.MAJOR, "운영체제", 2023, Term.FIRST),
+                fact(Category.BSM, "선형대수학", 2023, Term.FIRST)
+        ));
+
+        // then: 재수강/학기 이동은 과목 단위로는 변화 없음
+        assertThat(diff.added()).containsExactly(new CourseKey(Category.BSM, "선형대수학"));
+        assertThat(diff.removed()).containsExactly(new CourseKey(Category.MAJOR, "데이터베이스"));
+        assertThat(cube.studentCourses().get(1L)).hasSize(3);
+    }
+
+    @Test
+    void top_respectsLimit_andUnknownSliceIsEmpty() {
+        assertThat(cube.top(slice(null, null, null, null, null), 2)).hasSize(2);
+        assertThat(cube.top(slice(Category.GENERAL_EDU, null, null, null, null), 10)).isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.gradu.domain.ranking.distinct;
+
+import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.domain.ranking.cube.CourseCountCube.CourseKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DistinctStudentCounterTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOps;
+    private DistinctStudentCounter counter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        counter = new DistinctStudentCounter(redisTemplate, 256, 72);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void countDistinct_sendsSetThenHllKeysPerCourse_andSkipsZeroCounts() {
+        // given
+        doReturn(List.of(3L, 0L)).when(redisTemplate)
+                .execute(any(RedisScript.class), anyList(), any(Object[].class));
+        var categories = EnumSet.of(Category.FREE_ELECTIVE_BASIC, Category.FREE_ELECTIVE_MJR);
+
+        // when
+        Map<String, Long> counts = counter.countDistinct(categories, List.of("글쓰기", "철학의이해"));
+
+        // then
+        assertThat(counts).containsExactly(Map.entry("글쓰기", 3L));
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), eq("2"), eq(DistinctStudentCounter.OVERFLOW));
+        assertThat(keys.getValue()).startsWith(
+                "rank:distinct:set:FREE_ELECTIVE_BASIC:글쓰기",
+                "rank:distinct:set:FREE_ELECTIVE_MJR:글쓰기",
+                "rank:distinct:hll:FREE_ELECTIVE_BASIC:글쓰기",
+                "rank:distinct:hll:FREE_ELECTIVE_MJR:글쓰기"
+        ).hasSize(8);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void countDistinct_returnsEmpty_whenRedisFails() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when / then: 호출 측이 행 수 기준으로 대체할 수 있도록 빈 맵
+        assertThat(counter.countDistinct(Set.of(Category.BSM), List.of("선형대수학"))).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void apply_addsToHllAndSet_andRemovesOnlyFromSet() {
+        // when
+        counter.apply(7L,
+                Set.of(new CourseKey(Category.BSM, "선형대수학")),
+                Set.of(new CourseKey(Category.MAJOR, "운영체제")));
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("rank:distinct:hll:BSM:선형대수학", "rank:distinct:set:BSM:선형대수학")),
+                eq("7"), eq("256"), eq(Long.toString(Duration.ofHours(72).toSeconds())), eq(DistinctStudentCounter.OVERFLOW));
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("rank:distinct:set:MAJOR:운영체제")),
+                eq("7"), eq(DistinctStudentCounter.OVERFLOW));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_replacesEachCourseOnce_andMarksBuilt() {
+        // given: 두 학생이 같은 과목을 들음
+        var course = new CourseKey(Category.BSM, "선형대수학");
+        Map<Long, Set<CourseKey>> snapshot = Map.of(
+                1L, new LinkedHashSet<>(List.of(course)),
+                2L, new LinkedHashSet<>(List.of(course))
+        );
+
+        List<List<Object>> calls = new ArrayList<>();
+        doAnswer(inv -> {
+            calls.add(List.of(inv.getArguments()));
+            return 2L;
+        }).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        // when
+        counter.rebuild(snapshot);
+
+        // then: 과목당 1회, [threshold, ttl, overflow, 학생...]
+        assertThat(calls).hasSize(1);
+        assertThat(calls.get(0).get(1))
+                .isEqualTo(List.of("rank:distinct:hll:BSM:선형대수학", "rank:distinct:set:BSM:선형대수학"));
+        assertThat(calls.get(0).subList(2, 5)).containsExactly("256", "259200", DistinctStudentCounter.OVERFLOW);
+        assertThat(calls.get(0).subList(5, 7)).containsExactlyInAnyOrder("1", "2");
+        verify(valueOps).set(eq(DistinctStudentCounter.BUILT_KEY), anyString(), eq(Duration.ofHours(72)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildIfMissing_skips_whenAlreadyBuilt() {
+        // given
+        when(redisTemplate.hasKey(DistinctStudentCounter.BUILT_KEY)).thenReturn(true);
+
+        // when
+        counter.rebuildIfMissing(Map.of(1L, Set.of(new CourseKey(Category.BSM, "선형대수학"))));
+
+        // then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+}
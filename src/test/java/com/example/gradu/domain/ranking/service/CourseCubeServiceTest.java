@@ -0,0 +1,168 @@
+package com.example.gradu.domain.ranking.service;
+
+import com.example.gradu.domain.course.entity.Term;
+import com.example.gradu.domain.course.event.CourseChangedEvent;
+import com.example.gradu.domain.curriculum.entity.Category;
+import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex;
+import com.example.gradu.domain.ranking.cube.CourseCountCube;
+import com.example.gradu.domain.ranking.cube.CourseCountCube.CourseKey;
+import com.example.gradu.domain.ranking.distinct.DistinctStudentCounter;
+import com.example.gradu.domain.ranking.dto.CourseRankingDto.RankingItemDto;
+import com.example.gradu.domain.ranking.repository.CourseRankingRepository;
+import com.example.gradu.domain.ranking.repository.CourseRankingRepository.CourseFactRow;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ranking.RankingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CourseCubeServiceTest {
+
+    private CourseRankingRepository repository;
+    private MajorRoadmapIndex roadmapIndex;
+    private DistinctStudentCounter distinctCounter;
+    private CourseCubeService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CourseRankingRepository.class);
+        roadmapIndex = mock(MajorRoadmapIndex.class);
+        when(roadmapIndex.findBestMatch(anyString())).thenReturn(Optional.empty());
+        distinctCounter = mock(DistinctStudentCounter.class);
+        service = new CourseCubeService(repository, roadmapIndex, new CourseCountCube(), distinctCounter);
+    }
+
+    @Test
+    void load_thenSlice_byYearAndTerm_andByAdmissionYearAndStudyYear() {
+        // given
+        when(repository.findCourseFacts()).thenReturn(List.of(
+                fact(1L, Category.BSM, "선형대수학", 2021, Term.SECOND, 1),
+                fact(1L, Category.MAJOR, "운영체제", 2023, Term.FIRST, 1),
+                fact(2L, Category.BSM, "선형대수학", 2024, Term.SECOND, 1),
+                fact(2L, Category.BSM, "확률통계", 2024, Term.SECOND, 2)
+        ));
+
+        // when
+        service.load();
+
+        // then: 2024-2 BSM
+        assertThat(service.slice(Category.BSM, (short) 2024, "2", null, null, null)).containsExactly(
+                new RankingItemDto(1, "확률통계", 2, 0),
+                new RankingItemDto(2, "선형대수학", 1, 0)
+        );
+        // then: 21학번이 3학년 1학기에 들은 과목
+        assertThat(service.slice(null, null, "1", 21, 3, 10)).containsExactly(
+                new RankingItemDto(1, "운영체제", 1, 0)
+        );
+    }
+
+    @Test
+    void onCourseChanged_reloadsOnlyThatStudent() {
+        // given
+        when(repository.findCourseFacts()).thenReturn(List.of(
+                fact(1L, Category.MAJOR, "운영체제", 2023, Term.FIRST, 1)
+        ));
+        service.load();
+        when(repository.findCourseFactsByStudentId(1L)).thenReturn(List.of(
+                fact(1L, Category.MAJOR, "데이터베이스", 2023, Term.FIRST, 1)
+        ));
+
+        // when
+        service.onCourseChanged(new CourseChangedEvent(1L));
+
+        // then
+        assertThat(service.slice(Category.MAJOR, null, null, null, null, null))
+                .extracting(RankingItemDto::courseName)
+                .containsExactly("데이터베이스");
+        verify(repository, times(1)).findCourseFacts();
+
+        // then: 학생 수 집계에는 (구분, 과목) 단위 차분만 전달
+        verify(distinctCounter).rebuildIfMissing(anyMap());
+        verify(distinctCounter).apply(1L,
+                Set.of(new CourseKey(Category.MAJOR, "데이터베이스")),
+                Set.of(new CourseKey(Category.MAJOR, "운영체제")));
+    }
+
+    @Test
+    void onCourseChanged_sameStudentConcurrently_olderSnapshotNeverOverwritesNewer() throws Exception {
+        // given: 첫 이벤트는 예전 상태(운영체제)를 읽은 뒤 늦게 반영되려 함
+        when(repository.findCourseFacts()).thenReturn(List.of());
+        service.load();
+        CountDownLatch firstReading = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        when(repository.findCourseFactsByStudentId(1L))
+                .thenAnswer(inv -> {
+                    firstReading.countDown();
+                    releaseFirst.await(5, TimeUnit.SECONDS);
+                    return List.of(fact(1L, Category.MAJOR, "운영체제", 2023, Term.FIRST, 1));
+                })
+                .thenReturn(List.of(fact(1L, Category.MAJOR, "데이터베이스", 2023, Term.FIRST, 1)));
+
+        // when: 첫 이벤트가 읽는 중에 두 번째 이벤트 도착
+        Thread first = new Thread(() -> service.onCourseChanged(new CourseChangedEvent(1L)));
+        first.start();
+        assertThat(firstReading.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread second = new Thread(() -> service.onCourseChanged(new CourseChangedEvent(1L)));
+        second.start();
+        second.join(200); // 잠금이 없다면 여기서 먼저 끝나 버린다
+        releaseFirst.countDown();
+        first.join(5_000);
+        second.join(5_000);
+
+        // then: 나중 이벤트는 앞 반영이 끝난 뒤 다시 읽으므로 최신 상태가 남는다
+        assertThat(service.slice(Category.MAJOR, null, null, null, null, null))
+                .extracting(RankingItemDto::courseName)
+                .containsExactly("데이터베이스");
+    }
+
+    @Test
+    void load_mergesFuzzyMatchedMajorNamesUnderRoadmapName() {
+        // given
+        when(roadmapIndex.findBestMatch("운영채제")).thenReturn(Optional.of(new MajorRoadmapIndex.RoadmapMatch(
+                new MajorRoadmapIndex.RoadmapRow(3, 1, "ECE30021", "운영체제", "Operating Systems"),
+                "운영체제", 0.75, false)));
+        when(repository.findCourseFacts()).thenReturn(List.of(
+                fact(1L, Category.MAJOR, "운영체제", 2023, Term.FIRST, 1),
+                fact(2L, Category.MAJOR, "운영채제", 2023, Term.FIRST, 1)
+        ));
+
+        // when
+        service.load();
+
+        // then
+        assertThat(service.slice(Category.MAJOR, (short) 2023, "1", null, null, null))
+                .containsExactly(new RankingItemDto(1, "운영체제", 2, 0));
+    }
+
+    @Test
+    void slice_rejectsAcademicYearWithStudyYear_andUnknownTerm() {
+        assertThatThrownBy(() -> service.slice(null, (short) 2024, null, 21, 3, null))
+                .isInstanceOf(RankingException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.RANKING_INVALID_SLICE);
+
+        assertThatThrownBy(() -> service.slice(null, null, "spring", null, null, null))
+                .isInstanceOf(RankingException.class);
+    }
+
+    private static CourseFactRow fact(Long studentId, Category category, String name, int year, Term term, long count) {
+        return new CourseFactRow() {
+            @Override public Long getStudentId() { return studentId; }
+            @Override public Category getCategory() { return category; }
+            @Override public String getName() { return name; }
+            @Override public Short getAcademicYear() { return (short) year; }
+            @Override public Term getTerm() { return term; }
+            @Override public long getTakenCount() { return count; }
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.example.gradu.domain.ranking.service;
 
 import com.example.gradu.domain.curriculum.entity.Category;
 import com.example.gradu.domain.ranking.catalog.MajorRoadmapIndex;
+import com.example.gradu.domain.ranking.distinct.DistinctStudentCounter;
 import com.example.gradu.domain.ranking.dto.CourseRankingDto;
 import com.example.gradu.domain.ranking.repository.CourseRankingRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -20,13 +22,16 @@ class CourseRankingServiceTest {
 
     private CourseRankingRepository repository;
     private MajorRoadmapIndex roadmapIndex;
+    private DistinctStudentCounter distinctCounter;
     private CourseRankingService service;
 
     @BeforeEach
     void setUp() {
         repository = mock(CourseRankingRepository.class);
         roadmapIndex = mock(MajorRoadmapIndex.class);
-        service = new CourseRankingService(repository, roadmapIndex);
+        distinctCounter = mock(DistinctStudentCounter.class);
+        when(distinctCounter.countDistinct(anySet(), anyCollection())).thenReturn(Map.of());
+        service = new CourseRankingService(repository, roadmapIndex, distinctCounter);
     }
 
     @Test
@@ -42,15 +47,15 @@ class CourseRankingServiceTest {
         );
 
         // term mapping (전공 버킷 분배)
-        when(roadmapIndex.findTermByCourseName("웹 서비스 개발"))
-                .thenReturn(Optional.of(new MajorRoadmapIndex.TermKey(2, 1))); // y2s1
-        when(roadmapIndex.findTermByCourseName("웹서비스개발"))
-                .thenReturn(Optional.of(new MajorRoadmapIndex.TermKey(2, 1))); // y2s1 (same bucket)
-        when(roadmapIndex.findTermByCourseName("자료구조"))
-                .thenReturn(Optional.of(new MajorRoadmapIndex.TermKey(2, 1))); // y2s1
-        when(roadmapIndex.findTermByCourseName("   "))
+        when(roadmapIndex.findBestMatch("웹 서비스 개발"))
+                .thenReturn(Optional.of(exactMatch("웹 서비스 개발", 2, 1))); // y2s1
+        when(roadmapIndex.findBestMatch("웹서비스개발"))
+                .thenReturn(Optional.of(exactMatch("웹서비스개발", 2, 1))); // y2s1 (same bucket)
+        when(roadmapIndex.findBestMatch("자료구조"))
+                .thenReturn(Optional.of(exactMatch("자료구조", 2, 1))); // y2s1
+        when(roadmapIndex.findBestMatch("   "))
                 .thenReturn(Optional.empty());
-        when(roadmapIndex.findTermByCourseName(null))
+        when(roadmapIndex.findBestMatch(null))
                 .thenReturn(Optional.empty());
 
         // ===== liberal (repo 2~5) =====
@@ -177,7 +182,7 @@ class CourseRankingServiceTest {
         List<CourseRankingRepository.CourseCountRow> majorRows = List.of(
                 row("매핑안되는전공", 10)
         );
-        when(roadmapIndex.findTermByCourseName("매핑안되는전공")).thenReturn(Optional.empty());
+        when(roadmapIndex.findBestMatch("매핑안되는전공")).thenReturn(Optional.empty());
 
         when(repository.findTopCoursesByCategories(anySet(), any(Pageable.class)))
                 .thenReturn(
@@ -196,6 +201,118 @@ class CourseRankingServiceTest {
         assertThat(res.major().y4s2()).isEmpty();
     }
 
+    @Test
+    void getCourseRanking_fuzzyMatchedMajorCourse_mergedUnderRoadmapName() {
+        // given: OCR 오인식 "웹서비스개밟"이 로드맵 "웹서비스개발"로 근사 매칭됨
+        List<CourseRankingRepository.CourseCountRow> majorRows = List.of(
+                row("웹서비스개발", 4),
+                row("웹서비스개밟", 2)
+        );
+        when(roadmapIndex.findBestMatch("웹서비스개발"))
+                .thenReturn(Optional.of(exactMatch("웹서비스개발", 2, 2)));
+        when(roadmapIndex.findBestMatch("웹서비스개밟"))
+                .thenReturn(Optional.of(new MajorRoadmapIndex.RoadmapMatch(
+                        new MajorRoadmapIndex.RoadmapRow(2, 2, "ECE20009", "웹서비스개발", "Web Service Development"),
+                        "웹서비스개발", 0.83, false)));
+
+        when(repository.findTopCoursesByCategories(anySet(), any(Pageable.class)))
+                .thenReturn(
+                        majorRows,
+                        List.of(), List.of(), List.of(), List.of()
+                );
+
+        // when
+        var res = service.getCourseRanking();
+
+        // then: 한 아이템으로 합산 (4 + 2)
+        assertThat(res.major().y2s2()).containsExactly(
+                new CourseRankingDto.RankingItemDto(1, "웹서비스개발", 6, 0)
+        );
+    }
+
+    @Test
+    void getCourseRanking_ranksByDistinctStudents_whenAvailable() {
+        // given: 행 수로는 글쓰기(8, 재수강 포함)가 앞서지만 학생 수로는 철학의 이해가 앞섬
+        List<CourseRankingRepository.CourseCountRow> generalRows = List.of(
+                row("글쓰기", 8),
+                row("철학의 이해", 6),
+                row("논리와 비판적사고", 2)
+        );
+        when(repository.findTopCoursesByCategories(anySet(), any(Pageable.class)))
+                .thenReturn(List.of(), List.of(), generalRows, List.of(), List.of());
+        when(distinctCounter.countDistinct(eq(Set.of(Category.GENERAL_EDU)), anyCollection()))
+                .thenReturn(Map.of("글쓰기", 4L, "철학의이해", 5L, "논리와비판적사고", 1L));
+
+        // when
+        var res = service.getCourseRanking();
+
+        // then
+        assertThat(res.liberal().generalEdu()).containsExactly(
+                new CourseRankingDto.RankingItemDto(1, "철학의 이해", 5, 0),
+                new CourseRankingDto.RankingItemDto(2, "글쓰기", 4, 0),
+                new CourseRankingDto.RankingItemDto(3, "논리와 비판적사고", 1, 0)
+        );
+    }
+
+    @Test
+    void getCourseRanking_fallsBackToRowCounts_forWholeBucket_whenAnyDistinctCountMissing() {
+        // given: 논리와 비판적사고의 학생 수 집계가 없음 (만료/0건)
+        List<CourseRankingRepository.CourseCountRow> generalRows = List.of(
+                row("글쓰기", 8),
+                row("철학의 이해", 6),
+                row("논리와 비판적사고", 2)
+        );
+        when(repository.findTopCoursesByCategories(anySet(), any(Pageable.class)))
+                .thenReturn(List.of(), List.of(), generalRows, List.of(), List.of());
+        when(distinctCounter.countDistinct(eq(Set.of(Category.GENERAL_EDU)), anyCollection()))
+                .thenReturn(Map.of("글쓰기", 4L, "철학의이해", 5L));
+
+        // when
+        var res = service.getCourseRanking();
+
+        // then: 학생 수와 행 수를 섞지 않고 버킷 전체를 행 수로
+        assertThat(res.liberal().generalEdu()).containsExactly(
+                new CourseRankingDto.RankingItemDto(1, "글쓰기", 8, 0),
+                new CourseRankingDto.RankingItemDto(2, "철학의 이해", 6, 0),
+                new CourseRankingDto.RankingItemDto(3, "논리와 비판적사고", 2, 0)
+        );
+    }
+
+    @Test
+    void getCourseRanking_fuzzyMatchedMajorCourse_looksUpDistinctStudentsUnderRoadmapNameOnly() {
+        // given: 큐브가 OCR 표기 "웹서비스개밟" 학생들을 로드맵 표기 키 하나로 이미 합쳐 둠
+        List<CourseRankingRepository.CourseCountRow> majorRows = List.of(
+                row("웹서비스개발", 4),
+                row("웹서비스개밟", 2)
+        );
+        when(roadmapIndex.findBestMatch("웹서비스개발"))
+                .thenReturn(Optional.of(exactMatch("웹서비스개발", 2, 2)));
+        when(roadmapIndex.findBestMatch("웹서비스개밟"))
+                .thenReturn(Optional.of(new MajorRoadmapIndex.RoadmapMatch(
+                        new MajorRoadmapIndex.RoadmapRow(2, 2, "ECE20009", "웹서비스개발", "Web Service Development"),
+                        "웹서비스개발", 0.83, false)));
+        when(repository.findTopCoursesByCategories(anySet(), any(Pageable.class)))
+                .thenReturn(majorRows, List.of(), List.of(), List.of(), List.of());
+        when(distinctCounter.countDistinct(Set.of(Category.MAJOR), List.of("웹서비스개발")))
+                .thenReturn(Map.of("웹서비스개발", 5L));
+
+        // when
+        var res = service.getCourseRanking();
+
+        // then: OCR 표기 키는 조회하지 않고, 로드맵 키의 학생 수 그대로 (더하지 않음)
+        assertThat(res.major().y2s2()).containsExactly(
+                new CourseRankingDto.RankingItemDto(1, "웹서비스개발", 5, 0)
+        );
+        verify(distinctCounter, never()).countDistinct(anySet(), argThat(keys -> keys.contains("웹서비스개밟")));
+    }
+
+    private static MajorRoadmapIndex.RoadmapMatch exactMatch(String name, int year, int semester) {
+        return new MajorRoadmapIndex.RoadmapMatch(
+                new MajorRoadmapIndex.RoadmapRow(year, semester, null, name, null),
+                name, 1.0, true
+        );
+    }
+
     private static CourseRankingRepository.CourseCountRow row(String name, long takenCount) {
         return new CourseRankingRepository.CourseCountRow() {
             @Override public String getName() { return name; }
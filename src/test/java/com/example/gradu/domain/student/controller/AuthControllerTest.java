@@ -5,9 +5,13 @@ import com.example.gradu.domain.student.dto.PasswordResetRequestDto;
 import com.example.gradu.domain.student.dto.StudentAuthRequestDto;
 import com.example.gradu.domain.student.service.StudentService;
 import com.example.gradu.global.config.JpaAuditingConfig;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.auth.AuthException;
+import com.example.gradu.global.exception.ratelimit.RateLimitException;
 import com.example.gradu.global.security.SecurityConfig;
 import com.example.gradu.global.security.jwt.JwtAuthenticationFilter;
 import com.example.gradu.global.security.jwt.JwtProperties;
+import com.example.gradu.global.security.throttle.AuthThrottle;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.Test;
@@ -51,6 +55,7 @@ class AuthControllerTest {
 
     @MockitoBean StudentService studentService;
     @MockitoBean JwtProperties jwtProperties;
+    @MockitoBean AuthThrottle authThrottle;
 
     private static final String BASE = "/api/v1/auth";
 
@@ -99,6 +104,88 @@ class AuthControllerTest {
         verify(studentService).login("a@handong.ac.kr", "pw1234!!");
     }
 
+    @Test
+    void login_throttled_returns429_withRetryAfter_withoutHashing() throws Exception {
+        // given
+        StudentAuthRequestDto req = new StudentAuthRequestDto("a@handong.ac.kr", "pw1234!!", "123456");
+        doThrow(new RateLimitException(ErrorCode.AUTH_TOO_MANY_ATTEMPTS, 30))
+                .when(authThrottle).check(AuthThrottle.Action.LOGIN, "a@handong.ac.kr", "10.0.0.7");
+
+        // when
+        mockMvc.perform(post(BASE + "/login")
+                        .header("X-Real-IP", "10.0.0.7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"))
+                .andExpect(jsonPath("$.code").value("A008"));
+
+        // then
+        verify(studentService, never()).login(anyString(), anyString());
+    }
+
+    @Test
+    void login_passwordMismatch_keepsCountedAttempt() throws Exception {
+        // given
+        StudentAuthRequestDto req = new StudentAuthRequestDto("a@handong.ac.kr", "wrong!!", "123456");
+        when(studentService.login("a@handong.ac.kr", "wrong!!"))
+                .thenThrow(new AuthException(ErrorCode.PASSWORD_MISMATCH));
+
+        // when
+        mockMvc.perform(post(BASE + "/login")
+                        .header("X-Real-IP", "10.0.0.7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().is4xxClientError());
+
+        // then: check 에서 센 시도를 그대로 둔다
+        verify(authThrottle).check(AuthThrottle.Action.LOGIN, "a@handong.ac.kr", "10.0.0.7");
+        verify(authThrottle, never()).cancel(any(), any(), any());
+        verify(authThrottle, never()).succeeded(any(), any(), any());
+    }
+
+    @Test
+    void login_otherError_cancelsCountedAttempt() throws Exception {
+        // given: 자격 증명 확인 전에 실패 (DB 장애 등)
+        StudentAuthRequestDto req = new StudentAuthRequestDto("a@handong.ac.kr", "pw1234!!", "123456");
+        when(studentService.login("a@handong.ac.kr", "pw1234!!"))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // when
+        try {
+            mockMvc.perform(post(BASE + "/login")
+                    .header("X-Real-IP", "10.0.0.7")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsString(req)));
+        } catch (Exception ignored) {
+            // 처리되지 않은 예외는 MockMvc 가 그대로 던진다
+        }
+
+        // then
+        verify(authThrottle).cancel(AuthThrottle.Action.LOGIN, "a@handong.ac.kr", "10.0.0.7");
+        verify(authThrottle, never()).succeeded(any(), any(), any());
+    }
+
+    @Test
+    void login_ok_clearsEmailStrikes() throws Exception {
+        // given
+        when(jwtProperties.getRefreshExpiration()).thenReturn(120_000L);
+        when(studentService.login("a@handong.ac.kr", "pw1234!!"))
+                .thenReturn(new LoginResponseDto("ACCESS", "REFRESH"));
+        StudentAuthRequestDto req = new StudentAuthRequestDto("a@handong.ac.kr", "pw1234!!", "123456");
+
+        // when
+        mockMvc.perform(post(BASE + "/login")
+                        .header("X-Real-IP", "10.0.0.7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().isOk());
+
+        // then
+        verify(authThrottle).succeeded(AuthThrottle.Action.LOGIN, "a@handong.ac.kr", "10.0.0.7");
+        verify(authThrottle, never()).cancel(any(), any(), any());
+    }
+
     @Test
     void reissue_ok_whenCookieHasRefreshToken() throws Exception {
         // given
@@ -145,6 +232,20 @@ class AuthControllerTest {
 
         // then
         verify(studentService, never()).logout(anyString());
+        verify(studentService, never()).revokeAccessToken(anyString());
+    }
+
+    @Test
+    void logout_withAccessToken_revokesIt() throws Exception {
+        // when
+        mockMvc.perform(post(BASE + "/logout")
+                        .header("Authorization", "Bearer ACCESS")
+                        .cookie(new Cookie(AuthController.REFRESH_TOKEN, "REFRESH")))
+                .andExpect(status().isNoContent());
+
+        // then
+        verify(studentService).revokeAccessToken("ACCESS");
+        verify(studentService).logout("REFRESH");
     }
 
     @Test
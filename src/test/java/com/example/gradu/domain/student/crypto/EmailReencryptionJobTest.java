@@ -0,0 +1,135 @@
+package com.example.gradu.domain.student.crypto;
+
+import com.example.gradu.global.crypto.AesGcmUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.gradu.domain.student.crypto.EmailReencryptionJob.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmailReencryptionJobTest {
+
+    JdbcTemplate jdbcTemplate;
+    StringRedisTemplate redisTemplate;
+    ValueOperations<String, String> valueOps;
+    AesGcmUtil aes;
+    EmailReencryptionProperties props;
+    EmailReencryptionJob job;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        aes = mock(AesGcmUtil.class);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(aes.currentVersion()).thenReturn(2);
+        when(aes.needsReencryption(anyString())).thenAnswer(inv -> inv.<String>getArgument(0).startsWith("v1:"));
+        when(aes.reencrypt(anyString())).thenAnswer(inv -> "v2:" + inv.<String>getArgument(0).substring(3));
+        when(jdbcTemplate.batchUpdate(eq(UPDATE_SQL), anyList())).thenAnswer(inv -> {
+            int[] counts = new int[inv.<List<?>>getArgument(1).size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+
+        props = new EmailReencryptionProperties();
+        props.setBatchSize(2);
+        props.setWorkers(2);
+        props.setMaxRowsPerSecond(0);
+
+        job = new EmailReencryptionJob(jdbcTemplate, redisTemplate, aes, props);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(long afterId, List<Row> rows) {
+        when(jdbcTemplate.query(eq(SELECT_SQL), any(RowMapper.class), eq(afterId), eq(2))).thenReturn((List) rows);
+    }
+
+    @Test
+    void run_reencryptsOnlyOldRows_byKeysetBatches_andCheckpoints() {
+        // given: id 1~3, 그중 v1 인 것만 대상
+        givenRows(0L, List.of(new Row(1, "v1:a"), new Row(2, "v2:b")));
+        givenRows(2L, List.of(new Row(3, "v1:c")));
+
+        // when
+        Result result = job.run();
+
+        // then
+        assertThat(result.ran()).isTrue();
+        assertThat(result.scanned()).isEqualTo(3);
+        assertThat(result.lastId()).isEqualTo(3);
+        // 같은 암호문일 때만 바꾸는 조건부 UPDATE
+        verify(jdbcTemplate).batchUpdate(eq(UPDATE_SQL), argThat((List<Object[]> args) ->
+                args.size() == 1 && args.get(0)[0].equals("v2:a") && args.get(0)[1].equals(1L) && args.get(0)[2].equals("v1:a")));
+        verify(jdbcTemplate).batchUpdate(eq(UPDATE_SQL), argThat((List<Object[]> args) ->
+                args.size() == 1 && args.get(0)[1].equals(3L)));
+        verify(valueOps).set(eq(CHECKPOINT_KEY_PREFIX + 2), eq("3"), any(Duration.class));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString());
+    }
+
+    @Test
+    void run_resumesFromCheckpoint() {
+        // given: 이전 실행이 id 2 까지 끝냄
+        when(valueOps.get(CHECKPOINT_KEY_PREFIX + 2)).thenReturn("2");
+        givenRows(2L, List.of(new Row(3, "v1:c")));
+
+        // when
+        Result result = job.run();
+
+        // then
+        assertThat(result.scanned()).isEqualTo(1);
+        verify(jdbcTemplate, never()).query(eq(SELECT_SQL), any(RowMapper.class), eq(0L), eq(2));
+    }
+
+    @Test
+    void run_skipsWhenAnotherInstanceHoldsLock() {
+        // given
+        when(valueOps.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        Result result = job.run();
+
+        // then
+        assertThat(result.ran()).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void reencryptBatch_skipsUndecryptableRows() {
+        // given
+        when(aes.reencrypt("v1:broken")).thenThrow(new IllegalStateException("AES decrypt 실패"));
+
+        // when
+        int[] result = job.reencryptBatch(List.of(new Row(1, "v1:broken"), new Row(2, "v1:ok")));
+
+        // then: {updated, failed}
+        assertThat(result).containsExactly(1, 1);
+    }
+
+    @Test
+    void pacer_spacesBatchesToRowsPerSecond() {
+        // given: 초당 1000 행
+        Pacer pacer = new Pacer(1000);
+        long now = 0;
+
+        // when & then: 첫 배치는 바로, 다음 배치는 앞 배치 500 행 = 0.5초 뒤
+        assertThat(pacer.reserve(500, now)).isZero();
+        assertThat(pacer.reserve(500, now)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        // 제한 없음
+        assertThat(new Pacer(0).reserve(500, now)).isZero();
+    }
+}
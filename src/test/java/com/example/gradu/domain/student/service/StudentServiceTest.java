@@ -11,16 +11,23 @@ import com.example.gradu.domain.summary.service.SummaryService;
 import com.example.gradu.global.crypto.Sha256;
 import com.example.gradu.global.exception.auth.AuthException;
 import com.example.gradu.global.exception.student.StudentException;
+import com.example.gradu.global.security.jwt.AccessTokenRevocationList;
 import com.example.gradu.global.security.jwt.JwtTokenProvider;
 import com.example.gradu.global.security.jwt.RefreshTokenStore;
+import com.example.gradu.global.security.jwt.VerifiedToken;
+import com.example.gradu.global.security.password.PasswordHashingService;
+import com.example.gradu.global.security.password.PasswordHashingService.Verification;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,13 +38,15 @@ import static org.mockito.Mockito.*;
 class StudentServiceTest {
 
     @Mock StudentRepository studentRepository;
-    @Mock PasswordEncoder passwordEncoder;
+    @Mock PasswordHashingService passwordHashingService;
     @Mock JwtTokenProvider jwtTokenProvider;
     @Mock RefreshTokenStore refreshTokenStore;
+    @Mock AccessTokenRevocationList accessTokenRevocationList;
     @Mock CurriculumService curriculumService;
     @Mock EmailVerificationService emailVerificationService;
     @Mock SummaryService summaryService;
     @Mock CourseService courseService;
+    @Spy TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
 
     @InjectMocks StudentService studentService;
 
@@ -81,7 +90,7 @@ class StudentServiceTest {
         String encodedPw = "ENC";
 
         when(studentRepository.existsByEmailHash(Sha256.hash(email))).thenReturn(false);
-        when(passwordEncoder.encode(rawPw)).thenReturn(encodedPw);
+        when(passwordHashingService.encode(rawPw)).thenReturn(encodedPw);
 
         // save 시점에 student.getId()가 필요한데, save 호출될 때 ID가 세팅된 것처럼 stub
         // 실제 JPA면 save 후 id가 생기지만 유닛테스트에서는 흉내내야 함
@@ -94,10 +103,13 @@ class StudentServiceTest {
         // when
         studentService.register(email, rawPw, code);
 
-        // then
+        // then: 해시는 트랜잭션 시작 전에, 저장 + 커리큘럼 초기화만 한 트랜잭션으로
+        var inOrder = inOrder(passwordHashingService, transactionTemplate, studentRepository, curriculumService);
+        inOrder.verify(passwordHashingService).encode(rawPw);
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(studentRepository).save(any(Student.class));
+        inOrder.verify(curriculumService).initializeForStudent(1L);
         verify(emailVerificationService).verifyCodeOnly(email, code);
-        verify(studentRepository).save(any(Student.class));
-        verify(curriculumService).initializeForStudent(1L);
         verify(emailVerificationService).consumeCode(email);
     }
 
@@ -122,7 +134,7 @@ class StudentServiceTest {
         String email = "a@handong.ac.kr";
         Student s = student(1L, "ENC");
         when(studentRepository.findByEmailHash(Sha256.hash(email))).thenReturn(Optional.of(s));
-        when(passwordEncoder.matches("wrong", "ENC")).thenReturn(false);
+        when(passwordHashingService.verify("wrong", "ENC")).thenReturn(Verification.mismatch());
 
         // when & then
         assertThatThrownBy(() -> studentService.login(email, "wrong"))
@@ -137,7 +149,7 @@ class StudentServiceTest {
         String email = "a@handong.ac.kr";
         Student s = student(7L, "ENC");
         when(studentRepository.findByEmailHash(Sha256.hash(email))).thenReturn(Optional.of(s));
-        when(passwordEncoder.matches("pw", "ENC")).thenReturn(true);
+        when(passwordHashingService.verify("pw", "ENC")).thenReturn(new Verification(true, null));
 
         when(jwtTokenProvider.generateAccessToken(7L)).thenReturn("ACCESS");
         when(jwtTokenProvider.generateRefreshToken(7L)).thenReturn("REFRESH");
@@ -145,10 +157,29 @@ class StudentServiceTest {
         // when
         LoginResponseDto res = studentService.login(email, "pw");
 
-        // then
+        // then: 해시가 그대로면 쓰기 없음
         assertThat(res.getAccessToken()).isEqualTo("ACCESS");
         assertThat(res.getRefreshToken()).isEqualTo("REFRESH");
         verify(refreshTokenStore).save("REFRESH", 7L);
+        verify(studentRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void login_success_replacesOutdatedHash() {
+        // given: 예전 설정으로 만든 해시 → 검증 시 새 해시를 돌려줌
+        String email = "a@handong.ac.kr";
+        Student s = student(7L, "OLD_ENC");
+        when(studentRepository.findByEmailHash(Sha256.hash(email))).thenReturn(Optional.of(s));
+        when(passwordHashingService.verify("pw", "OLD_ENC")).thenReturn(new Verification(true, "NEW_ENC"));
+        when(jwtTokenProvider.generateAccessToken(7L)).thenReturn("ACCESS");
+        when(jwtTokenProvider.generateRefreshToken(7L)).thenReturn("REFRESH");
+
+        // when
+        studentService.login(email, "pw");
+
+        // then: 검증 뒤 별도의 짧은 쓰기, 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음
+        verify(studentRepository).updatePasswordIfUnchanged(7L, "OLD_ENC", "NEW_ENC");
     }
 
     // ---------------- reissue ----------------
@@ -170,13 +201,27 @@ class StudentServiceTest {
         // given
         when(jwtTokenProvider.isTokenValid("R")).thenReturn(true);
         when(jwtTokenProvider.getStudentIdFromToken("R")).thenReturn(1L);
-        when(refreshTokenStore.validate("R")).thenReturn(false);
+        when(refreshTokenStore.findStudentId("R")).thenReturn(null);
 
         // when & then
         assertThatThrownBy(() -> studentService.reissue("R"))
                 .isInstanceOf(AuthException.class);
 
-        verify(studentRepository, never()).findById(anyLong());
+        verify(studentRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void reissue_storedOwnerMismatch_throwsAuthException() {
+        // given: 저장소에는 다른 학생의 토큰으로 기록됨
+        when(jwtTokenProvider.isTokenValid("R")).thenReturn(true);
+        when(jwtTokenProvider.getStudentIdFromToken("R")).thenReturn(1L);
+        when(refreshTokenStore.findStudentId("R")).thenReturn(2L);
+
+        // when & then
+        assertThatThrownBy(() -> studentService.reissue("R"))
+                .isInstanceOf(AuthException.class);
+
+        verify(studentRepository, never()).existsById(anyLong());
     }
 
     @Test
@@ -184,8 +229,8 @@ class StudentServiceTest {
         // given
         when(jwtTokenProvider.isTokenValid("R")).thenReturn(true);
         when(jwtTokenProvider.getStudentIdFromToken("R")).thenReturn(1L);
-        when(refreshTokenStore.validate("R")).thenReturn(true);
-        when(studentRepository.findById(1L)).thenReturn(Optional.empty());
+        when(refreshTokenStore.findStudentId("R")).thenReturn(1L);
+        when(studentRepository.existsById(1L)).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> studentService.reissue("R"))
@@ -197,8 +242,8 @@ class StudentServiceTest {
         // given
         when(jwtTokenProvider.isTokenValid("R")).thenReturn(true);
         when(jwtTokenProvider.getStudentIdFromToken("R")).thenReturn(1L);
-        when(refreshTokenStore.validate("R")).thenReturn(true);
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(student(1L, "ENC")));
+        when(refreshTokenStore.findStudentId("R")).thenReturn(1L);
+        when(studentRepository.existsById(1L)).thenReturn(true);
         when(jwtTokenProvider.generateAccessToken(1L)).thenReturn("NEW_ACCESS");
 
         // when
@@ -206,6 +251,7 @@ class StudentServiceTest {
 
         // then
         assertThat(token).isEqualTo("NEW_ACCESS");
+        verify(studentRepository, never()).findById(anyLong());
     }
 
     // ---------------- logout ----------------
@@ -213,25 +259,52 @@ class StudentServiceTest {
     @Test
     void logout_invalidToken_throwsAuthException() {
         // given
-        when(refreshTokenStore.validate("R")).thenReturn(false);
+        when(refreshTokenStore.findStudentId("R")).thenReturn(null);
 
         // when & then
         assertThatThrownBy(() -> studentService.logout("R"))
                 .isInstanceOf(AuthException.class);
 
-        verify(refreshTokenStore, never()).remove(anyString());
+        verify(refreshTokenStore, never()).remove(anyString(), any());
     }
 
     @Test
     void logout_success_removesRefreshToken() {
         // given
-        when(refreshTokenStore.validate("R")).thenReturn(true);
+        when(refreshTokenStore.findStudentId("R")).thenReturn(1L);
 
         // when
         studentService.logout("R");
 
+        // then: 확인한 주인 학번으로 패밀리에서도 제거
+        verify(refreshTokenStore).remove("R", 1L);
+    }
+
+    // ---------------- revokeAccessToken ----------------
+
+    @Test
+    void revokeAccessToken_validToken_revokesJtiUntilExpiry() {
+        // given
+        Instant exp = Instant.now().plusSeconds(600);
+        when(jwtTokenProvider.authenticate("A")).thenReturn(Optional.of(new VerifiedToken(1L, "jti-1", exp, VerifiedToken.TokenType.ACCESS)));
+
+        // when
+        studentService.revokeAccessToken("A");
+
+        // then
+        verify(accessTokenRevocationList).revoke("jti-1", exp);
+    }
+
+    @Test
+    void revokeAccessToken_invalidToken_doesNothing() {
+        // given
+        when(jwtTokenProvider.authenticate("A")).thenReturn(Optional.empty());
+
+        // when
+        studentService.revokeAccessToken("A");
+
         // then
-        verify(refreshTokenStore).remove("R");
+        verifyNoInteractions(accessTokenRevocationList);
     }
 
     // ---------------- withdraw ----------------
@@ -259,7 +332,7 @@ class StudentServiceTest {
         studentService.withdraw(1L, "R");
 
         // then
-        verify(refreshTokenStore).remove("R");
+        verify(refreshTokenStore).revokeAll(1L);
         verify(curriculumService).removeForStudent(1L);
         verify(summaryService).removeForStudent(1L);
         verify(courseService).removeForStudent(1L);
@@ -276,7 +349,8 @@ class StudentServiceTest {
         studentService.withdraw(1L, "  ");
 
         // then
-        verifyNoInteractions(refreshTokenStore);
+        verify(refreshTokenStore, never()).validate(anyString());
+        verify(refreshTokenStore).revokeAll(1L);
         verify(curriculumService).removeForStudent(1L);
         verify(summaryService).removeForStudent(1L);
         verify(courseService).removeForStudent(1L);
@@ -312,18 +386,18 @@ class StudentServiceTest {
 
         Student s = student(1L, "ENC");
         when(studentRepository.findByEmailHash(Sha256.hash("a@handong.ac.kr"))).thenReturn(Optional.of(s));
-        when(passwordEncoder.matches("pw", "ENC")).thenReturn(true);
+        when(passwordHashingService.matches("pw", "ENC")).thenReturn(true);
 
         // when & then
         assertThatThrownBy(() -> studentService.resetPassword(req))
                 .isInstanceOf(StudentException.class);
 
         verify(emailVerificationService, never()).consumeCode(anyString());
-        assertThat(s.getPassword()).isEqualTo("ENC");
+        verify(studentRepository, never()).updatePassword(any(), any());
     }
 
     @Test
-    void resetPassword_success_changesPassword_andConsumesCode() {
+    void resetPassword_success_changesPassword_revokesSessions_andConsumesCode() {
         // given
         PasswordResetRequestDto req = mock(PasswordResetRequestDto.class);
         when(req.email()).thenReturn("a@handong.ac.kr");
@@ -332,14 +406,15 @@ class StudentServiceTest {
 
         Student s = student(1L, "ENC");
         when(studentRepository.findByEmailHash(Sha256.hash("a@handong.ac.kr"))).thenReturn(Optional.of(s));
-        when(passwordEncoder.matches("new", "ENC")).thenReturn(false);
-        when(passwordEncoder.encode("new")).thenReturn("NEW_ENC");
+        when(passwordHashingService.matches("new", "ENC")).thenReturn(false);
+        when(passwordHashingService.encode("new")).thenReturn("NEW_ENC");
 
         // when
         studentService.resetPassword(req);
 
         // then
-        assertThat(s.getPassword()).isEqualTo("NEW_ENC");
+        verify(studentRepository).updatePassword(1L, "NEW_ENC");
         verify(emailVerificationService).consumeCode("a@handong.ac.kr");
+        verify(refreshTokenStore).revokeAll(1L);
     }
 }
@@ -0,0 +1,278 @@
+package com.example.gradu.global.client;
+
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ai.AIException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OpenAiCallGuardTest {
+
+    private OpenAiHttpProperties props;
+    private SimpleMeterRegistry registry;
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Duration> sleeps = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        props = new OpenAiHttpProperties();
+        props.setBulkheadWait(Duration.ZERO);
+        registry = new SimpleMeterRegistry();
+    }
+
+    // 실제로 자지 않고 가짜 시계만 앞으로
+    private OpenAiCallGuard guard() {
+        return new OpenAiCallGuard(props, registry, d -> {
+            sleeps.add(d);
+            clock.addAndGet(d.toNanos());
+        }, clock::get);
+    }
+
+    private static HttpServerErrorException serverError() {
+        return HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", new HttpHeaders(), new byte[0], null);
+    }
+
+    private static HttpClientErrorException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], null);
+    }
+
+    @Test
+    void call_retries5xxWithJitteredBackoff_thenSucceeds() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        var guard = guard();
+
+        // when
+        String result = guard.call(() -> {
+            if (calls.incrementAndGet() < 3) throw serverError();
+            return "ok";
+        });
+
+        // then: 500ms, 1000ms 기준 [base/2, base] 지터
+        assertThat(result).isEqualTo("ok");
+        assertThat(sleeps).hasSize(2);
+        assertThat(sleeps.get(0)).isBetween(Duration.ofMillis(250), Duration.ofMillis(500));
+        assertThat(sleeps.get(1)).isBetween(Duration.ofMillis(500), Duration.ofMillis(1000));
+        assertThat(registry.timer("openai.http.requests", "outcome", "server_error").count()).isEqualTo(2);
+        assertThat(registry.timer("openai.http.requests", "outcome", "success").count()).isEqualTo(1);
+        assertThat(registry.counter("openai.http.retries").count()).isEqualTo(2);
+    }
+
+    @Test
+    void call_honorsRetryAfterOn429() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        var guard = guard();
+
+        // when
+        guard.call(() -> {
+            if (calls.incrementAndGet() == 1) throw tooManyRequests("3");
+            return "ok";
+        });
+
+        // then
+        assertThat(sleeps).containsExactly(Duration.ofSeconds(3));
+        assertThat(registry.timer("openai.http.requests", "outcome", "rate_limited").count()).isEqualTo(1);
+    }
+
+    @Test
+    void call_givesUp_whenRetryAfterExceedsTotalDeadline() {
+        // given: 전체 마감 90초인데 120초 뒤에 오라고 함
+        AtomicInteger calls = new AtomicInteger();
+        var guard = guard();
+
+        // when & then
+        assertThatThrownBy(() -> guard.call(() -> {
+            calls.incrementAndGet();
+            throw tooManyRequests("120");
+        }))
+                .isInstanceOf(AIException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AI_CAPTURE_FAILED);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void call_doesNotRetryClientError() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        var guard = guard();
+
+        // when & then
+        assertThatThrownBy(() -> guard.call(() -> {
+            calls.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", new HttpHeaders(), new byte[0], null);
+        })).isInstanceOf(AIException.class);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(registry.timer("openai.http.requests", "outcome", "client_error").count()).isEqualTo(1);
+    }
+
+    @Test
+    void call_classifiesTimeouts_andRetriesThem() {
+        // given
+        props.setMaxAttempts(2);
+        var guard = guard();
+
+        // when & then
+        assertThatThrownBy(() -> guard.call(() -> {
+            throw new ResourceAccessException("timeout", new HttpTimeoutException("request timed out"));
+        })).isInstanceOf(AIException.class);
+        assertThat(registry.timer("openai.http.requests", "outcome", "timeout").count()).isEqualTo(2);
+    }
+
+    @Test
+    void call_opensCircuitAfterConsecutiveFailures_thenProbesAfterOpenDuration() {
+        // given: 재시도 없이 연속 2번 실패하면 열림
+        props.setMaxAttempts(1);
+        props.setFailureThreshold(2);
+        AtomicInteger calls = new AtomicInteger();
+        var guard = guard();
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(() -> {
+                calls.incrementAndGet();
+                throw serverError();
+            })).isInstanceOf(AIException.class);
+        }
+
+        // when & then: 열린 동안은 호출 없이 바로 거절
+        assertThatThrownBy(() -> guard.call(() -> {
+            calls.incrementAndGet();
+            return "ok";
+        }))
+                .isInstanceOf(AIException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AI_UPSTREAM_UNAVAILABLE);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(registry.counter("openai.http.rejected", "reason", "circuit_open").count()).isEqualTo(1);
+
+        // openDuration 이 지나면 시험 호출 1건 → 성공하면 다시 닫힘
+        clock.addAndGet(props.getOpenDuration().toNanos());
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+        assertThat(guard.call(() -> "again")).isEqualTo("again");
+    }
+
+    @Test
+    void call_interruptsAttemptThatOutlivesTotalDeadline_andDoesNotRetry() {
+        // given: 전체 마감 200ms, 응답이 10초 걸리는 상대
+        props.setTotalTimeout(Duration.ofMillis(200));
+        props.setReadTimeout(Duration.ofMillis(100));
+        AtomicInteger calls = new AtomicInteger();
+        var guard = guard();
+        long started = System.nanoTime();
+
+        // when & then
+        assertThatThrownBy(() -> guard.call(() -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(10_000);
+                return "late";
+            } catch (InterruptedException e) {
+                // JdkClientHttpRequest 처럼 인터럽트 → IOException → ResourceAccessException
+                Thread.currentThread().interrupt();
+                throw new ResourceAccessException("Request was interrupted");
+            }
+        })).isInstanceOf(AIException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(registry.timer("openai.http.requests", "outcome", "timeout").count()).isEqualTo(1);
+        // 마감 타이머가 건 인터럽트는 호출 스레드에 남지 않는다
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void call_skipsRetry_whenRemainingTimeIsShorterThanReadTimeout() {
+        // given: 마감 90초, read-timeout 60초, 첫 시도가 40초 만에 5xx
+        AtomicInteger calls = new AtomicInteger();
+        var guard = guard();
+
+        // when & then
+        assertThatThrownBy(() -> guard.call(() -> {
+            calls.incrementAndGet();
+            clock.addAndGet(Duration.ofSeconds(40).toNanos());
+            throw serverError();
+        })).isInstanceOf(AIException.class);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void call_releasesHalfOpenProbe_whenProbeEndsWithoutOutcome() {
+        // given: 한 번 실패로 열림 → openDuration 경과
+        props.setMaxAttempts(1);
+        props.setFailureThreshold(1);
+        var guard = guard();
+        assertThatThrownBy(() -> guard.call(() -> { throw serverError(); })).isInstanceOf(AIException.class);
+        clock.addAndGet(props.getOpenDuration().toNanos());
+
+        // when: 시험 호출이 성공/실패 판정 없이 빠져나감
+        assertThatThrownBy(() -> guard.call(() -> { throw new AssertionError("boom"); }))
+                .isInstanceOf(AssertionError.class);
+
+        // then: 시험 호출 자리가 풀려 다음 호출이 들어간다
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void call_consumerFailure_isRethrownUnwrapped_andNotCountedAgainstBreaker() {
+        // given: 한 번 실패로 열리는 브레이커
+        props.setFailureThreshold(1);
+        var guard = guard();
+        var closed = new UncheckedIOException(new IOException("Broken pipe"));
+
+        // when: 받는 쪽(SSE)이 끊겨서 실패
+        assertThatThrownBy(() -> guard.call(() -> { throw new DeltaConsumerException(closed); }))
+                .isSameAs(closed);
+
+        // then: 재시도도, 서킷 열림도 없다
+        assertThat(sleeps).isEmpty();
+        assertThat(registry.timer("openai.http.requests", "outcome", "consumer_error").count()).isEqualTo(1);
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void call_rejectsWhenBulkheadIsFull() {
+        // given: 동시 1건, 대기 없음 → 호출 안에서 또 호출하면 자리가 없다
+        props.setMaxConcurrent(1);
+        var guard = guard();
+
+        // when
+        Throwable inner = guard.call(() -> catchThrowable(() -> guard.call(() -> "inner")));
+
+        // then
+        assertThat(inner).isInstanceOf(AIException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AI_CAPTURE_BUSY);
+        assertThat(registry.counter("openai.http.rejected", "reason", "bulkhead_full").count()).isEqualTo(1);
+    }
+
+    @Test
+    void retryAfter_parsesSecondsAndIgnoresGarbage() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        assertThat(OpenAiCallGuard.retryAfter(headers)).isEqualTo(Duration.ofSeconds(7));
+
+        headers.set(HttpHeaders.RETRY_AFTER, "soon");
+        assertThat(OpenAiCallGuard.retryAfter(headers)).isNull();
+        assertThat(OpenAiCallGuard.retryAfter(new HttpHeaders())).isNull();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.gradu.global.client;
+
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
+import com.example.gradu.global.config.OpenAiHttpConfig;
+import com.example.gradu.global.exception.ai.AIException;
+import com.example.gradu.support.openai.FakeOpenAiServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/** 실제 HTTP 스택(JDK HttpClient + 보호막)을 로컬 대역 서버에 붙여서 확인 */
+class OpenAiClientFakeServerTest {
+
+    private static final List<CaptureImage> IMAGES =
+            List.of(new CaptureImage(new byte[4096], "image/png", "a.png"));
+
+    private final OpenAiHttpProperties props = new OpenAiHttpProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private FakeOpenAiServer server;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        props.setInitialBackoff(Duration.ofMillis(10));
+        props.setMaxBackoff(Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) server.close();
+        if (httpClient != null) httpClient.close();
+    }
+
+    private OpenAiClient client(FakeOpenAiServer.Settings settings) throws Exception {
+        server = new FakeOpenAiServer(settings).start();
+        var config = new OpenAiHttpConfig();
+        httpClient = config.openAiHttpClient(props);
+        return new OpenAiClient("key", server.url(), "gpt-4o",
+                config.openAiRestTemplate(httpClient, props),
+                new OpenAiCallGuard(props, registry));
+    }
+
+    @Test
+    void analyzeCourseImages_retriesOverloadedUpstream_andReturnsTranscript() throws Exception {
+        // given: 첫 요청은 503
+        var client = client(FakeOpenAiServer.Settings.defaults().withFailFirst(1));
+
+        // when
+        String content = client.analyzeCourseImages(IMAGES);
+
+        // then
+        assertThat(content).isEqualTo(FakeOpenAiServer.DEFAULT_TRANSCRIPT);
+        assertThat(server.requestCount()).isEqualTo(2);
+        assertThat(registry.timer("openai.http.requests", "outcome", "server_error").count()).isEqualTo(1);
+        assertThat(registry.timer("openai.http.requests", "outcome", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    void streamCourseImages_deliversTranscriptInChunks() throws Exception {
+        // given
+        var client = client(FakeOpenAiServer.Settings.defaults().withChunks(1, 16));
+        StringBuilder received = new StringBuilder();
+        int[] chunks = {0};
+
+        // when
+        client.streamCourseImages(IMAGES, delta -> {
+            chunks[0]++;
+            received.append(delta);
+        });
+
+        // then
+        assertThat(received.toString()).isEqualTo(FakeOpenAiServer.DEFAULT_TRANSCRIPT);
+        assertThat(chunks[0]).isGreaterThan(10);
+    }
+
+    @Test
+    void streamCourseImages_clientDisconnects_doNotOpenCircuit() throws Exception {
+        // given: 한 번 실패로 열리는 브레이커, 받는 쪽이 첫 조각에서 끊김 (브라우저 탭 닫힘)
+        props.setFailureThreshold(1);
+        var client = client(FakeOpenAiServer.Settings.defaults().withChunks(1, 16));
+        var closed = new UncheckedIOException(new IOException("Broken pipe"));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.streamCourseImages(IMAGES, delta -> { throw closed; }))
+                    .isSameAs(closed);
+        }
+
+        // then: 서킷은 닫힌 채 다음 호출이 나간다
+        assertThat(client.analyzeCourseImages(IMAGES)).isEqualTo(FakeOpenAiServer.DEFAULT_TRANSCRIPT);
+        assertThat(registry.get("openai.http.circuit.state").gauge().value()).isZero();
+    }
+
+    @Test
+    void analyzeCourseImages_timesOutSlowUpstream() throws Exception {
+        // given: 응답 2초, 읽기 타임아웃 200ms, 재시도 없음
+        props.setReadTimeout(Duration.ofMillis(200));
+        props.setMaxAttempts(1);
+        var client = client(FakeOpenAiServer.Settings.defaults().withLatency(2_000, 2_000));
+
+        // when & then
+        assertThatThrownBy(() -> client.analyzeCourseImages(IMAGES)).isInstanceOf(AIException.class);
+        assertThat(registry.timer("openai.http.requests", "outcome", "timeout").count()).isEqualTo(1);
+    }
+}
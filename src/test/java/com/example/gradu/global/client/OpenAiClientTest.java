@@ -0,0 +1,100 @@
+package com.example.gradu.global.client;
+
+import com.example.gradu.domain.capture_ai.dto.CaptureImage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAiClientTest {
+
+    private final OpenAiClient client = new OpenAiClient("key", "http://localhost", "gpt-4o", new RestTemplate(),
+            new OpenAiCallGuard(new OpenAiHttpProperties(), new SimpleMeterRegistry()));
+
+    @Test
+    void writeRequestBody_producesChatJson_withStreamedBase64Images() throws IOException {
+        // given
+        byte[] jpeg = randomBytes(100_001);
+        var images = List.of(
+                new CaptureImage(jpeg, "image/jpeg", "a.jpg"),
+                new CaptureImage(new byte[]{1, 2}, "text/html\"<", "b.png") // JSON 을 깨는 MIME 은 png 로
+        );
+        var out = new ByteArrayOutputStream();
+
+        // when
+        client.writeRequestBody(out, images);
+
+        // then
+        JsonNode body = new ObjectMapper().readTree(out.toByteArray());
+        assertThat(body.get("model").asText()).isEqualTo("gpt-4o");
+
+        JsonNode content = body.at("/messages/0/content");
+        assertThat(content).hasSize(3);
+        assertThat(content.at("/0/type").asText()).isEqualTo("text");
+        assertThat(content.at("/0/text").asText()).contains("졸업심사 성적표");
+
+        String url = content.at("/1/image_url/url").asText();
+        assertThat(url).startsWith("data:image/jpeg;base64,");
+        assertThat(Base64.getDecoder().decode(url.substring(url.indexOf(',') + 1))).isEqualTo(jpeg);
+
+        assertThat(content.at("/2/image_url/url").asText()).isEqualTo("data:image/png;base64,AQI=");
+    }
+
+    @Test
+    void contentLength_matchesWrittenBytes_forAnyPadding() throws IOException {
+        // base64 패딩 0/1/2 바이트 경우 모두
+        for (int size : new int[]{0, 1, 2, 3, 4, 5, 9_999}) {
+            var images = List.of(new CaptureImage(randomBytes(size), "image/png", "x.png"));
+            var out = new ByteArrayOutputStream();
+
+            client.writeRequestBody(out, images);
+
+            assertThat(client.contentLength(images)).as("size=" + size).isEqualTo(out.size());
+        }
+    }
+
+    @Test
+    void readEvents_forwardsContentDeltas_untilDone() throws IOException {
+        // given: 역할 조각/빈 조각/keep-alive 주석은 건너뛰고 [DONE] 뒤는 읽지 않음
+        String sse = """
+                : keep-alive
+
+                data: {"choices":[{"delta":{"role":"assistant"}}]}
+
+                data: {"choices":[{"delta":{"content":"[{\\"name\\":"}}]}
+
+                data: {"choices":[{"delta":{"content":""}}]}
+
+                data: {"choices":[{"delta":{"content":"\\"자료구조\\"}]"}}]}
+
+                data: [DONE]
+
+                data: {"choices":[{"delta":{"content":"ignored"}}]}
+                """;
+        List<String> deltas = new ArrayList<>();
+
+        // when
+        client.readEvents(new ByteArrayInputStream(sse.getBytes(StandardCharsets.UTF_8)), deltas::add);
+
+        // then
+        assertThat(deltas).containsExactly("[{\"name\":", "\"자료구조\"}]");
+    }
+
+    private static byte[] randomBytes(int n) {
+        byte[] b = new byte[n];
+        new Random(n).nextBytes(b);
+        return b;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.gradu.global.crypto;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AesGcmEngineTest {
+
+    private static final byte[] KEY_1 = randomBytes(32);
+    private static final byte[] KEY_2 = randomBytes(32);
+
+    private final AesGcmEngine engine = new AesGcmEngine(Map.of(1, KEY_1), 1, 1);
+
+    @Test
+    void encrypt_prefixesKeyVersion_andRoundTrips() {
+        String enc = engine.encrypt("한동 handong@handong.ac.kr");
+
+        assertThat(enc).startsWith("v1:");
+        assertThat(engine.versionOf(enc)).isEqualTo(1);
+        assertThat(engine.decrypt(enc)).isEqualTo("한동 handong@handong.ac.kr");
+    }
+
+    @Test
+    void decrypt_readsLegacyValuesWithoutHeader() throws Exception {
+        // given: 예전 AesGcmUtil 형식 = Base64(IV | 암호문 + 태그), 헤더 없음
+        String legacy = legacyEncrypt(KEY_1, "old@handong.ac.kr");
+
+        // when & then
+        assertThat(engine.versionOf(legacy)).isEqualTo(1);
+        assertThat(engine.decrypt(legacy)).isEqualTo("old@handong.ac.kr");
+    }
+
+    @Test
+    void decrypt_usesKeyOfHeaderVersion_afterRotation() {
+        // given: v1 로 저장된 값
+        String v1 = engine.encrypt("a@handong.ac.kr");
+
+        // when: v2 로 교체 (v1 은 읽기용으로 유지)
+        AesGcmEngine rotated = new AesGcmEngine(Map.of(1, KEY_1, 2, KEY_2), 2, 1);
+        String v2 = rotated.encrypt("a@handong.ac.kr");
+
+        // then
+        assertThat(v2).startsWith("v2:");
+        assertThat(rotated.decrypt(v1)).isEqualTo("a@handong.ac.kr");
+        assertThat(rotated.decrypt(v2)).isEqualTo("a@handong.ac.kr");
+    }
+
+    @Test
+    void decrypt_unknownVersion_throwsIllegalStateException() {
+        AesGcmEngine rotated = new AesGcmEngine(Map.of(1, KEY_1, 2, KEY_2), 2, 1);
+        String v2 = rotated.encrypt("a@handong.ac.kr");
+
+        assertThatThrownBy(() -> engine.decrypt(v2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("AES decrypt 실패");
+    }
+
+    @Test
+    void decrypt_tooShortPayload_throwsIllegalStateException() {
+        assertThatThrownBy(() -> engine.decrypt("v1:AAAA"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("AES decrypt 실패");
+    }
+
+    @Test
+    void constructor_missingCurrentKey_isRejected() {
+        assertThatThrownBy(() -> new AesGcmEngine(Map.of(1, KEY_1), 2, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void needsReencryption_onlyForLegacyOrOldVersion() throws Exception {
+        // given
+        AesGcmEngine rotated = new AesGcmEngine(Map.of(1, KEY_1, 2, KEY_2), 2, 1);
+        String legacy = legacyEncrypt(KEY_1, "a@handong.ac.kr");
+        String v1 = engine.encrypt("a@handong.ac.kr");
+        String v2 = rotated.encrypt("a@handong.ac.kr");
+
+        // when & then
+        assertThat(rotated.needsReencryption(legacy)).isTrue();
+        assertThat(rotated.needsReencryption(v1)).isTrue();
+        assertThat(rotated.needsReencryption(v2)).isFalse();
+        assertThat(rotated.needsReencryption(null)).isFalse();
+        assertThat(engine.needsReencryption(v1)).isFalse();
+        // 버전 도입 전 값은 키가 같아도 헤더를 붙이기 위해 다시 쓴다
+        assertThat(engine.needsReencryption(legacy)).isTrue();
+    }
+
+    @Test
+    void reencrypt_movesOldValueToCurrentKey() {
+        // given
+        AesGcmEngine rotated = new AesGcmEngine(Map.of(1, KEY_1, 2, KEY_2), 2, 1);
+        String v1 = engine.encrypt("a@handong.ac.kr");
+
+        // when
+        String moved = rotated.reencrypt(v1);
+
+        // then: 새 키만 있는 엔진으로도 읽힌다
+        assertThat(moved).startsWith("v2:");
+        assertThat(new AesGcmEngine(Map.of(2, KEY_2), 2, 2).decrypt(moved)).isEqualTo("a@handong.ac.kr");
+        assertThat(rotated.reencrypt(moved)).isSameAs(moved);
+    }
+
+    @Test
+    void concurrentUse_sharesPooledCiphersSafely() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String plain = "student" + i + "@handong.ac.kr";
+                results.add(pool.submit(() -> {
+                    for (int j = 0; j < 50; j++) {
+                        if (!plain.equals(engine.decrypt(engine.encrypt(plain)))) return false;
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> r : results) assertThat(r.get()).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static String legacyEncrypt(byte[] key, String plain) throws Exception {
+        byte[] iv = randomBytes(12);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new GCMParameterSpec(128, iv));
+        byte[] enc = cipher.doFinal(plain.getBytes(StandardCharsets.UTF_8));
+        byte[] res = new byte[iv.length + enc.length];
+        System.arraycopy(iv, 0, res, 0, iv.length);
+        System.arraycopy(enc, 0, res, iv.length, enc.length);
+        return Base64.getEncoder().encodeToString(res);
+    }
+
+    private static byte[] randomBytes(int n) {
+        byte[] b = new byte[n];
+        new SecureRandom().nextBytes(b);
+        return b;
+    }
+}
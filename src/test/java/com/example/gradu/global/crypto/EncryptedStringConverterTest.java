@@ -19,30 +19,54 @@ class EncryptedStringConverterTest {
     EncryptedStringConverter converter;
 
     @Test
-    void convertToDatabaseColumn_callsEncrypt() {
+    void convertToDatabaseColumn_encryptsNewValueOnce() {
         // given
         when(aes.encrypt("plain")).thenReturn("enc");
+        EncryptedString value = EncryptedString.of("plain");
 
         // when
-        String res = converter.convertToDatabaseColumn("plain");
+        String first = converter.convertToDatabaseColumn(value);
+        String second = converter.convertToDatabaseColumn(value);
 
         // then
-        assertThat(res).isEqualTo("enc");
-        verify(aes).encrypt("plain");
+        assertThat(first).isEqualTo("enc");
+        assertThat(second).isEqualTo("enc");
+        verify(aes, times(1)).encrypt("plain");
         verifyNoMoreInteractions(aes);
     }
 
     @Test
-    void convertToEntityAttribute_callsDecrypt() {
+    void convertToEntityAttribute_defersDecryptUntilFirstRead() {
         // given
         when(aes.decrypt("enc")).thenReturn("plain");
 
         // when
-        String res = converter.convertToEntityAttribute("enc");
+        EncryptedString value = converter.convertToEntityAttribute("enc");
 
-        // then
-        assertThat(res).isEqualTo("plain");
-        verify(aes).decrypt("enc");
-        verifyNoMoreInteractions(aes);
+        // then: 읽기만 해서는 복호화 X
+        verifyNoInteractions(aes);
+        assertThat(value.isDecrypted()).isFalse();
+
+        // 처음 꺼낼 때 한 번만 복호화
+        assertThat(value.get()).isEqualTo("plain");
+        assertThat(value.get()).isEqualTo("plain");
+        verify(aes, times(1)).decrypt("enc");
+    }
+
+    @Test
+    void loadedValue_isWrittenBackWithoutReEncrypting() {
+        // given
+        EncryptedString value = converter.convertToEntityAttribute("enc");
+
+        // when & then: 읽어 온 암호문을 그대로 저장
+        assertThat(converter.convertToDatabaseColumn(value)).isEqualTo("enc");
+        verifyNoInteractions(aes);
+    }
+
+    @Test
+    void nullValues_passThrough() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        verifyNoInteractions(aes);
     }
 }
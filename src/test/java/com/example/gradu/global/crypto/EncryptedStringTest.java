@@ -0,0 +1,38 @@
+package com.example.gradu.global.crypto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncryptedStringTest {
+
+    @Test
+    void equals_sameCipherText_doesNotDecrypt() {
+        AtomicInteger decrypts = new AtomicInteger();
+        EncryptedString a = EncryptedString.fromDatabase("enc", c -> { decrypts.incrementAndGet(); return "plain"; });
+        EncryptedString b = EncryptedString.fromDatabase("enc", c -> { decrypts.incrementAndGet(); return "plain"; });
+
+        assertThat(a).isEqualTo(b);
+        assertThat(decrypts).hasValue(0);
+    }
+
+    @Test
+    void equals_comparesPlaintext_whenCipherTextsDiffer() {
+        EncryptedString loaded = EncryptedString.fromDatabase("enc", c -> "a@handong.ac.kr");
+
+        assertThat(loaded).isEqualTo(EncryptedString.of("a@handong.ac.kr"));
+        assertThat(loaded).isNotEqualTo(EncryptedString.of("b@handong.ac.kr"));
+    }
+
+    @Test
+    void toString_neverRevealsPlaintext() {
+        assertThat(EncryptedString.of("a@handong.ac.kr").toString()).doesNotContain("handong");
+    }
+
+    @Test
+    void of_null_isNull() {
+        assertThat(EncryptedString.of(null)).isNull();
+    }
+}
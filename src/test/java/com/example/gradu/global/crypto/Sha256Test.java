@@ -39,4 +39,10 @@ class Sha256Test {
                 .isInstanceOf(NullPointerException.class)
                 .hasMessageContaining("Input for hashing cannot be null.");
     }
+
+    @Test
+    void hashBytes_matchesStringHashOfSameUtf8Bytes() {
+        assertThat(Sha256.hashBytes("hello".getBytes(java.nio.charset.StandardCharsets.UTF_8)))
+                .isEqualTo(Sha256.hash("hello"));
+    }
 }
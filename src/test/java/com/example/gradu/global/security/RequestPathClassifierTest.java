@@ -0,0 +1,62 @@
+package com.example.gradu.global.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.example.gradu.global.security.SecurityConfig.*;
+import static org.assertj.core.api.Assertions.*;
+
+class RequestPathClassifierTest {
+
+    private static final AntPathMatcher ANT = new AntPathMatcher();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/v1/auth/login", "/api/v1/auth/register", "/api/v1/auth/reissue",
+            "/api/v1/auth/login/", "/api/v1/auth/loginx", "/api/v1/auth/email/otp/send",
+            "/v3/api-docs", "/v3/api-docs/swagger-config", "/v3/api-docsx",
+            "/swagger-ui.html", "/swagger-ui/index.html", "/swagger-ui", "/swagger-uix/a",
+            "/api/v1/students/1/courses", "/api/v1/ai/course-capture", "/api/v1/rankings/courses", "/", ""
+    })
+    void matches_agreesWithAntPathMatcherOverWhitelist(String uri) {
+        // given: 기존 필터의 판별 방식
+        boolean legacy = Stream.concat(PUBLIC_WHITELIST.stream(), SWAGGER_WHITELIST.stream())
+                .anyMatch(pattern -> ANT.match(pattern, uri));
+
+        // when & then
+        assertThat(PUBLIC_PATHS.matches(uri)).isEqualTo(legacy);
+    }
+
+    @Test
+    void matches_supportsPathVariablesAndRootPrefix() {
+        var classifier = RequestPathClassifier.of(List.of("/api/v1/students/{sid}/summary", "/actuator/**"));
+
+        assertThat(classifier.matches("/api/v1/students/7/summary")).isTrue();
+        assertThat(classifier.matches("/api/v1/students/7/courses")).isFalse();
+        assertThat(classifier.matches("/actuator/metrics/jvm.threads.live")).isTrue();
+        assertThat(classifier.matches(null)).isFalse();
+    }
+
+    @Test
+    void matchesRequest_usesPathWithinApplication_notRawRequestUri() {
+        // given: 컨텍스트 경로 아래 배포 + 인코딩된 세그먼트 / 경로 파라미터
+        MockHttpServletRequest withContext = new MockHttpServletRequest("POST", "/gradu/api/v1/auth/login");
+        withContext.setContextPath("/gradu");
+        MockHttpServletRequest encoded = new MockHttpServletRequest("POST", "/api/v1/auth/%6Cogin");
+        MockHttpServletRequest withParam = new MockHttpServletRequest("POST", "/api/v1/auth/login;jsessionid=1");
+        MockHttpServletRequest other = new MockHttpServletRequest("GET", "/gradu/api/v1/students/1/courses");
+        other.setContextPath("/gradu");
+
+        // when & then: Spring 매처와 같은 기준
+        assertThat(PUBLIC_PATHS.matches(withContext)).isTrue();
+        assertThat(PUBLIC_PATHS.matches(encoded)).isTrue();
+        assertThat(PUBLIC_PATHS.matches(withParam)).isTrue();
+        assertThat(PUBLIC_PATHS.matches(other)).isFalse();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.gradu.global.security;
+
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.auth.AuthException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StudentAccessInterceptorTest {
+
+    static class Handlers {
+        @CheckStudentAccess
+        public void bySid(@PathVariable("sid") Long sid) {}
+
+        @CheckStudentAccess
+        public void byStudentId(@PathVariable("courseId") Long courseId, @PathVariable("studentId") Long studentId) {}
+
+        public void open(@PathVariable("sid") Long sid) {}
+
+        @CheckStudentAccess
+        public void misconfigured(@PathVariable("courseId") Long courseId) {}
+    }
+
+    private final StudentAccessInterceptor interceptor = new StudentAccessInterceptor();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void clearAuth() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        for (var m : Handlers.class.getDeclaredMethods()) {
+            if (m.getName().equals(name)) return new HandlerMethod(new Handlers(), m);
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    private static MockHttpServletRequest request(Map<String, String> variables) {
+        var request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, variables);
+        return request;
+    }
+
+    private static void login(Object principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    @Test
+    void ownerVariable_resolvesSidAndStudentId_andSkipsUnannotated() throws Exception {
+        assertThat(interceptor.ownerVariable(handler("bySid"))).isEqualTo("sid");
+        assertThat(interceptor.ownerVariable(handler("byStudentId"))).isEqualTo("studentId");
+        assertThat(interceptor.ownerVariable(handler("open"))).isEmpty();
+    }
+
+    @Test
+    void ownerVariable_failsFast_whenAnnotatedMethodHasNoOwnerVariable() {
+        assertThatThrownBy(() -> interceptor.ownerVariable(handler("misconfigured")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void preHandle_sameStudent_passes() throws Exception {
+        // given
+        login(7L);
+
+        // when & then
+        assertThat(interceptor.preHandle(request(Map.of("courseId", "3", "studentId", "7")), response, handler("byStudentId")))
+                .isTrue();
+    }
+
+    @Test
+    void preHandle_otherStudent_forbidden() throws Exception {
+        // given
+        login(7L);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preHandle(request(Map.of("sid", "8")), response, handler("bySid")))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTH_FORBIDDEN);
+        assertThatThrownBy(() -> interceptor.preHandle(request(Map.of("sid", "abc")), response, handler("bySid")))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTH_FORBIDDEN);
+    }
+
+    @Test
+    void preHandle_notLoggedIn_unauthenticated() throws Exception {
+        assertThatThrownBy(() -> interceptor.preHandle(request(Map.of("sid", "7")), response, handler("bySid")))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTH_UNAUTHENTICATED);
+    }
+
+    @Test
+    void preHandle_unannotatedHandler_passesWithoutLogin() throws Exception {
+        assertThat(interceptor.preHandle(request(Map.of("sid", "7")), response, handler("open"))).isTrue();
+        assertThat(interceptor.preHandle(request(Map.of()), response, new Object())).isTrue();
+    }
+}
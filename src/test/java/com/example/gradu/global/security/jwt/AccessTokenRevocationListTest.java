@@ -0,0 +1,117 @@
+package com.example.gradu.global.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccessTokenRevocationListTest {
+
+    private final JwtTokenProviderTest.MutableClock clock =
+            new JwtTokenProviderTest.MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    RedisTemplate<String, String> redisTemplate;
+    ZSetOperations<String, String> zSetOps;
+    AccessTokenRevocationList list;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        zSetOps = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
+
+        list = new AccessTokenRevocationList(redisTemplate, new JwtProperties(), clock);
+    }
+
+    @Test
+    void revoke_marksLocally_andPublishesWithRemainingTtl() {
+        // given
+        Instant exp = clock.instant().plusSeconds(60);
+
+        // when
+        list.revoke("jti-1", exp);
+
+        // then
+        assertThat(list.isRevoked("jti-1")).isTrue();
+        assertThat(list.isRevoked("jti-2")).isFalse();
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("jwt:revoked:jti-1", "jwt:revoked")),
+                eq("jti-1"), eq(String.valueOf(exp.toEpochMilli())), eq("60000"), eq(AccessTokenRevocationList.CHANNEL));
+    }
+
+    @Test
+    void revoke_alreadyExpiredOrLegacyToken_isNoop() {
+        list.revoke("jti-1", clock.instant().minusSeconds(1));
+        list.revoke(null, clock.instant().plusSeconds(60));
+
+        assertThat(list.isRevoked("jti-1")).isFalse();
+        assertThat(list.isRevoked(null)).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void accept_messageFromOtherNode_isAppliedLocally() {
+        long exp = clock.instant().plusSeconds(60).toEpochMilli();
+
+        list.accept("jti-9:" + exp);
+        list.accept("garbage");
+
+        assertThat(list.isRevoked("jti-9")).isTrue();
+        assertThat(list.size()).isEqualTo(1);
+    }
+
+    @Test
+    void isRevoked_falseOnceTokenWouldHaveExpired_andResyncPrunesIt() {
+        // given
+        list.revoke("jti-1", clock.instant().plusSeconds(60));
+        when(zSetOps.rangeByScoreWithScores(eq("jwt:revoked"), anyDouble(), anyDouble())).thenReturn(Set.of());
+
+        // when
+        clock.advance(Duration.ofMinutes(2));
+        list.resync();
+
+        // then
+        assertThat(list.isRevoked("jti-1")).isFalse();
+        assertThat(list.size()).isZero();
+    }
+
+    @Test
+    void resync_loadsRevocationsMissedWhileUnsubscribed() {
+        // given
+        double exp = clock.instant().plusSeconds(60).toEpochMilli();
+        when(zSetOps.rangeByScoreWithScores(eq("jwt:revoked"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("jti-7", exp)));
+
+        // when
+        list.resync();
+
+        // then
+        assertThat(list.isRevoked("jti-7")).isTrue();
+    }
+
+    @Test
+    void resync_redisDown_keepsLocalEntries() {
+        // given
+        list.accept("jti-1:" + clock.instant().plusSeconds(60).toEpochMilli());
+        when(zSetOps.rangeByScoreWithScores(anyString(), anyDouble(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        list.resync();
+
+        // then
+        assertThat(list.isRevoked("jti-1")).isTrue();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.gradu.global.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_neverMissesAddedValues() {
+        BloomFilter filter = new BloomFilter(1_000, 0.001);
+        String[] added = new String[1_000];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = UUID.randomUUID().toString();
+            filter.put(added[i]);
+        }
+
+        for (String jti : added) {
+            assertThat(filter.mightContain(jti)).isTrue();
+        }
+    }
+
+    @Test
+    void mightContain_falsePositiveRate_staysNearTarget() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) filter.put(UUID.randomUUID().toString());
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) falsePositives++;
+        }
+
+        // 목표 1% → 넉넉히 3% 미만
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void emptyFilter_containsNothing() {
+        BloomFilter filter = new BloomFilter(10, 0.001);
+
+        assertThat(filter.mightContain("anything")).isFalse();
+    }
+}
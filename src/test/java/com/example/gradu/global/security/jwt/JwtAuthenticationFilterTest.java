@@ -8,6 +8,9 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import static com.example.gradu.global.security.jwt.JwtAuthenticationFilter.TOKEN_PREFIX;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -23,7 +26,8 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_validToken_setsAuthentication_andCallsChain() throws Exception {
         // given
         JwtTokenProvider provider = mock(JwtTokenProvider.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider);
+        AccessTokenRevocationList revocationList = mock(AccessTokenRevocationList.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, revocationList);
 
         MockHttpServletRequest req = new MockHttpServletRequest();
         req.setRequestURI("/api/v1/courses"); // 화이트리스트 X
@@ -32,8 +36,8 @@ class JwtAuthenticationFilterTest {
         MockHttpServletResponse res = new MockHttpServletResponse();
         FilterChain chain = mock(FilterChain.class);
 
-        when(provider.isTokenValid("valid-token")).thenReturn(true);
-        when(provider.getStudentIdFromToken("valid-token")).thenReturn(1L);
+        when(provider.authenticate("valid-token"))
+                .thenReturn(Optional.of(new VerifiedToken(1L, "jti-1", Instant.now().plusSeconds(60), VerifiedToken.TokenType.ACCESS)));
 
         // when
         filter.doFilter(req, res, chain);
@@ -44,11 +48,63 @@ class JwtAuthenticationFilterTest {
         verify(chain).doFilter(req, res);
     }
 
+    @Test
+    void doFilterInternal_revokedToken_doesNotSetAuthentication_butCallsChain() throws Exception {
+        // given
+        JwtTokenProvider provider = mock(JwtTokenProvider.class);
+        AccessTokenRevocationList revocationList = mock(AccessTokenRevocationList.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, revocationList);
+
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        req.setRequestURI("/api/v1/courses");
+        req.addHeader("Authorization", TOKEN_PREFIX + "logged-out");
+
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        when(provider.authenticate("logged-out"))
+                .thenReturn(Optional.of(new VerifiedToken(1L, "jti-1", Instant.now().plusSeconds(60), VerifiedToken.TokenType.ACCESS)));
+        when(revocationList.isRevoked("jti-1")).thenReturn(true);
+
+        // when
+        filter.doFilter(req, res, chain);
+
+        // then: 서명은 유효해도 로그아웃된 토큰이면 인증 X
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(chain).doFilter(req, res);
+    }
+
+    @Test
+    void doFilterInternal_refreshToken_doesNotSetAuthentication_butCallsChain() throws Exception {
+        // given: 서명/만료는 유효한 refresh 토큰을 Bearer 로 보냄
+        JwtTokenProvider provider = mock(JwtTokenProvider.class);
+        AccessTokenRevocationList revocationList = mock(AccessTokenRevocationList.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, revocationList);
+
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        req.setRequestURI("/api/v1/courses");
+        req.addHeader("Authorization", TOKEN_PREFIX + "refresh-token");
+
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        when(provider.authenticate("refresh-token"))
+                .thenReturn(Optional.of(new VerifiedToken(1L, null, Instant.now().plusSeconds(600), VerifiedToken.TokenType.REFRESH)));
+
+        // when
+        filter.doFilter(req, res, chain);
+
+        // then: 로그아웃 후에도 refresh 수명 동안 통과하지 않도록 인증 X
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(chain).doFilter(req, res);
+    }
+
     @Test
     void doFilterInternal_invalidToken_doesNotSetAuthentication_butCallsChain() throws Exception {
         // given
         JwtTokenProvider provider = mock(JwtTokenProvider.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider);
+        AccessTokenRevocationList revocationList = mock(AccessTokenRevocationList.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, revocationList);
 
         MockHttpServletRequest req = new MockHttpServletRequest();
         req.setRequestURI("/api/v1/courses");
@@ -57,7 +113,7 @@ class JwtAuthenticationFilterTest {
         MockHttpServletResponse res = new MockHttpServletResponse();
         FilterChain chain = mock(FilterChain.class);
 
-        when(provider.isTokenValid("bad-token")).thenReturn(false);
+        when(provider.authenticate("bad-token")).thenReturn(Optional.empty());
 
         // when
         filter.doFilter(req, res, chain);
@@ -66,13 +122,15 @@ class JwtAuthenticationFilterTest {
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         verify(chain).doFilter(req, res);
         verify(provider, never()).getStudentIdFromToken(anyString());
+        verify(provider, never()).isTokenValid(anyString());
     }
 
     @Test
     void doFilterInternal_tokenProviderThrowsJwtException_silentlyPasses() throws Exception {
         // given
         JwtTokenProvider provider = mock(JwtTokenProvider.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider);
+        AccessTokenRevocationList revocationList = mock(AccessTokenRevocationList.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, revocationList);
 
         MockHttpServletRequest req = new MockHttpServletRequest();
         req.setRequestURI("/api/v1/courses");
@@ -81,7 +139,7 @@ class JwtAuthenticationFilterTest {
         MockHttpServletResponse res = new MockHttpServletResponse();
         FilterChain chain = mock(FilterChain.class);
 
-        when(provider.isTokenValid("boom")).thenThrow(new JwtException("invalid"));
+        when(provider.authenticate("boom")).thenThrow(new JwtException("invalid"));
 
         // when
         filter.doFilter(req, res, chain);
@@ -95,7 +153,8 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_noAuthorizationHeader_justPasses() throws Exception {
         // given
         JwtTokenProvider provider = mock(JwtTokenProvider.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider);
+        AccessTokenRevocationList revocationList = mock(AccessTokenRevocationList.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, revocationList);
 
         MockHttpServletRequest req = new MockHttpServletRequest();
         req.setRequestURI("/api/v1/courses");
@@ -109,6 +168,6 @@ class JwtAuthenticationFilterTest {
         // then: header가 없을 경우, 컨텍스트 저장 X + 다음 필터로 패스
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         verify(chain).doFilter(req, res);
-        verifyNoInteractions(provider);
+        verifyNoInteractions(provider, revocationList);
     }
 }
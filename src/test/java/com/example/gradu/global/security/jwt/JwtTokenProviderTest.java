@@ -1,9 +1,20 @@
 package com.example.gradu.global.security.jwt;
 
 import com.example.gradu.global.exception.auth.AuthException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
 import static org.assertj.core.api.Assertions.*;
 
 class JwtTokenProviderTest {
@@ -112,4 +123,137 @@ class JwtTokenProviderTest {
         assertThat(provider.isTokenValid(algNone)).isFalse();
     }
 
+    @Test
+    void authenticate_validToken_returnsStudentIdAndExpiry_andCachesIt() {
+        // given
+        var clock = new MutableClock(Instant.now());
+        provider = new JwtTokenProvider(props, clock);
+        provider.init();
+        String token = provider.generateAccessToken(42L);
+
+        // when
+        var first = provider.authenticate(token);
+        var second = provider.authenticate(token);
+
+        // then: 두 번째는 캐시에서 같은 값
+        assertThat(first).get().extracting(VerifiedToken::studentId).isEqualTo(42L);
+        assertThat(first.get().expiresAt()).isAfter(clock.instant());
+        assertThat(first.get().jti()).isNotBlank();
+        assertThat(second.get()).isSameAs(first.get());
+    }
+
+    @Test
+    void authenticate_cachedToken_isRejectedOnceExpired() {
+        // given
+        var clock = new MutableClock(Instant.now());
+        provider = new JwtTokenProvider(props, clock);
+        provider.init();
+        String token = provider.generateAccessToken(42L);
+        assertThat(provider.authenticate(token)).isPresent();
+
+        // when: 만료 시각(1분) 이후
+        clock.advance(Duration.ofMinutes(2));
+
+        // then
+        assertThat(provider.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    void authenticate_invalidToken_returnsEmpty() {
+        assertThat(provider.authenticate("not-a-jwt")).isEmpty();
+        assertThat(provider.authenticate(null)).isEmpty();
+    }
+
+    @Test
+    void authenticate_refreshToken_isTypedRefresh_andNotCached() {
+        // given
+        String refresh = provider.generateRefreshToken(42L);
+
+        // when
+        var verified = provider.authenticate(refresh);
+
+        // then
+        assertThat(verified).get().extracting(VerifiedToken::type).isEqualTo(VerifiedToken.TokenType.REFRESH);
+        assertThat(verified.get().isAccess()).isFalse();
+        assertThat(provider.authenticate(refresh).get()).isNotSameAs(verified.get());
+    }
+
+    @Test
+    void authenticate_accessTypedTokenWithoutJti_isRejected() {
+        String token = Jwts.builder()
+                .setSubject("1")
+                .claim(JwtTokenProvider.TOKEN_TYPE_CLAIM, JwtTokenProvider.ACCESS)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 30_000))
+                .signWith(key())
+                .compact();
+
+        assertThat(provider.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    void authenticate_legacyUntypedTokens_classifiedByJtiAndLifetime() {
+        // given: token_type 클레임 도입 전 발급된 토큰들
+        long now = System.currentTimeMillis();
+        String legacyAccess = legacy(null, now, now + 60_000);         // jti 도입 전 access (수명 = access)
+        String legacyRefresh = legacy(null, now, now + 120_000);       // 예전 refresh (수명 > access)
+        String jtiAccess = legacy("jti-1", now, now + 60_000);         // jti 도입 후 access
+
+        // then
+        assertThat(provider.authenticate(legacyAccess).get().isAccess()).isTrue();
+        assertThat(provider.authenticate(legacyRefresh).get().isAccess()).isFalse();
+        assertThat(provider.authenticate(jtiAccess).get().isAccess()).isTrue();
+    }
+
+    private String legacy(String jti, long issuedAtMs, long expiresAtMs) {
+        return Jwts.builder()
+                .setSubject("1")
+                .setId(jti)
+                .setIssuedAt(new Date(issuedAtMs))
+                .setExpiration(new Date(expiresAtMs))
+                .signWith(key())
+                .compact();
+    }
+
+    private Key key() {
+        return Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void authenticate_worksWithCacheDisabled() {
+        props.setVerifiedCacheSize(0);
+        provider = new JwtTokenProvider(props);
+        provider.init();
+
+        String token = provider.generateAccessToken(7L);
+
+        assertThat(provider.authenticate(token)).get().extracting(VerifiedToken::studentId).isEqualTo(7L);
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
 }
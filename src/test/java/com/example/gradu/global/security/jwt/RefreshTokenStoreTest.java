@@ -1,17 +1,23 @@
 package com.example.gradu.global.security.jwt;
 
+import com.example.gradu.global.crypto.Sha256;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class RefreshTokenStoreTest {
 
+    static final String HASH = Sha256.hash("rt");
+
     RedisTemplate<String, String> redisTemplate;
     ValueOperations<String, String> valueOps;
     JwtProperties props;
@@ -30,29 +36,73 @@ class RefreshTokenStoreTest {
     }
 
     @Test
-    void save_setsValueWithTtl() {
+    void save_storesHashedKey_andAddsToFamily_inOneScript() {
         store.save("rt", 10L);
 
-        verify(valueOps).set("rt", "10", 120_000L, TimeUnit.MILLISECONDS);
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("rt:" + HASH, "rt:family:10")), eq("10"), eq("120000"), eq(HASH));
+        verify(redisTemplate, never()).opsForValue();
     }
 
     @Test
-    void validate_returnsTrue_whenExists() {
-        when(valueOps.get("rt")).thenReturn("10");
+    void findStudentId_looksUpHashedKey_withOneGet() {
+        when(valueOps.get("rt:" + HASH)).thenReturn("10");
 
+        assertThat(store.findStudentId("rt")).isEqualTo(10L);
         assertThat(store.validate("rt")).isTrue();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
     }
 
     @Test
-    void validate_returnsFalse_whenMissing() {
-        when(valueOps.get("rt")).thenReturn(null);
+    @SuppressWarnings("unchecked")
+    void findStudentId_legacyKey_isMovedIntoFamily_withEveryKeyDeclared() {
+        // given: 예전 형식(토큰 원문 키)으로 저장된 토큰
+        when(valueOps.get("rt")).thenReturn("10");
+        ArgumentCaptor<RedisScript<String>> script = ArgumentCaptor.forClass(RedisScript.class);
+        when(redisTemplate.execute(script.capture(),
+                eq(List.of("rt:" + HASH, "rt", "rt:family:10", "rt:revoked:10")),
+                eq("10"), eq(HASH), eq("120000")))
+                .thenReturn("10");
+
+        // when
+        Long studentId = store.findStudentId("rt");
 
+        // then: 패밀리/전체 폐기 표시 키도 KEYS 로만 접근
+        assertThat(studentId).isEqualTo(10L);
+        String lua = script.getValue().getScriptAsString();
+        assertThat(lua).contains("redis.call('EXISTS', KEYS[4])");
+        assertThat(lua).contains("redis.call('SET', KEYS[1], ARGV[1], 'PX', ttl)");
+        assertThat(lua).contains("redis.call('ZADD', KEYS[3], now + ttl, ARGV[2])");
+        assertThat(lua).contains("redis.call('DEL', KEYS[2])");
+        assertThat(lua).doesNotContain("ARGV[1] ..").doesNotContain("ARGV[4]");
+    }
+
+    @Test
+    void validate_returnsFalse_whenMissing() {
+        assertThat(store.findStudentId("rt")).isNull();
         assertThat(store.validate("rt")).isFalse();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void remove_deletesHashedAndLegacyKey_andFamilyMember() {
+        store.remove("rt", 10L);
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("rt:" + HASH, "rt", "rt:family:10")), eq(HASH));
+    }
+
+    @Test
+    void revokeAll_runsOneScriptOnFamilyKey_marksLegacyTokensRevoked_andReturnsCount() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("rt:family:10", "rt:revoked:10")),
+                eq("rt:"), eq("120000")))
+                .thenReturn(3L);
+
+        assertThat(store.revokeAll(10L)).isEqualTo(3L);
     }
 
     @Test
-    void remove_deletesKey() {
-        store.remove("rt");
-        verify(redisTemplate).delete("rt");
+    void revokeAll_returnsZero_whenNoFamily() {
+        assertThat(store.revokeAll(10L)).isZero();
     }
 }
@@ -0,0 +1,63 @@
+package com.example.gradu.global.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final JwtTokenProviderTest.MutableClock clock = new JwtTokenProviderTest.MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    @Test
+    void put_evictsLeastRecentlyUsed_whenFull() {
+        // given
+        var cache = new VerifiedTokenCache(2, clock);
+        var exp = clock.instant().plusSeconds(60);
+        cache.put("a", new VerifiedToken(1L, "j1", exp, VerifiedToken.TokenType.ACCESS));
+        cache.put("b", new VerifiedToken(2L, "j2", exp, VerifiedToken.TokenType.ACCESS));
+
+        // when: a 를 최근에 사용 → c 추가 시 b 가 밀려남
+        cache.get("a");
+        cache.put("c", new VerifiedToken(3L, "j3", exp, VerifiedToken.TokenType.ACCESS));
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    void put_ignoresRefreshTokens() {
+        var cache = new VerifiedTokenCache(10, clock);
+
+        cache.put("r", new VerifiedToken(1L, null, clock.instant().plusSeconds(60), VerifiedToken.TokenType.REFRESH));
+
+        assertThat(cache.get("r")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_dropsExpiredEntry() {
+        var cache = new VerifiedTokenCache(10, clock);
+        cache.put("a", new VerifiedToken(1L, "j1", clock.instant().plusSeconds(30), VerifiedToken.TokenType.ACCESS));
+
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void key_isStableHash_notTheTokenItself() {
+        String key = VerifiedTokenCache.key("header.payload.signature");
+
+        assertThat(key).hasSize(64).isEqualTo(VerifiedTokenCache.key("header.payload.signature"));
+        assertThat(key).doesNotContain("payload");
+        assertThat(new VerifiedTokenCache(0, Clock.systemUTC()).enabled()).isFalse();
+    }
+}
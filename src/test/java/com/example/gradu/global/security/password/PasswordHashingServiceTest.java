@@ -0,0 +1,115 @@
+package com.example.gradu.global.security.password;
+
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.auth.AuthException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private final List<PasswordHashingService> services = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(PasswordHashingService::shutdown);
+    }
+
+    private PasswordHashingService service(int strength, int threads, int queue) {
+        var props = new PasswordHashingProperties();
+        props.setThreads(threads);
+        props.setQueueCapacity(queue);
+        props.setMaxWait(Duration.ofSeconds(5));
+        var s = new PasswordHashingService(props, new SimpleMeterRegistry(), strength);
+        services.add(s);
+        return s;
+    }
+
+    @Test
+    void encode_thenVerify_matchesWithoutRehash() {
+        var service = service(4, 1, 4);
+
+        String hash = service.encode("pw");
+
+        assertThat(hash).startsWith("{bcrypt}$2a$04$");
+        assertThat(service.verify("pw", hash)).isEqualTo(new PasswordHashingService.Verification(true, null));
+        assertThat(service.matches("wrong", hash)).isFalse();
+        assertThat(service.matches("pw", null)).isFalse();
+    }
+
+    @Test
+    void verify_legacyUnprefixedHash_matchesAndReturnsNewHash() {
+        // given: 기존 BCryptPasswordEncoder 로 저장된 해시 (접두사 없음)
+        var service = service(5, 1, 4);
+        String legacy = new BCryptPasswordEncoder(4).encode("pw");
+
+        // when
+        var result = service.verify("pw", legacy);
+
+        // then: 일치 + 현재 설정의 새 해시
+        assertThat(result.matches()).isTrue();
+        assertThat(result.rehashed()).startsWith("{bcrypt}$2a$05$");
+        assertThat(service.matches("pw", result.rehashed())).isTrue();
+    }
+
+    @Test
+    void verify_lowerCostHash_isUpgradedOnlyWhenPasswordMatches() {
+        var old = service(4, 1, 4);
+        var current = service(5, 1, 4);
+        String hash = old.encode("pw");
+
+        assertThat(current.verify("pw", hash).rehashed()).startsWith("{bcrypt}$2a$05$");
+        assertThat(current.verify("wrong", hash)).isEqualTo(PasswordHashingService.Verification.mismatch());
+    }
+
+    @Test
+    void encode_rejectsWithAuthBusy_whenPoolAndQueueAreFull() throws Exception {
+        // given: 스레드 1개, 대기열 1칸을 느린 해시로 채움
+        var service = service(12, 1, 1);
+        var pool = Executors.newFixedThreadPool(2);
+        var started = new CountDownLatch(2);
+        try {
+            for (int i = 0; i < 2; i++) {
+                CompletableFuture.runAsync(() -> {
+                    started.countDown();
+                    service.encode("pw");
+                }, pool);
+            }
+            started.await();
+            Thread.sleep(50);
+
+            // when & then
+            assertThatThrownBy(() -> service.encode("pw"))
+                    .isInstanceOf(AuthException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.AUTH_BUSY);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void calibrate_picksHighestCostUnderTarget_withinBounds() {
+        // given: cost 10 = 20ms, 이후 cost 마다 두 배
+        var props = new PasswordHashingProperties();
+        props.setTargetHashTime(Duration.ofMillis(100));
+        props.setMinStrength(10);
+        props.setMaxStrength(14);
+
+        // when & then: 20 → 40 → 80 (160 은 목표 초과)
+        assertThat(PasswordHashingService.calibrate(props, s -> (20_000_000L << (s - 10)))).isEqualTo(12);
+        // 아무리 빨라도 max, 아무리 느려도 min
+        assertThat(PasswordHashingService.calibrate(props, s -> 1L)).isEqualTo(14);
+        assertThat(PasswordHashingService.calibrate(props, s -> 1_000_000_000L)).isEqualTo(10);
+    }
+}
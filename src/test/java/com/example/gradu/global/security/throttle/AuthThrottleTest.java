@@ -0,0 +1,174 @@
+package com.example.gradu.global.security.throttle;
+
+import com.example.gradu.global.crypto.Sha256;
+import com.example.gradu.global.exception.ErrorCode;
+import com.example.gradu.global.exception.ratelimit.RateLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuthThrottleTest {
+
+    StringRedisTemplate redisTemplate;
+    SimpleMeterRegistry registry;
+    AuthThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        registry = new SimpleMeterRegistry();
+        throttle = new AuthThrottle(redisTemplate, new AuthThrottleProperties(), registry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void check_allowed_runsOneScriptOverEmailAndIpKeys() {
+        // given
+        Object[][] args = new Object[1][];
+        doAnswer(inv -> {
+            args[0] = inv.getArguments();
+            return 0L;
+        }).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        // when
+        throttle.check(AuthThrottle.Action.LOGIN, " A@Handong.ac.kr ", "10.0.0.7");
+
+        // then: 이메일은 정규화 후 해시, IP 는 그대로
+        assertThat(args[0][1]).isEqualTo(List.of(
+                "throttle:login:email:" + Sha256.hash("a@handong.ac.kr"),
+                "throttle:login:ip:10.0.0.7"));
+        // window, baseDelay, lockout, maxLockout (ms) + 이메일(free, limit) + IP(limit, limit)
+        assertThat(List.of(args[0]).subList(2, args[0].length)).containsExactly(
+                "900000", "1000", "300000", "3600000", "5", "10", "100", "100");
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void check_concurrentBurst_isBoundedByLimit_becauseAttemptIsCountedBeforeHashing() throws Exception {
+        // given: 스크립트처럼 확인 + 증가를 원자적으로 하는 Redis (이메일 한도 10)
+        AtomicInteger counted = new AtomicInteger();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(inv -> {
+            synchronized (counted) {
+                if (counted.get() >= 10) return 300_000L;
+                counted.incrementAndGet();
+                return 0L;
+            }
+        });
+
+        // when: 같은 이메일로 50개가 동시에 (해시 결과가 나오기 전)
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger passed = new AtomicInteger();
+        AtomicInteger throttled = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        throttle.check(AuthThrottle.Action.LOGIN, "a@handong.ac.kr", "10.0.0.7");
+                        passed.incrementAndGet();
+                    } catch (RateLimitException e) {
+                        throttled.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // then: 결과를 기다리지 않고 check 에서 센 만큼만 통과
+        assertThat(passed.get()).isEqualTo(10);
+        assertThat(throttled.get()).isEqualTo(40);
+        verify(redisTemplate, times(50)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void succeeded_clearsEmailStrikes_andGivesBackIpSlot() {
+        // when
+        throttle.succeeded(AuthThrottle.Action.LOGIN, " A@Handong.ac.kr ", "10.0.0.7");
+
+        // then: 첫 키(이메일)는 통째로 지우고 IP 는 1 되돌림
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(
+                "throttle:login:email:" + Sha256.hash("a@handong.ac.kr"),
+                "throttle:login:ip:10.0.0.7")), eq("1"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cancel_givesBackBothSlots_withoutClearingStrikes() {
+        // when
+        throttle.cancel(AuthThrottle.Action.LOGIN, "a@handong.ac.kr", "10.0.0.7");
+        throttle.succeeded(AuthThrottle.Action.LOGIN, null, "10.0.0.7");
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(
+                "throttle:login:email:" + Sha256.hash("a@handong.ac.kr"),
+                "throttle:login:ip:10.0.0.7")), eq("0"));
+        // 이메일이 없으면 첫 키가 IP 이므로 지우지 않고 되돌리기만
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("throttle:login:ip:10.0.0.7")), eq("0"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void check_blocked_throwsRateLimit_withRetryAfterRoundedUp() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1_500L);
+
+        // when & then
+        assertThatThrownBy(() -> throttle.check(AuthThrottle.Action.OTP_SEND, "a@handong.ac.kr", "10.0.0.7"))
+                .isInstanceOfSatisfying(RateLimitException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EMAIL_OTP_TOO_MANY);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(2);
+                });
+        assertThat(registry.counter("auth.throttled", "action", "otp").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void check_failsOpen_whenRedisIsDown() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatCode(() -> throttle.check(AuthThrottle.Action.LOGIN, "a@handong.ac.kr", "10.0.0.7"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void check_withoutEmailOrIp_skipsRedis() {
+        throttle.check(AuthThrottle.Action.LOGIN, " ", null);
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void clientIp_prefersRealIpHeader_fromProxy() {
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        req.setRemoteAddr("172.18.0.2");
+        assertThat(ClientIp.resolve(req)).isEqualTo("172.18.0.2");
+
+        req.addHeader(ClientIp.HEADER, " 203.0.113.9 ");
+        assertThat(ClientIp.resolve(req)).isEqualTo("203.0.113.9");
+    }
+}
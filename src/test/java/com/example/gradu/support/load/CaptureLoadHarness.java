@@ -0,0 +1,223 @@
+package com.example.gradu.support.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캡처 API 부하 테스트 (실행 중인 앱 대상, 보통 FakeOpenAiServer 와 함께).
+ *
+ * 동시 사용자 concurrency 명이 총 requests 건을 보내고 처리량, p50/p95/p99, 상태 코드 분포,
+ * Tomcat 스레드 풀 포화도(tomcat.threads.busy / tomcat.threads.config.max 최대치)를 출력한다.
+ *
+ *   ./gradlew fakeOpenAi -Pargs="--latency-ms=800 --latency-p99-ms=4000"
+ *   ./gradlew bootRun --args="--openai.api.url=http://localhost:8089/v1/chat/completions"
+ *   ./gradlew captureLoadTest -Pargs="--token=<access token> --concurrency=32 --requests=300"
+ *
+ * 옵션: --base-url(기본 http://localhost:8080) --path(기본 /api/v1/ai/course-capture)
+ *       --images=a.png,b.png (없으면 합성 캡처 이미지 2장) --timeout-s=120
+ */
+public class CaptureLoadHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String BOUNDARY = "----gradu-load-" + UUID.randomUUID();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parseArgs(args);
+        String baseUrl = opts.getOrDefault("base-url", "http://localhost:8080");
+        String path = opts.getOrDefault("path", "/api/v1/ai/course-capture");
+        String token = opts.get("token");
+        int concurrency = Integer.parseInt(opts.getOrDefault("concurrency", "16"));
+        int total = Integer.parseInt(opts.getOrDefault("requests", "200"));
+        Duration timeout = Duration.ofSeconds(Long.parseLong(opts.getOrDefault("timeout-s", "120")));
+
+        byte[] body = multipartBody(loadImages(opts.get("images")));
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        var tomcat = new TomcatSampler(http, baseUrl, token);
+        tomcat.start();
+
+        long[] latencies = new long[total];
+        Map<String, AtomicInteger> statuses = new ConcurrentSkipListMap<>();
+        AtomicInteger next = new AtomicInteger();
+        Semaphore users = new Semaphore(concurrency);
+
+        System.out.printf("부하 시작: %s%s, 동시 %d, 총 %d건, 본문 %dB%n", baseUrl, path, concurrency, total, body.length);
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                users.acquire();
+                executor.execute(() -> {
+                    int idx = next.getAndIncrement();
+                    long t0 = System.nanoTime();
+                    String status;
+                    try {
+                        var request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                .timeout(timeout)
+                                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY);
+                        if (token != null) request.header("Authorization", "Bearer " + token);
+                        var response = http.send(request.POST(HttpRequest.BodyPublishers.ofByteArray(body)).build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        status = String.valueOf(response.statusCode());
+                    } catch (IOException e) {
+                        status = e.getClass().getSimpleName();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        status = "interrupted";
+                    } finally {
+                        users.release();
+                    }
+                    latencies[idx] = System.nanoTime() - t0;
+                    statuses.computeIfAbsent(status, k -> new AtomicInteger()).incrementAndGet();
+                });
+            }
+        }
+        double elapsedSec = (System.nanoTime() - started) / 1e9;
+        tomcat.stop();
+
+        Arrays.sort(latencies);
+        System.out.printf("처리량: %.2f req/s (%.1fs)%n", total / elapsedSec, elapsedSec);
+        System.out.printf("지연: p50=%dms p95=%dms p99=%dms max=%dms%n",
+                millis(percentile(latencies, 50)), millis(percentile(latencies, 95)),
+                millis(percentile(latencies, 99)), millis(latencies[total - 1]));
+        System.out.println("상태: " + statuses);
+        System.out.println(tomcat.summary());
+    }
+
+    static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static List<byte[]> loadImages(String paths) throws IOException {
+        List<byte[]> images = new ArrayList<>();
+        if (paths != null && !paths.isBlank()) {
+            for (String p : paths.split(",")) images.add(Files.readAllBytes(Path.of(p.trim())));
+            return images;
+        }
+        for (int i = 0; i < 2; i++) images.add(syntheticCapture(i));
+        return images;
+    }
+
+    // 표 모양 합성 캡처 (파란 제목줄 + 행 줄무늬)
+    private static byte[] syntheticCapture(int seed) throws IOException {
+        var img = new BufferedImage(1280, 720, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 1280, 720);
+        g.setColor(new Color(40, 90, 200));
+        g.fillRect(40, 40, 1200, 40);
+        Random random = new Random(seed);
+        for (int row = 0; row < 20; row++) {
+            g.setColor(row % 2 == 0 ? new Color(245, 245, 245) : Color.WHITE);
+            g.fillRect(40, 90 + row * 30, 1200, 30);
+            g.setColor(Color.DARK_GRAY);
+            for (int col = 0; col < 8; col++) g.fillRect(60 + col * 150, 100 + row * 30, 40 + random.nextInt(80), 10);
+        }
+        g.dispose();
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] multipartBody(List<byte[]> images) throws IOException {
+        var out = new ByteArrayOutputStream();
+        for (int i = 0; i < images.size(); i++) {
+            out.write(("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"images\"; filename=\"capture" + i + ".png\"\r\n"
+                    + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+            out.write(images.get(i));
+            out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+        out.write(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) continue;
+            int eq = arg.indexOf('=');
+            if (eq < 0) opts.put(arg.substring(2), "true");
+            else opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return opts;
+    }
+
+    /** actuator 의 Tomcat 스레드 지표를 주기적으로 읽어 최대 사용량을 기록 (server.tomcat.mbeanregistry.enabled 필요) */
+    private static final class TomcatSampler {
+        private final HttpClient http;
+        private final String baseUrl;
+        private final String token;
+        private final AtomicLong maxBusy = new AtomicLong(-1);
+        private volatile long configMax = -1;
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        TomcatSampler(HttpClient http, String baseUrl, String token) {
+            this.http = http;
+            this.baseUrl = baseUrl;
+            this.token = token;
+        }
+
+        void start() {
+            configMax = (long) read("tomcat.threads.config.max");
+            scheduler.scheduleAtFixedRate(() -> {
+                double busy = read("tomcat.threads.busy");
+                if (busy >= 0) maxBusy.accumulateAndGet((long) busy, Math::max);
+            }, 0, 500, TimeUnit.MILLISECONDS);
+        }
+
+        void stop() {
+            scheduler.shutdownNow();
+        }
+
+        String summary() {
+            if (maxBusy.get() < 0 || configMax <= 0) return "Tomcat 스레드: 지표 없음 (actuator/mbeanregistry 확인)";
+            return String.format("Tomcat 스레드: 최대 사용 %d / %d (%.0f%%)",
+                    maxBusy.get(), configMax, 100.0 * maxBusy.get() / configMax);
+        }
+
+        private double read(String metric) {
+            try {
+                var request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + metric))
+                        .timeout(Duration.ofSeconds(2));
+                if (token != null) request.header("Authorization", "Bearer " + token);
+                var response = http.send(request.GET().build(), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) return -1;
+                JsonNode value = MAPPER.readTree(response.body()).path("measurements").path(0).path("value");
+                return value.isNumber() ? value.asDouble() : -1;
+            } catch (IOException e) {
+                return -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.gradu.support.openai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpenAI chat completions 대역 서버 (JDK HttpServer, 외부 의존성 없음).
+ *
+ * OpenAiClient 가 부르는 POST /v1/chat/completions 만 흉내낸다.
+ * - 응답 지연: 로그정규분포 (중앙값 latencyMs, 99분위 latencyP99Ms)
+ * - errorRate 확률로 503, rateLimitRate 확률로 429 (Retry-After: 1), 처음 failFirst 건은 무조건 503
+ * - 요청 본문에 "stream":true 가 있으면 SSE 조각으로 나눠 보낸다 (chunkDelayMs 간격)
+ *
+ * 테스트: new FakeOpenAiServer(settings).start() → url()
+ * 단독 실행: ./gradlew fakeOpenAi -Pargs="--port=8089 --latency-ms=800 --latency-p99-ms=4000 --error-rate=0.02"
+ *          앱은 --openai.api.url=http://localhost:8089/v1/chat/completions 로 띄운다.
+ */
+public class FakeOpenAiServer implements AutoCloseable {
+
+    public static final String PATH = "/v1/chat/completions";
+
+    public static final String DEFAULT_TRANSCRIPT = """
+            ```json
+            [
+              {"name":"공동체리더십훈련1","credit":0.5,"designedCredit":0,"category":"PERSONALITY_LEADERSHIP","grade":"P","isEnglish":false,"academicYear":2019,"term":"1"},
+              {"name":"자료구조","credit":3,"designedCredit":0,"category":"MAJOR","grade":"A+","isEnglish":false,"academicYear":2020,"term":"1"},
+              {"name":"Calculus 1","credit":3,"designedCredit":0,"category":"BSM","grade":"B+","isEnglish":true,"academicYear":2019,"term":"1"},
+              {"name":"운영체제","credit":3,"designedCredit":1,"category":"MAJOR","grade":"A0","isEnglish":false,"academicYear":2021,"term":"2"}
+            ]
+            ```""";
+
+    public record Settings(
+            long latencyMs,
+            long latencyP99Ms,
+            double errorRate,
+            double rateLimitRate,
+            int failFirst,
+            long chunkDelayMs,
+            int chunkSize,
+            String transcript
+    ) {
+        public static Settings defaults() {
+            return new Settings(0, 0, 0, 0, 0, 0, 24, DEFAULT_TRANSCRIPT);
+        }
+
+        public Settings withLatency(long medianMs, long p99Ms) {
+            return new Settings(medianMs, p99Ms, errorRate, rateLimitRate, failFirst, chunkDelayMs, chunkSize, transcript);
+        }
+
+        public Settings withErrors(double errorRate, double rateLimitRate) {
+            return new Settings(latencyMs, latencyP99Ms, errorRate, rateLimitRate, failFirst, chunkDelayMs, chunkSize, transcript);
+        }
+
+        public Settings withFailFirst(int failFirst) {
+            return new Settings(latencyMs, latencyP99Ms, errorRate, rateLimitRate, failFirst, chunkDelayMs, chunkSize, transcript);
+        }
+
+        public Settings withChunks(long chunkDelayMs, int chunkSize) {
+            return new Settings(latencyMs, latencyP99Ms, errorRate, rateLimitRate, failFirst, chunkDelayMs, chunkSize, transcript);
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final double Z_99 = 2.326;
+
+    private final Settings settings;
+    private final int port;
+    private final Random random = new Random();
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public FakeOpenAiServer(Settings settings) {
+        this(settings, 0);
+    }
+
+    public FakeOpenAiServer(Settings settings, int port) {
+        this.settings = settings;
+        this.port = port;
+    }
+
+    public FakeOpenAiServer start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext(PATH, this::handle);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.start();
+        return this;
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + PATH;
+    }
+
+    public int requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) server.stop(0);
+        if (executor != null) executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            int n = requests.incrementAndGet();
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            boolean stream = readStreamFlag(exchange.getRequestBody());
+
+            sleep(sampleLatency());
+
+            double roll = nextDouble();
+            if (n <= settings.failFirst() || roll < settings.errorRate()) {
+                sendJson(exchange, 503, "{\"error\":{\"message\":\"overloaded\"}}");
+                return;
+            }
+            if (roll < settings.errorRate() + settings.rateLimitRate()) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendJson(exchange, 429, "{\"error\":{\"message\":\"rate limited\"}}");
+                return;
+            }
+
+            if (stream) sendStream(exchange);
+            else sendJson(exchange, 200, completion(settings.transcript()));
+        }
+    }
+
+    // 본문은 끝까지 읽어야 클라이언트가 보내기를 마친다. 앞부분만 보고 stream 여부 판단
+    private static boolean readStreamFlag(InputStream body) throws IOException {
+        byte[] head = body.readNBytes(256);
+        body.transferTo(OutputStream.nullOutputStream());
+        return new String(head, StandardCharsets.UTF_8).contains("\"stream\":true");
+    }
+
+    private void sendStream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+
+        String text = settings.transcript();
+        int size = Math.max(1, settings.chunkSize());
+        for (int i = 0; i < text.length(); i += size) {
+            String piece = text.substring(i, Math.min(text.length(), i + size));
+            String chunk = MAPPER.writeValueAsString(Map.of("choices",
+                    new Object[]{Map.of("index", 0, "delta", Map.of("content", piece))}));
+            out.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            sleep(settings.chunkDelayMs());
+        }
+        out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static String completion(String content) throws IOException {
+        return MAPPER.writeValueAsString(Map.of(
+                "id", "chatcmpl-fake",
+                "object", "chat.completion",
+                "choices", new Object[]{Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", content),
+                        "finish_reason", "stop")}));
+    }
+
+    // 로그정규분포: 중앙값 m, 99분위 q → sigma = ln(q/m) / z99
+    private long sampleLatency() {
+        long m = settings.latencyMs();
+        long q = settings.latencyP99Ms();
+        if (m <= 0) return 0;
+        if (q <= m) return m;
+        double sigma = Math.log((double) q / m) / Z_99;
+        synchronized (random) {
+            return Math.round(m * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private static void sleep(long ms) {
+        if (ms <= 0) return;
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parseArgs(args);
+        String transcript = opts.containsKey("transcript")
+                ? Files.readString(Path.of(opts.get("transcript")))
+                : DEFAULT_TRANSCRIPT;
+        var settings = new Settings(
+                Long.parseLong(opts.getOrDefault("latency-ms", "800")),
+                Long.parseLong(opts.getOrDefault("latency-p99-ms", "4000")),
+                Double.parseDouble(opts.getOrDefault("error-rate", "0")),
+                Double.parseDouble(opts.getOrDefault("rate-limit-rate", "0")),
+                0,
+                Long.parseLong(opts.getOrDefault("chunk-delay-ms", "30")),
+                Integer.parseInt(opts.getOrDefault("chunk-size", "24")),
+                transcript);
+
+        var server = new FakeOpenAiServer(settings, Integer.parseInt(opts.getOrDefault("port", "8089"))).start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Fake OpenAI listening on " + server.url() + " " + settings);
+        Thread.currentThread().join();
+    }
+
+    static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) continue;
+            int eq = arg.indexOf('=');
+            if (eq < 0) opts.put(arg.substring(2), "true");
+            else opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return opts;
+    }
+}